@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 
 /**
  * Specifies the overall AasEnvironment serialization API
@@ -51,4 +52,48 @@ public interface AasEnvironmentSerialization {
 	public String createXMLAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws SerializationException;
 
 	public byte[] createAASXAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws SerializationException, IOException;
+
+	/**
+	 * Prepares a JSON serialization from given aas and submodels, which is
+	 * written element by element without holding the environment in memory.
+	 * The existence of the aas and submodels is verified before anything is
+	 * written.
+	 * 
+	 * @param aasIds
+	 * @param submodelIds
+	 * @param includeConceptDescriptions
+	 * @return the writer of the serialization
+	 * @throws ElementDoesNotExistException
+	 *             if one of the aas or submodels does not exist
+	 */
+	public AasEnvironmentWriter createStreamedJSONAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException;
+
+	/**
+	 * Prepares an XML serialization from given aas and submodels, which is
+	 * written element by element without holding the environment in memory.
+	 * The existence of the aas and submodels is verified before anything is
+	 * written.
+	 * 
+	 * @param aasIds
+	 * @param submodelIds
+	 * @param includeConceptDescriptions
+	 * @return the writer of the serialization
+	 * @throws ElementDoesNotExistException
+	 *             if one of the aas or submodels does not exist
+	 */
+	public AasEnvironmentWriter createStreamedXMLAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException;
+
+	/**
+	 * Prepares an AASX serialization from given aas and submodels, which is
+	 * written directly to the OutputStream. The existence of the aas and
+	 * submodels is verified before anything is written.
+	 * 
+	 * @param aasIds
+	 * @param submodelIds
+	 * @param includeConceptDescriptions
+	 * @return the writer of the serialization
+	 * @throws ElementDoesNotExistException
+	 *             if one of the aas or submodels does not exist
+	 */
+	public AasEnvironmentWriter createStreamedAASXAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException;
 }
@@ -26,9 +26,11 @@ package org.eclipse.digitaltwin.basyx.aasenvironment.base;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.validation.Valid;
@@ -36,14 +38,13 @@ import javax.validation.Valid;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.Serializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
 import org.eclipse.digitaltwin.basyx.aasenvironment.AasEnvironmentSerialization;
+import org.eclipse.digitaltwin.basyx.aasenvironment.AasEnvironmentWriter;
 import org.eclipse.digitaltwin.basyx.aasenvironment.ConceptDescriptionIdCollector;
 import org.eclipse.digitaltwin.basyx.aasenvironment.MetamodelCloneCreator;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
@@ -66,8 +67,8 @@ public class DefaultAASEnvironmentSerialization implements AasEnvironmentSeriali
 	private AasRepository aasRepository;
 	private SubmodelRepository submodelRepository;
 	private ConceptDescriptionRepository conceptDescriptionRepository;
-	private Serializer jsonSerializer = new JsonSerializer();
-	private Serializer xmlSerializer = new XmlSerializer();
+	private Serializer jsonSerializer = new StreamingJsonSerializer();
+	private Serializer xmlSerializer = new StreamingXmlSerializer();
 	private AASXSerializer aasxSerializer = new AASXSerializer();
 	private MetamodelCloneCreator cloneCreator = new MetamodelCloneCreator();
 	
@@ -99,6 +100,89 @@ public class DefaultAASEnvironmentSerialization implements AasEnvironmentSeriali
 		return outputStream.toByteArray();
 	}
 
+	@Override
+	public AasEnvironmentWriter createStreamedJSONAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException {
+		Environment aasEnvironment = createFetchingEnvironment(aasIds, submodelIds, includeConceptDescriptions, false);
+
+		return out -> jsonSerializer.write(out, aasEnvironment);
+	}
+
+	@Override
+	public AasEnvironmentWriter createStreamedXMLAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException {
+		Environment aasEnvironment = createFetchingEnvironment(aasIds, submodelIds, includeConceptDescriptions, true);
+
+		return out -> xmlSerializer.write(out, aasEnvironment);
+	}
+
+	/**
+	 * The AASXSerializer rewrites the paths of File elements and creates the
+	 * complete package in memory, thus the environment is still retrieved and
+	 * cloned upfront. Only the copy of the created package is saved.
+	 */
+	@Override
+	public AasEnvironmentWriter createStreamedAASXAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException {
+		Environment aasEnvironment = createEnvironment(aasIds, submodelIds, includeConceptDescriptions);
+
+		return out -> aasxSerializer.write(aasEnvironment, null, out);
+	}
+
+	/**
+	 * Creates an environment whose elements are fetched from the repositories
+	 * only while it is serialized, i.e., one at a time. Beforehand, only the
+	 * existence of the shells and submodels is verified, so that missing ones
+	 * are reported before the response is committed. If concept descriptions are
+	 * included, their ids are collected from the shells and submodels, which are
+	 * fetched one at a time for this as well. Elements that are deleted
+	 * meanwhile fail the serialization with an {@link ElementDoesNotExistException}.
+	 * 
+	 * The XmlSerializer sets the empty lists of the serialized elements to null
+	 * before writing them. Thus, each element is cloned while fetching it if
+	 * prepareForXml is set, which keeps the elements of the repositories
+	 * unmodified.
+	 */
+	private Environment createFetchingEnvironment(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions, boolean prepareForXml) {
+		aasIds.forEach(aasRepository::getAssetInformation);
+		submodelIds.forEach(submodelRepository::getSubmodelByIdMetadata);
+
+		Function<String, AssetAdministrationShell> shellFetcher = aasRepository::getAas;
+		Function<String, Submodel> submodelFetcher = submodelRepository::getSubmodel;
+		if (prepareForXml) {
+			shellFetcher = shellFetcher.andThen(shell -> cloneCreator.cloneAssetAdministrationShells(List.of(shell)).get(0));
+			submodelFetcher = submodelFetcher.andThen(submodel -> cloneCreator.cloneSubmodels(List.of(submodel)).get(0));
+		}
+
+		Environment aasEnvironment = new DefaultEnvironment();
+		aasEnvironment.setAssetAdministrationShells(new FetchingList<>(aasIds, shellFetcher));
+		aasEnvironment.setSubmodels(new FetchingList<>(submodelIds, submodelFetcher));
+
+		if (includeConceptDescriptions)
+			aasEnvironment.setConceptDescriptions(new FetchingList<>(getExistingConceptDescriptionIds(aasIds, submodelIds), createConceptDescriptionFetcher(prepareForXml)));
+
+		return aasEnvironment;
+	}
+
+	private List<String> getExistingConceptDescriptionIds(List<String> aasIds, List<String> submodelIds) {
+		if (conceptDescriptionRepository == null)
+			throw new NullPointerException("The parameter includeConceptDescriptions is set to true but ConceptDescriptionRepository is null");
+
+		Set<String> cdIds = new LinkedHashSet<>();
+		for (String aasId : aasIds)
+			cdIds.addAll(new ConceptDescriptionIdCollector(new DefaultEnvironment.Builder().assetAdministrationShells(aasRepository.getAas(aasId)).build()).collect());
+
+		for (String submodelId : submodelIds)
+			cdIds.addAll(new ConceptDescriptionIdCollector(new DefaultEnvironment.Builder().submodels(submodelRepository.getSubmodel(submodelId)).build()).collect());
+
+		return cdIds.stream().filter(cdId -> fetchConceptDescriptionFromRepo(cdId) != null).collect(Collectors.toList());
+	}
+
+	private Function<String, ConceptDescription> createConceptDescriptionFetcher(boolean prepareForXml) {
+		Function<String, ConceptDescription> cdFetcher = conceptDescriptionRepository::getConceptDescription;
+		if (!prepareForXml)
+			return cdFetcher;
+
+		return cdFetcher.andThen(cd -> cloneCreator.cloneConceptDescriptions(List.of(cd)).get(0));
+	}
+
 	private Environment createEnvironment(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) {
 		List<AssetAdministrationShell> shells = aasIds.stream().map(aasRepository::getAas).collect(Collectors.toList());
 		List<Submodel> submodels = submodelIds.stream().map(submodelRepository::getSubmodel).collect(Collectors.toList());
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasenvironment.base;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.AasXmlNamespaceContext;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.serialization.AssetAdministrationShellEnvironmentSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+
+/**
+ * Writes the same XML as the {@link AssetAdministrationShellEnvironmentSerializer},
+ * but iterates the lists of the Environment only once. The empty lists of
+ * each element are set to null right before it is written instead of in a
+ * separate pass beforehand. Thus, elements of lists that fetch them on access
+ * are fetched only once.
+ * 
+ * Like the original, the serializer modifies the written elements.
+ * 
+ * @author schnicke
+ *
+ */
+class SinglePassEnvironmentXmlSerializer extends JsonSerializer<Environment> {
+	private static final String SCHEMA_LOCATION_ATTRIBUTE = "xsi:schemaLocation";
+	private static final String SCHEMA_LOCATION = AasXmlNamespaceContext.AAS_URI + " AAS.xsd";
+	private static final QName ENVIRONMENT_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "environment");
+	private static final QName SHELLS_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assetAdministrationShells");
+	private static final QName SHELL_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "assetAdministrationShell");
+	private static final QName SUBMODELS_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "submodels");
+	private static final QName SUBMODEL_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "submodel");
+	private static final QName CONCEPT_DESCRIPTIONS_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "conceptDescriptions");
+	private static final QName CONCEPT_DESCRIPTION_TAGNAME = new QName(AasXmlNamespaceContext.AAS_URI, "conceptDescription");
+
+	private final Map<String, String> namespacePrefixes;
+
+	/**
+	 * @param namespacePrefixes
+	 *            the prefixes to use, the preferred ones of the
+	 *            {@link AasXmlNamespaceContext} if null
+	 */
+	public SinglePassEnvironmentXmlSerializer(Map<String, String> namespacePrefixes) {
+		this.namespacePrefixes = namespacePrefixes == null ? AasXmlNamespaceContext.PREFERRED_PREFIX_CONTEXT : namespacePrefixes;
+	}
+
+	@Override
+	public void serialize(Environment environment, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		ToXmlGenerator xmlGenerator = (ToXmlGenerator) gen;
+		XMLStreamWriter staxWriter = xmlGenerator.getStaxWriter();
+
+		try {
+			for (Map.Entry<String, String> prefix : namespacePrefixes.entrySet())
+				staxWriter.setPrefix(prefix.getKey(), prefix.getValue());
+
+			xmlGenerator.setNextName(ENVIRONMENT_TAGNAME);
+			xmlGenerator.writeStartObject();
+			for (Map.Entry<String, String> prefix : namespacePrefixes.entrySet())
+				staxWriter.writeNamespace(prefix.getKey(), prefix.getValue());
+
+			staxWriter.writeAttribute(SCHEMA_LOCATION_ATTRIBUTE, SCHEMA_LOCATION);
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+
+		writeWrappedList(xmlGenerator, SHELLS_TAGNAME, SHELL_TAGNAME, environment.getAssetAdministrationShells());
+		writeWrappedList(xmlGenerator, SUBMODELS_TAGNAME, SUBMODEL_TAGNAME, environment.getSubmodels());
+		writeWrappedList(xmlGenerator, CONCEPT_DESCRIPTIONS_TAGNAME, CONCEPT_DESCRIPTION_TAGNAME, environment.getConceptDescriptions());
+
+		xmlGenerator.writeEndObject();
+	}
+
+	private void writeWrappedList(ToXmlGenerator xmlGenerator, QName wrapperName, QName elementName, List<?> elements) throws IOException {
+		if (elements == null || elements.isEmpty())
+			return;
+
+		xmlGenerator.writeFieldName(wrapperName.getLocalPart());
+		xmlGenerator.writeStartArray();
+		xmlGenerator.startWrappedValue(wrapperName, elementName);
+		for (Object element : elements) {
+			ReflectionHelper.setEmptyListsToNull(element);
+			xmlGenerator.writeObject(element);
+		}
+		xmlGenerator.finishWrappedValue(wrapperName, elementName);
+		xmlGenerator.writeEndArray();
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasenvironment.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * {@link XmlSerializer} that writes the Environment directly to the
+ * OutputStream instead of serializing it to a String first. The OutputStream is
+ * flushed, but not closed. The elements of the Environment are iterated only
+ * once, see {@link SinglePassEnvironmentXmlSerializer}.
+ * 
+ * @author schnicke
+ *
+ */
+class StreamingXmlSerializer extends XmlSerializer {
+
+	@Override
+	protected SimpleModule buildCustomSerializerModule() {
+		SimpleModule module = super.buildCustomSerializerModule();
+		module.addSerializer(Environment.class, new SinglePassEnvironmentXmlSerializer(namespacePrefixes));
+		return module;
+	}
+
+	@Override
+	public void write(OutputStream out, Charset charset, Environment environment) throws IOException, SerializationException {
+		Writer writer = new OutputStreamWriter(out, charset);
+		try {
+			mapper.writer()
+					.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+					.writeValue(writer, environment);
+		} catch (JsonProcessingException e) {
+			throw new SerializationException("serialization failed", e);
+		}
+		writer.flush();
+	}
+}
@@ -1,14 +1,21 @@
 package org.eclipse.digitaltwin.basyx.aasenvironment;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
@@ -34,6 +41,7 @@ import org.eclipse.digitaltwin.basyx.aasrepository.InMemoryAasRepository;
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.InMemoryConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelrepository.InMemorySubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
@@ -133,6 +141,88 @@ public class TestAASEnvironmentSerialization {
 		validateRepositoriesState();
 	}
 
+	@Test
+	public void testStreamedAASEnviromentSerializationWithJSON() throws SerializationException, IOException, DeserializationException {
+		boolean includeConceptDescription = true;
+
+		AasEnvironmentWriter writer = aasEnvironment.createStreamedJSONAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), includeConceptDescription);
+		validateJSON(writeToString(writer), includeConceptDescription);
+
+		validateRepositoriesState();
+	}
+
+	@Test
+	public void testStreamedAASEnviromentSerializationWithXML() throws SerializationException, IOException, DeserializationException {
+		boolean includeConceptDescription = true;
+
+		AasEnvironmentWriter writer = aasEnvironment.createStreamedXMLAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), includeConceptDescription);
+		validateXml(writeToString(writer), includeConceptDescription);
+
+		validateRepositoriesState();
+	}
+
+	@Test
+	public void testStreamedAASEnviromentSerializationWithAASX() throws SerializationException, IOException, InvalidFormatException, DeserializationException {
+		boolean includeConceptDescription = true;
+
+		AasEnvironmentWriter writer = aasEnvironment.createStreamedAASXAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), includeConceptDescription);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		writer.writeTo(outputStream);
+		checkAASX(new ByteArrayInputStream(outputStream.toByteArray()), includeConceptDescription);
+
+		validateRepositoriesState();
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void testStreamedAASEnviromentSerializationWithNonExistingSubmodel() {
+		aasEnvironment.createStreamedJSONAASEnvironmentSerialization(getShellIds(createDummyShells()), List.of("nonExisting"), true);
+	}
+
+	@Test
+	public void testStreamedAASEnviromentSerializationWithElementsDeletedBeforeWriting() {
+		AasEnvironmentWriter jsonWriter = aasEnvironment.createStreamedJSONAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true);
+		AasEnvironmentWriter xmlWriter = aasEnvironment.createStreamedXMLAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true);
+		getSubmodelIds(createDummySubmodels()).forEach(submodelRepository::deleteSubmodel);
+
+		assertFailsWithMissingElement(jsonWriter);
+		assertFailsWithMissingElement(xmlWriter);
+	}
+
+	@Test
+	public void testStreamedXMLAASEnviromentSerializationFetchesEachSubmodelOnce() throws SerializationException, IOException, DeserializationException {
+		Map<String, Integer> fetchCounts = new HashMap<>();
+		SubmodelRepository countingRepository = new InMemorySubmodelRepository(new InMemorySubmodelServiceFactory()) {
+			@Override
+			public Submodel getSubmodel(String id) {
+				fetchCounts.merge(id, 1, Integer::sum);
+				return super.getSubmodel(id);
+			}
+		};
+		createDummySubmodels().forEach(countingRepository::createSubmodel);
+		AasEnvironmentSerialization serialization = new DefaultAASEnvironmentSerialization(aasRepository, countingRepository, conceptDescriptionRepository);
+
+		AasEnvironmentWriter writer = serialization.createStreamedXMLAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), false);
+		assertTrue(fetchCounts.isEmpty());
+
+		validateXml(writeToString(writer), false);
+		assertEquals(Map.of(SUBMODEL_TECHNICAL_DATA_ID, 1, SUBMODEL_OPERATIONAL_DATA_ID, 1), fetchCounts);
+	}
+
+	private static void assertFailsWithMissingElement(AasEnvironmentWriter writer) {
+		SerializationException exception = assertThrows(SerializationException.class, () -> writeToString(writer));
+
+		Throwable cause = exception;
+		while (cause != null && !(cause instanceof ElementDoesNotExistException))
+			cause = cause.getCause();
+		assertNotNull(cause);
+	}
+
+	private static String writeToString(AasEnvironmentWriter writer) throws SerializationException, IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		writer.writeTo(outputStream);
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+
 	public static void validateJSON(String actual, boolean includeConceptDescription) throws DeserializationException {
 		Deserializer jsonDeserializer = new JsonDeserializer();
 		Environment aasEnvironment = jsonDeserializer.read(actual);
@@ -36,6 +36,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -66,7 +67,7 @@ public interface AASEnvironmentHTTPApi {
     @RequestMapping(value = "/serialization",
         produces = { "application/asset-administration-shell-package+xml", "application/json", "application/xml" }, 
         method = RequestMethod.GET)
-    ResponseEntity<Resource> generateSerializationByIds(@Parameter(in = ParameterIn.QUERY, description = "The Asset Administration Shells' unique ids (UTF8-BASE64-URL-encoded)" ,schema=@Schema()) @Valid @RequestParam(value = "aasIds", required = false) List<String> aasIds, @Parameter(in = ParameterIn.QUERY, description = "The Submodels' unique ids (UTF8-BASE64-URL-encoded)" ,schema=@Schema()) @Valid @RequestParam(value = "submodelIds", required = false) List<String> submodelIds, @Parameter(in = ParameterIn.QUERY, description = "Include Concept Descriptions?" ,schema=@Schema( defaultValue="true")) @Valid @RequestParam(value = "includeConceptDescriptions", required = false, defaultValue="true") Boolean includeConceptDescriptions);
+    ResponseEntity<StreamingResponseBody> generateSerializationByIds(@Parameter(in = ParameterIn.QUERY, description = "The Asset Administration Shells' unique ids (UTF8-BASE64-URL-encoded)" ,schema=@Schema()) @Valid @RequestParam(value = "aasIds", required = false) List<String> aasIds, @Parameter(in = ParameterIn.QUERY, description = "The Submodels' unique ids (UTF8-BASE64-URL-encoded)" ,schema=@Schema()) @Valid @RequestParam(value = "submodelIds", required = false) List<String> submodelIds, @Parameter(in = ParameterIn.QUERY, description = "Include Concept Descriptions?" ,schema=@Schema( defaultValue="true")) @Valid @RequestParam(value = "includeConceptDescriptions", required = false, defaultValue="true") Boolean includeConceptDescriptions);
 
 
 }
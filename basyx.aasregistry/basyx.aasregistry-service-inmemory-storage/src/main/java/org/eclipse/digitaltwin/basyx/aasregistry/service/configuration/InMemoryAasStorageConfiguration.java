@@ -26,8 +26,8 @@ package org.eclipse.digitaltwin.basyx.aasregistry.service.configuration;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.CursorEncodingRegistryStorage;
-import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage;
-import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ThreadSafeAasRegistryStorageDecorator;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ConcurrentInMemoryAasRegistryStorage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,8 +37,8 @@ public class InMemoryAasStorageConfiguration {
 
 	@Bean
 	@ConditionalOnProperty(prefix = "registry", name = "type", havingValue = "inMemory")
-	public AasRegistryStorage storage() {
-		return new ThreadSafeAasRegistryStorageDecorator(new CursorEncodingRegistryStorage(new InMemoryAasRegistryStorage()));
+	public AasRegistryStorage storage(@Value("${registry.search-index:true}") boolean searchIndexEnabled) {
+		return new CursorEncodingRegistryStorage(new ConcurrentInMemoryAasRegistryStorage(searchIndexEnabled));
 	}
 
 }
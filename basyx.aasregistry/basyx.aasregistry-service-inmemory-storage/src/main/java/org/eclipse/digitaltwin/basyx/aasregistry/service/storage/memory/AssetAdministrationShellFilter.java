@@ -40,6 +40,7 @@ import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequ
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.CompiledPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorCopies;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests.GroupedQueries;
@@ -63,21 +64,22 @@ public class AssetAdministrationShellFilter {
 			toReturn.addAll(descriptors);
 			return toReturn;
 		}
+		List<CompiledQuery> compiledQueries = new ArrayList<>(queries.size());
+		for (ShellDescriptorQuery eachQuery : queries) {
+			compiledQueries.add(new CompiledQuery(AasRegistryPathProcessor.compile(eachQuery.getPath()), SearchMatchers.createMatcher(eachQuery)));
+		}
 		for (AssetAdministrationShellDescriptor eachDescriptor : descriptors) {
-			if (rootPathElementMatchesValue(eachDescriptor, queries)) {
+			if (rootPathElementMatchesValue(eachDescriptor, compiledQueries)) {
 				toReturn.add(eachDescriptor);
 			}
 		}
 		return toReturn;
 	}
 
-	private boolean rootPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<ShellDescriptorQuery> queries) {
-		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(eachDescriptor);
-		for (ShellDescriptorQuery eachQuery : queries) {
-			BiPredicate<Object[], String> matcher = SearchMatchers.createMatcher(eachQuery);
-			NonSubmodelFilterVisitor visitor = new NonSubmodelFilterVisitor(matcher);
-			String path = eachQuery.getPath();
-			processor.visitValuesAtPath(path, visitor);
+	private boolean rootPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<CompiledQuery> queries) {
+		for (CompiledQuery eachQuery : queries) {
+			NonSubmodelFilterVisitor visitor = new NonSubmodelFilterVisitor(eachQuery.matcher);
+			eachQuery.path.visitValues(eachDescriptor, visitor);
 			if (!visitor.wasMatching()) {
 				return false;
 			}
@@ -90,12 +92,17 @@ public class AssetAdministrationShellFilter {
 			return descriptors;
 		}
 		List<AssetAdministrationShellDescriptor> toReturn = new ArrayList<>();
+		Map<String, List<BiPredicate<Object[], String>>> pathToPredicate = SearchMatchers.createMatchers(queries);
+		List<CompiledPath> compiledPaths = new ArrayList<>(pathToPredicate.size());
+		for (String eachPath : pathToPredicate.keySet()) {
+			compiledPaths.add(AasRegistryPathProcessor.compile(eachPath));
+		}
 		for (AssetAdministrationShellDescriptor eachDescriptor : descriptors) {
 			List<SubmodelDescriptor> smList = eachDescriptor.getSubmodelDescriptors();
 			if (smList == null || smList.isEmpty()) {
 				continue; // not matching submodels
 			}
-			AssetAdministrationShellDescriptor matching = submodelPathElementMatchesValue(eachDescriptor, smList, queries);
+			AssetAdministrationShellDescriptor matching = submodelPathElementMatchesValue(eachDescriptor, smList, pathToPredicate, compiledPaths);
 			if (matching != null) {
 				toReturn.add(matching);
 			}
@@ -103,14 +110,12 @@ public class AssetAdministrationShellFilter {
 		return toReturn;
 	}
 
-	private AssetAdministrationShellDescriptor submodelPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<SubmodelDescriptor> smList, List<ShellDescriptorQuery> queries) {
-
-		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(eachDescriptor);
-		Map<String, List<BiPredicate<Object[], String>>> pathToPredicate = SearchMatchers.createMatchers(queries);
+	private AssetAdministrationShellDescriptor submodelPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<SubmodelDescriptor> smList, Map<String, List<BiPredicate<Object[], String>>> pathToPredicate,
+			List<CompiledPath> compiledPaths) {
 
 		SubmodelFilterVisitor visitor = new SubmodelFilterVisitor(smList, pathToPredicate);
-		for (Entry<String, List<BiPredicate<Object[], String>>> eachEntry : pathToPredicate.entrySet()) {
-			processor.visitValuesAtPath(eachEntry.getKey(), visitor);	
+		for (CompiledPath eachPath : compiledPaths) {
+			eachPath.visitValues(eachDescriptor, visitor);
 		}
 		List<SubmodelDescriptor> matchingSubmodels = visitor.getMatchingSubmodels();
 		if (matchingSubmodels.isEmpty()) {
@@ -126,6 +131,13 @@ public class AssetAdministrationShellFilter {
 
 	}
 
+	@RequiredArgsConstructor
+	private static final class CompiledQuery {
+
+		private final CompiledPath path;
+		private final BiPredicate<Object[], String> matcher;
+	}
+
 	@RequiredArgsConstructor
 	private static final class NonSubmodelFilterVisitor implements AssetAdministrationShellDescriptorVisitor {
 
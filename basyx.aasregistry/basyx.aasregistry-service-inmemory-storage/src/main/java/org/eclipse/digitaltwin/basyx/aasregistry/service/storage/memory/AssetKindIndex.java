@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+
+/**
+ * Sorted secondary indexes of aas descriptor ids by assetKind and, for type
+ * descriptors, additionally by assetType. They allow to serve filtered pages by
+ * seeking directly to the cursor instead of scanning all descriptors.
+ * 
+ * The buckets follow the semantics of the {@link DescriptorFilter}: the
+ * {@link AssetKind#NOTAPPLICABLE} filter matches descriptors without an
+ * assetKind.
+ */
+class AssetKindIndex {
+
+	private static final String NO_KIND_KEY = "";
+
+	private final ConcurrentHashMap<String, NavigableSet<String>> idsByKind = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, NavigableSet<String>> typeIdsByAssetType = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, IndexKey> indexedKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * Moves the id to the index buckets matching the current descriptor. Calls for
+	 * the same id are serialized and always use the current descriptor, so the
+	 * index converges to the stored state even if writers race.
+	 * 
+	 * @param aasDescriptorId
+	 * @param currentDescriptor
+	 *            supplies the currently stored descriptor or null, if it was
+	 *            removed
+	 */
+	public void reindex(String aasDescriptorId, Supplier<AssetAdministrationShellDescriptor> currentDescriptor) {
+		indexedKeys.compute(aasDescriptorId, (id, oldKey) -> {
+			if (oldKey != null) {
+				oldKey.remove(id);
+			}
+			AssetAdministrationShellDescriptor descriptor = currentDescriptor.get();
+			if (descriptor == null) {
+				return null;
+			}
+			IndexKey newKey = new IndexKey(descriptor.getAssetKind(), descriptor.getAssetType());
+			newKey.add(id);
+			return newKey;
+		});
+	}
+
+	/**
+	 * Returns the sorted ids matching a filter
+	 * 
+	 * @param filter
+	 *            a filter with an assetKind
+	 * @return a live view of the matching ids
+	 */
+	public NavigableSet<String> getIds(DescriptorFilter filter) {
+		AssetKind kind = filter.getKind();
+		String assetType = filter.getAssetType();
+		NavigableSet<String> ids;
+		if (kind == AssetKind.NOTAPPLICABLE) {
+			ids = idsByKind.get(NO_KIND_KEY);
+		} else if (kind == AssetKind.TYPE && assetType != null) {
+			ids = typeIdsByAssetType.get(assetType);
+		} else {
+			ids = idsByKind.get(kind.name());
+		}
+		return ids == null ? Collections.emptyNavigableSet() : ids;
+	}
+
+	private final class IndexKey {
+
+		private final String kindKey;
+		private final String assetType;
+
+		private IndexKey(AssetKind kind, String assetType) {
+			this.kindKey = kind == null ? NO_KIND_KEY : kind.name();
+			this.assetType = kind == AssetKind.TYPE ? assetType : null;
+		}
+
+		private void add(String id) {
+			idsByKind.computeIfAbsent(kindKey, k -> new ConcurrentSkipListSet<>()).add(id);
+			if (assetType != null) {
+				typeIdsByAssetType.computeIfAbsent(assetType, k -> new ConcurrentSkipListSet<>()).add(id);
+			}
+		}
+
+		private void remove(String id) {
+			removeFromBucket(idsByKind, kindKey, id);
+			if (assetType != null) {
+				removeFromBucket(typeIdsByAssetType, assetType, id);
+			}
+		}
+
+		private void removeFromBucket(ConcurrentHashMap<String, NavigableSet<String>> buckets, String bucketKey, String id) {
+			NavigableSet<String> bucket = buckets.get(bucketKey);
+			if (bucket != null) {
+				bucket.remove(id);
+			}
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorAlreadyExistsException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelAlreadyExistsException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorCopies;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage.DescriptorFilterFunction;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage.DuplicateSubmodelIds;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * In-memory registry storage that can be used concurrently without an
+ * additional lock.
+ * 
+ * Each aas descriptor is held as snapshot together with a lookup map of its
+ * submodel descriptors. Stored snapshots are never modified: writers create an
+ * updated copy and atomically swap it in, so readers never block and writers
+ * only contend on the same aas descriptor id. Descriptors are copied when they
+ * are stored and when they are returned, so that callers cannot modify a
+ * snapshot. Snapshots of the same aas descriptor share all unchanged submodel
+ * descriptors.
+ * 
+ * Filtered listings are served from sorted secondary indexes by assetKind and
+ * assetType, see {@link AssetKindIndex}. Searches are narrowed down using an
+ * optional inverted value index, see {@link SearchValueIndex}.
+ */
+public class ConcurrentInMemoryAasRegistryStorage implements AasRegistryStorage {
+
+	private final ConcurrentSkipListMap<String, AasDescriptorSnapshot> snapshots = new ConcurrentSkipListMap<>();
+	private final AssetKindIndex assetKindIndex = new AssetKindIndex();
+	private final SearchValueIndex searchValueIndex;
+
+	public ConcurrentInMemoryAasRegistryStorage() {
+		this(true);
+	}
+
+	/**
+	 * @param searchIndexEnabled
+	 *            whether searches should be narrowed down by an inverted index of
+	 *            the queried values, which costs memory and additional work on
+	 *            each write
+	 */
+	public ConcurrentInMemoryAasRegistryStorage(boolean searchIndexEnabled) {
+		searchValueIndex = searchIndexEnabled ? new SearchValueIndex(snapshots::keySet, this::getCurrentDescriptor) : null;
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShellDescriptor>> getAllAasDescriptors(PaginationInfo pRequest, DescriptorFilter filter) {
+		if (filter.isFiltered()) {
+			return getFilteredAasDescriptors(pRequest, filter);
+		}
+		PaginationSupport<AasDescriptorSnapshot> paginationSupport = new PaginationSupport<>(snapshots, snapshot -> snapshot.descriptor.getId());
+		CursorResult<List<AasDescriptorSnapshot>> result = paginationSupport.getDescriptorsPaged(pRequest);
+		List<AssetAdministrationShellDescriptor> descriptors = result.getResult().stream().map(snapshot -> DescriptorCopies.deepClone(snapshot.descriptor)).collect(Collectors.toList());
+		return new CursorResult<>(result.getCursor(), descriptors);
+	}
+
+	private CursorResult<List<AssetAdministrationShellDescriptor>> getFilteredAasDescriptors(PaginationInfo pRequest, DescriptorFilter filter) {
+		NavigableSet<String> ids = assetKindIndex.getIds(filter);
+		NavigableSet<String> cursorView = pRequest.hasCursor() ? ids.tailSet(pRequest.getCursor(), true) : ids;
+		DescriptorFilterFunction function = new DescriptorFilterFunction(filter);
+
+		List<AssetAdministrationShellDescriptor> descriptors = new ArrayList<>();
+		String lastId = null;
+		for (String eachId : cursorView) {
+			if (pRequest.hasLimit() && descriptors.size() >= pRequest.getLimit()) {
+				break;
+			}
+			// the index is updated after the snapshot, so check the filter again
+			AasDescriptorSnapshot snapshot = snapshots.get(eachId);
+			if (snapshot != null && function.matches(snapshot.descriptor)) {
+				descriptors.add(DescriptorCopies.deepClone(snapshot.descriptor));
+				lastId = eachId;
+			}
+		}
+		String cursor = lastId == null ? null : ids.higher(lastId);
+		return new CursorResult<>(cursor, descriptors);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelDescriptor>> getAllSubmodels(String aasDescriptorId, PaginationInfo pInfo) throws AasDescriptorNotFoundException {
+		PaginationSupport<SubmodelDescriptor> paginationSupport = new PaginationSupport<>(getSnapshot(aasDescriptorId).submodels, SubmodelDescriptor::getId);
+		CursorResult<List<SubmodelDescriptor>> result = paginationSupport.getDescriptorsPaged(pInfo);
+		return new CursorResult<>(result.getCursor(), DescriptorCopies.deepCloneCollection(result.getResult()));
+	}
+
+	@Override
+	public AssetAdministrationShellDescriptor getAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
+		return DescriptorCopies.deepClone(getSnapshot(aasDescriptorId).descriptor);
+	}
+
+	@Override
+	public void insertAasDescriptor(AssetAdministrationShellDescriptor descr) throws AasDescriptorAlreadyExistsException {
+		AasDescriptorSnapshot snapshot = new AasDescriptorSnapshot(DescriptorCopies.deepClone(descr));
+		if (snapshots.putIfAbsent(descr.getId(), snapshot) != null) {
+			throw new AasDescriptorAlreadyExistsException(descr.getId());
+		}
+		reindex(descr.getId());
+	}
+
+	@Override
+	public void replaceAasDescriptor(String aasDescriptorId, AssetAdministrationShellDescriptor descriptor) throws AasDescriptorNotFoundException {
+		if (!snapshots.containsKey(aasDescriptorId)) {
+			throw new AasDescriptorNotFoundException(aasDescriptorId);
+		}
+		AasDescriptorSnapshot snapshot = new AasDescriptorSnapshot(DescriptorCopies.deepClone(descriptor));
+		String newAasDescriptorId = descriptor.getId();
+		if (Objects.equals(aasDescriptorId, newAasDescriptorId)) {
+			update(aasDescriptorId, current -> snapshot);
+		} else {
+			removeAasDescriptor(aasDescriptorId);
+			snapshots.put(newAasDescriptorId, snapshot);
+			reindex(newAasDescriptorId);
+		}
+	}
+
+	@Override
+	public void removeAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
+		if (snapshots.remove(aasDescriptorId) == null) {
+			throw new AasDescriptorNotFoundException(aasDescriptorId);
+		}
+		reindex(aasDescriptorId);
+	}
+
+	@Override
+	public SubmodelDescriptor getSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		SubmodelDescriptor submodel = getSnapshot(aasDescriptorId).submodels.get(submodelId);
+		if (submodel == null) {
+			throw new SubmodelNotFoundException(aasDescriptorId, submodelId);
+		}
+		return DescriptorCopies.deepClone(submodel);
+	}
+
+	@Override
+	public void insertSubmodel(String aasDescriptorId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelAlreadyExistsException {
+		SubmodelDescriptor copy = DescriptorCopies.deepClone(submodel);
+		update(aasDescriptorId, current -> current.withSubmodelInserted(copy));
+	}
+
+	@Override
+	public void replaceSubmodel(String aasDescriptorId, String submodelId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		SubmodelDescriptor copy = DescriptorCopies.deepClone(submodel);
+		update(aasDescriptorId, current -> current.withSubmodelReplaced(submodelId, copy));
+	}
+
+	@Override
+	public void removeSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		update(aasDescriptorId, current -> current.withSubmodelRemoved(submodelId));
+	}
+
+	@Override
+	public Set<String> clear() {
+		Set<String> removedIds = new HashSet<>();
+		for (String eachId : snapshots.keySet()) {
+			if (snapshots.remove(eachId) != null) {
+				removedIds.add(eachId);
+				reindex(eachId);
+			}
+		}
+		return removedIds;
+	}
+
+	@Override
+	public ShellDescriptorSearchResponse searchAasDescriptors(ShellDescriptorSearchRequest request) {
+		InMemoryStorageSearch search = new InMemoryStorageSearch(getSearchCandidates(request));
+		ShellDescriptorSearchResponse response = search.performSearch(request);
+		return response.hits(DescriptorCopies.deepCloneCollection(response.getHits()));
+	}
+
+	private List<AssetAdministrationShellDescriptor> getSearchCandidates(ShellDescriptorSearchRequest request) {
+		Optional<Set<String>> candidateIds = Optional.empty();
+		if (searchValueIndex != null && request != null && request.getQuery() != null) {
+			candidateIds = searchValueIndex.findCandidateIds(request.getQuery());
+		}
+		if (candidateIds.isEmpty()) {
+			return snapshots.values().stream().map(snapshot -> snapshot.descriptor).collect(Collectors.toList());
+		}
+		return candidateIds.get().stream().map(this::getCurrentDescriptor).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	private AasDescriptorSnapshot getSnapshot(String aasDescriptorId) {
+		AasDescriptorSnapshot snapshot = snapshots.get(aasDescriptorId);
+		if (snapshot == null) {
+			throw new AasDescriptorNotFoundException(aasDescriptorId);
+		}
+		return snapshot;
+	}
+
+	private AssetAdministrationShellDescriptor getCurrentDescriptor(String aasDescriptorId) {
+		AasDescriptorSnapshot snapshot = snapshots.get(aasDescriptorId);
+		return snapshot == null ? null : snapshot.descriptor;
+	}
+
+	private void reindex(String aasDescriptorId) {
+		assetKindIndex.reindex(aasDescriptorId, () -> getCurrentDescriptor(aasDescriptorId));
+		if (searchValueIndex != null) {
+			searchValueIndex.reindex(aasDescriptorId);
+		}
+	}
+
+	private void update(String aasDescriptorId, Function<AasDescriptorSnapshot, AasDescriptorSnapshot> updateFunction) {
+		// the function may be invoked more than once if writers race on the same id
+		if (snapshots.computeIfPresent(aasDescriptorId, (id, current) -> updateFunction.apply(current)) == null) {
+			throw new AasDescriptorNotFoundException(aasDescriptorId);
+		}
+		reindex(aasDescriptorId);
+	}
+
+	private static final class AasDescriptorSnapshot {
+
+		private final AssetAdministrationShellDescriptor descriptor;
+		private final NavigableMap<String, SubmodelDescriptor> submodels;
+
+		private AasDescriptorSnapshot(AssetAdministrationShellDescriptor descriptor) {
+			this(descriptor, toSubmodelLookupMap(descriptor.getSubmodelDescriptors()));
+		}
+
+		private AasDescriptorSnapshot(AssetAdministrationShellDescriptor descriptor, TreeMap<String, SubmodelDescriptor> submodels) {
+			this.descriptor = descriptor;
+			this.submodels = Collections.unmodifiableNavigableMap(submodels);
+		}
+
+		private AasDescriptorSnapshot withSubmodelInserted(SubmodelDescriptor submodel) {
+			String aasDescriptorId = descriptor.getId();
+			String submodelId = submodel.getId();
+			if (submodels.containsKey(submodelId)) {
+				throw new SubmodelAlreadyExistsException(aasDescriptorId, submodelId);
+			}
+			List<SubmodelDescriptor> newSubmodelList = copySubmodelList();
+			newSubmodelList.add(submodel);
+
+			TreeMap<String, SubmodelDescriptor> newSubmodels = new TreeMap<>(submodels);
+			newSubmodels.put(submodelId, submodel);
+			return new AasDescriptorSnapshot(copyDescriptor(newSubmodelList), newSubmodels);
+		}
+
+		private AasDescriptorSnapshot withSubmodelReplaced(String submodelId, SubmodelDescriptor submodel) {
+			if (!submodels.containsKey(submodelId)) {
+				throw new SubmodelNotFoundException(descriptor.getId(), submodelId);
+			}
+			List<SubmodelDescriptor> newSubmodelList = copySubmodelList();
+			ListIterator<SubmodelDescriptor> iter = newSubmodelList.listIterator();
+			while (iter.hasNext()) {
+				if (Objects.equals(iter.next().getId(), submodelId)) {
+					iter.set(submodel);
+					break;
+				}
+			}
+			TreeMap<String, SubmodelDescriptor> newSubmodels = new TreeMap<>(submodels);
+			newSubmodels.remove(submodelId);
+			// could be a different id
+			newSubmodels.put(submodel.getId(), submodel);
+			return new AasDescriptorSnapshot(copyDescriptor(newSubmodelList), newSubmodels);
+		}
+
+		private AasDescriptorSnapshot withSubmodelRemoved(String submodelId) {
+			if (!submodels.containsKey(submodelId)) {
+				throw new SubmodelNotFoundException(descriptor.getId(), submodelId);
+			}
+			List<SubmodelDescriptor> newSubmodelList = copySubmodelList();
+			Iterator<SubmodelDescriptor> iter = newSubmodelList.iterator();
+			while (iter.hasNext()) {
+				if (Objects.equals(iter.next().getId(), submodelId)) {
+					iter.remove();
+					break;
+				}
+			}
+
+			TreeMap<String, SubmodelDescriptor> newSubmodels = new TreeMap<>(submodels);
+			newSubmodels.remove(submodelId);
+			return new AasDescriptorSnapshot(copyDescriptor(newSubmodelList), newSubmodels);
+		}
+
+		private List<SubmodelDescriptor> copySubmodelList() {
+			return new ArrayList<>(Optional.ofNullable(descriptor.getSubmodelDescriptors()).orElseGet(Collections::emptyList));
+		}
+
+		private AssetAdministrationShellDescriptor copyDescriptor(List<SubmodelDescriptor> submodelDescriptors) {
+			// all other values of the snapshot are never modified and can thus be shared
+			AssetAdministrationShellDescriptor copy = DescriptorCopies.shallowClone(descriptor);
+			copy.setSubmodelDescriptors(submodelDescriptors);
+			return copy;
+		}
+
+		private static TreeMap<String, SubmodelDescriptor> toSubmodelLookupMap(List<SubmodelDescriptor> submodelDescriptors) {
+			return Optional.ofNullable(submodelDescriptors).orElseGet(LinkedList::new).stream().collect(Collectors.toMap(SubmodelDescriptor::getId, Function.identity(), AasDescriptorSnapshot::mergeSubmodels, TreeMap::new));
+		}
+
+		private static SubmodelDescriptor mergeSubmodels(SubmodelDescriptor descr1, SubmodelDescriptor descr2) {
+			throw new DuplicateSubmodelIds(descr1.getId());
+		}
+	}
+}
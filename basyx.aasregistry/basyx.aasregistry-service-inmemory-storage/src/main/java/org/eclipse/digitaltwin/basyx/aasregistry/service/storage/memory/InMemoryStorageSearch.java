@@ -24,12 +24,12 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,11 +38,11 @@ import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
-import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
-import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.CompiledPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests;
 
 import lombok.RequiredArgsConstructor;
 
@@ -52,50 +52,47 @@ class InMemoryStorageSearch {
 	private final Collection<AssetAdministrationShellDescriptor> aasDescriptors;
 
 	public ShellDescriptorSearchResponse performSearch(ShellDescriptorSearchRequest request) {
-
-		Stream<AssetAdministrationShellDescriptor> matchingDescriptors = resolveMatchingDescriptors(request).stream();
-
-		Stream<AssetAdministrationShellDescriptor> sorted = applySorting(matchingDescriptors, request.getSortBy());
-		List<AssetAdministrationShellDescriptor> items = sorted.collect(Collectors.toList());
-		long totalSizeOverAllPages = items.size();
-		List<AssetAdministrationShellDescriptor> result = applyPagination(items, request.getPage());
-		return new ShellDescriptorSearchResponse(totalSizeOverAllPages, result);
+		Collection<AssetAdministrationShellDescriptor> matchingDescriptors = resolveMatchingDescriptors(request);
+		long totalSizeOverAllPages = matchingDescriptors.size();
+
+		SortKeys sortKeys = new SortKeys(request.getSortBy());
+		List<String> searchAfter = ShellDescriptorSearchRequests.getSearchAfter(request);
+		// the sort values are resolved once per descriptor so that comparisons only compare strings
+		Stream<SortedHit> candidates = matchingDescriptors.stream().map(sortKeys::toSortedHit);
+		if (searchAfter != null) {
+			String[] searchAfterKey = searchAfter.toArray(String[]::new);
+			candidates = candidates.filter(hit -> sortKeys.compare(hit.key, searchAfterKey) > 0);
+		}
+		List<AssetAdministrationShellDescriptor> result = selectPage(candidates, sortKeys.getComparator(), request.getPage(), searchAfter != null);
+		return new ShellDescriptorSearchResponse(totalSizeOverAllPages, result).searchAfter(ShellDescriptorSearchRequests.getNextSearchAfter(request, result));
 	}
 
-	private Stream<AssetAdministrationShellDescriptor> applySorting(Stream<AssetAdministrationShellDescriptor> matchingDescriptors, Sorting sortBy) {
-		if (sortBy == null) {
-			sortBy = getDefaultSorting();
+	private List<AssetAdministrationShellDescriptor> selectPage(Stream<SortedHit> candidates, Comparator<SortedHit> comparator, Page page, boolean continuesAfterHit) {
+		if (page == null) {
+			return toDescriptors(candidates.sorted(comparator));
 		}
-		List<SortingPath> sortingPath = sortBy.getPath();
-		Comparator<AssetAdministrationShellDescriptor> comparator = null;
-		for (SortingPath eachPath : sortingPath) {
-			String sortPathAsString = eachPath.toString(); // toString returns the path
-			ValueExtractor extractor = new CachingValueExtractor(sortPathAsString);
-			Comparator<AssetAdministrationShellDescriptor> sortPathComparator = Comparator.comparing(extractor::resolveValue);
-			comparator = comparator == null ? sortPathComparator : comparator.thenComparing(sortPathComparator);
+		long startIndex = continuesAfterHit ? 0 : page.getIndex() * (long) page.getSize();
+		long topK = startIndex + page.getSize();
+		if (topK <= 0 || topK > Integer.MAX_VALUE) {
+			return toDescriptors(candidates.sorted(comparator).skip(startIndex).limit(page.getSize()));
 		}
-		if (comparator != null) {
-			if (sortBy.getDirection() == SortDirection.DESC) {
-				comparator = comparator.reversed();
+		// keep only the best topK hits in a heap whose head is the worst of them
+		PriorityQueue<SortedHit> heap = new PriorityQueue<>((int) Math.min(topK, 1024), comparator.reversed());
+		candidates.forEach(hit -> {
+			if (heap.size() < topK) {
+				heap.add(hit);
+			} else if (comparator.compare(hit, heap.peek()) < 0) {
+				heap.poll();
+				heap.add(hit);
 			}
-			return matchingDescriptors.sorted(comparator);
-		} else {
-			return matchingDescriptors;
-		}
+		});
+		List<SortedHit> best = new ArrayList<>(heap);
+		best.sort(comparator);
+		return toDescriptors(best.stream().skip(startIndex));
 	}
 
-	private Sorting getDefaultSorting() {
-		 return new Sorting(List.of(SortingPath.ID)).direction(SortDirection.ASC);
-	}
-
-	private List<AssetAdministrationShellDescriptor> applyPagination(List<AssetAdministrationShellDescriptor> descriptors, Page page) {
-		if (page == null) {
-			return descriptors;
-		}
-		int pageIndex = page.getIndex();
-		int size = page.getSize();
-		long startIndex = pageIndex * (long) size;
-		return descriptors.stream().skip(startIndex).limit(size).collect(Collectors.toList());
+	private static List<AssetAdministrationShellDescriptor> toDescriptors(Stream<SortedHit> hits) {
+		return hits.map(hit -> hit.descriptor).collect(Collectors.toList());
 	}
 
 	private Collection<AssetAdministrationShellDescriptor> resolveMatchingDescriptors(ShellDescriptorSearchRequest request) {
@@ -111,15 +108,57 @@ class InMemoryStorageSearch {
 		return filter.filterByRequest(request);
 	}
 
+	private static final class SortKeys {
+
+		private final ValueExtractor[] extractors;
+		private final boolean descending;
+
+		private SortKeys(Sorting sortBy) {
+			descending = ShellDescriptorSearchRequests.isDescending(sortBy);
+			extractors = ShellDescriptorSearchRequests.getSortKeyPaths(sortBy).stream().map(ValueExtractor::new).toArray(ValueExtractor[]::new);
+		}
+
+		private SortedHit toSortedHit(AssetAdministrationShellDescriptor descriptor) {
+			String[] key = new String[extractors.length];
+			for (int i = 0; i < extractors.length; i++) {
+				key[i] = extractors[i].resolveValue(descriptor);
+			}
+			return new SortedHit(descriptor, key);
+		}
+
+		private Comparator<SortedHit> getComparator() {
+			return (first, second) -> compare(first.key, second.key);
+		}
+
+		private int compare(String[] first, String[] second) {
+			for (int i = 0; i < first.length; i++) {
+				int result = first[i].compareTo(second[i]);
+				if (result != 0) {
+					return descending ? -result : result;
+				}
+			}
+			return 0;
+		}
+	}
+
 	@RequiredArgsConstructor
-	private static class ValueExtractor {
+	private static final class SortedHit {
 
-		protected final String path;
+		private final AssetAdministrationShellDescriptor descriptor;
+		private final String[] key;
+	}
+
+	private static final class ValueExtractor {
 
-		public String resolveValue(AssetAdministrationShellDescriptor descriptor) {
-			AasRegistryPathProcessor processor = new AasRegistryPathProcessor(descriptor);
+		private final CompiledPath compiledPath;
+
+		private ValueExtractor(String path) {
+			this.compiledPath = AasRegistryPathProcessor.compile(path);
+		}
+
+		private String resolveValue(AssetAdministrationShellDescriptor descriptor) {
 			ValueExtractionVisitor visitor = new ValueExtractionVisitor();
-			processor.visitValuesAtPath(path, visitor);
+			compiledPath.visitValues(descriptor, visitor);
 			return visitor.value;
 		}
 
@@ -129,25 +168,10 @@ class InMemoryStorageSearch {
 
 			@Override
 			public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
-				if (this.value == null || this.value.isEmpty()) {
+				if (this.value.isEmpty() && value != null) {
 					this.value = value;
 				}
 			}
 		}
 	}
-
-	public static class CachingValueExtractor extends ValueExtractor {
-
-		private final Map<AssetAdministrationShellDescriptor, Map<String, String>> cachedValues = new HashMap<>();
-
-		public CachingValueExtractor(String path) {
-			super(path);
-		}
-
-		@Override
-		public String resolveValue(AssetAdministrationShellDescriptor descriptor) {
-			Map<String, String> result = cachedValues.computeIfAbsent(descriptor, k -> new HashMap<>());
-			return result.computeIfAbsent(path, k -> super.resolveValue(descriptor));
-		}
-	}
-}
\ No newline at end of file
+}
@@ -28,7 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -43,7 +43,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PaginationSupport<T extends Object> {
 
-	private final TreeMap<String, T> sortedDescriptorMap;
+	private final NavigableMap<String, T> sortedDescriptorMap;
 	
 	private final Function<T, String> idResolver; 
 
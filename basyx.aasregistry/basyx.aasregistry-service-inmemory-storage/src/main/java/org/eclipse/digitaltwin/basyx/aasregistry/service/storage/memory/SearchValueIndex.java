@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery.QueryTypeEnum;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorPathVisitor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.CompiledPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.UnknownLeafPathException;
+
+/**
+ * Inverted index from the values found at a search path to the ids of the aas
+ * descriptors containing them. It is used to narrow down the candidates of a
+ * search before the actual filter visits each descriptor.
+ * 
+ * A path is indexed as soon as it is queried for the first time and is then
+ * kept up to date on each insert, replacement or removal. Exact queries look up
+ * their value, regex queries with a literal prefix scan the sorted values
+ * starting with this prefix. The candidates are always a superset of the
+ * matching descriptors, e.g. extension names or the grouping of submodel
+ * queries are not considered, so the search filter still has to be applied.
+ */
+class SearchValueIndex {
+
+	private static final String REGEX_META_CHARACTERS = "\\[](){}.*+?^$|";
+	private static final String REGEX_QUANTIFIERS = "*+?{";
+
+	private final Map<String, PathIndex> indexesByPath = new ConcurrentHashMap<>();
+	private final Supplier<Set<String>> currentIds;
+	private final Function<String, AssetAdministrationShellDescriptor> currentDescriptor;
+
+	/**
+	 * @param currentIds
+	 *            supplies the ids of all stored descriptors, used to build the
+	 *            index of a newly queried path
+	 * @param currentDescriptor
+	 *            resolves the currently stored descriptor for an id or returns
+	 *            null, if it was removed
+	 */
+	public SearchValueIndex(Supplier<Set<String>> currentIds, Function<String, AssetAdministrationShellDescriptor> currentDescriptor) {
+		this.currentIds = currentIds;
+		this.currentDescriptor = currentDescriptor;
+	}
+
+	/**
+	 * Updates the values of all indexed paths for a descriptor that has been
+	 * inserted, replaced or removed
+	 * 
+	 * @param aasDescriptorId
+	 */
+	public void reindex(String aasDescriptorId) {
+		for (PathIndex eachIndex : indexesByPath.values()) {
+			eachIndex.reindex(aasDescriptorId);
+		}
+	}
+
+	/**
+	 * Resolves the ids of the descriptors that might match all combined queries
+	 * by intersecting the posting lists of each query
+	 * 
+	 * @param query
+	 *            the first of the combined queries
+	 * @return the candidate ids or an empty optional, if none of the queries can
+	 *         be answered by the index and all descriptors have to be checked
+	 */
+	public Optional<Set<String>> findCandidateIds(ShellDescriptorQuery query) {
+		List<Set<String>> postingLists = new ArrayList<>();
+		for (ShellDescriptorQuery currentQuery = query; currentQuery != null; currentQuery = currentQuery.getCombinedWith()) {
+			findPostingList(currentQuery).ifPresent(postingLists::add);
+		}
+		if (postingLists.isEmpty()) {
+			return Optional.empty();
+		}
+		postingLists.sort(Comparator.comparingInt(Set::size));
+		Set<String> candidates = new HashSet<>(postingLists.get(0));
+		for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+			candidates.retainAll(postingLists.get(i));
+		}
+		return Optional.of(candidates);
+	}
+
+	private Optional<Set<String>> findPostingList(ShellDescriptorQuery query) {
+		String value = query.getValue();
+		if (value == null) {
+			return Optional.empty();
+		}
+		if (query.getQueryType() != QueryTypeEnum.REGEX) {
+			return getCompletePathIndex(query.getPath()).map(index -> index.getIds(value));
+		}
+		String prefix = getLiteralPrefix(value);
+		if (prefix.isEmpty()) {
+			return Optional.empty();
+		}
+		return getCompletePathIndex(query.getPath()).map(index -> index.getIdsWithPrefix(prefix));
+	}
+
+	private Optional<PathIndex> getCompletePathIndex(String path) {
+		PathIndex index = indexesByPath.get(path);
+		if (index == null) {
+			if (!isLeafPath(path)) {
+				return Optional.empty();
+			}
+			index = new PathIndex(path);
+			if (indexesByPath.putIfAbsent(path, index) == null) {
+				// registered before building so that concurrent writes are not missed
+				index.build();
+			}
+		}
+		return index.complete ? Optional.of(index) : Optional.empty();
+	}
+
+	private static boolean isLeafPath(String path) {
+		try {
+			AasRegistryPathProcessor.visitPath(path, new AssetAdministrationShellDescriptorPathVisitor() {
+			});
+			return true;
+		} catch (UnknownLeafPathException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the literal characters every string matching the pattern has to
+	 * start with. Alternations are not analyzed, so patterns containing them do
+	 * not have a prefix.
+	 */
+	static String getLiteralPrefix(String regex) {
+		if (regex.indexOf('|') >= 0) {
+			return "";
+		}
+		StringBuilder prefix = new StringBuilder();
+		for (int i = 0; i < regex.length(); i++) {
+			char current = regex.charAt(i);
+			if (REGEX_META_CHARACTERS.indexOf(current) >= 0) {
+				if (REGEX_QUANTIFIERS.indexOf(current) >= 0 && prefix.length() > 0) {
+					// the quantified character is optional or repeated
+					prefix.setLength(prefix.length() - 1);
+				}
+				break;
+			}
+			prefix.append(current);
+		}
+		return prefix.toString();
+	}
+
+	private final class PathIndex {
+
+		private final CompiledPath path;
+		private final ConcurrentSkipListMap<String, Set<String>> idsByValue = new ConcurrentSkipListMap<>();
+		private final ConcurrentHashMap<String, Set<String>> valuesById = new ConcurrentHashMap<>();
+		private volatile boolean complete;
+
+		private PathIndex(String path) {
+			this.path = AasRegistryPathProcessor.compile(path);
+		}
+
+		private void build() {
+			for (String eachId : currentIds.get()) {
+				reindex(eachId);
+			}
+			complete = true;
+		}
+
+		private void reindex(String aasDescriptorId) {
+			// calls for the same id are serialized and use the current descriptor
+			valuesById.compute(aasDescriptorId, (id, oldValues) -> {
+				if (oldValues != null) {
+					oldValues.forEach(value -> removeFromPostingList(value, id));
+				}
+				AssetAdministrationShellDescriptor descriptor = currentDescriptor.apply(id);
+				if (descriptor == null) {
+					return null;
+				}
+				Set<String> newValues = collectValues(descriptor);
+				newValues.forEach(value -> idsByValue.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(id));
+				return newValues.isEmpty() ? null : newValues;
+			});
+		}
+
+		private Set<String> collectValues(AssetAdministrationShellDescriptor descriptor) {
+			Set<String> values = new HashSet<>();
+			path.visitValues(descriptor, new AssetAdministrationShellDescriptorVisitor() {
+
+				@Override
+				public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
+					if (value != null) {
+						values.add(value);
+					}
+				}
+			});
+			return values;
+		}
+
+		private void removeFromPostingList(String value, String id) {
+			Set<String> ids = idsByValue.get(value);
+			if (ids != null) {
+				ids.remove(id);
+			}
+		}
+
+		private Set<String> getIds(String value) {
+			return idsByValue.getOrDefault(value, Collections.emptySet());
+		}
+
+		private Set<String> getIdsWithPrefix(String prefix) {
+			Set<String> ids = new HashSet<>();
+			for (Entry<String, Set<String>> eachEntry : idsByValue.tailMap(prefix).entrySet()) {
+				if (!eachEntry.getKey().startsWith(prefix)) {
+					break;
+				}
+				ids.addAll(eachEntry.getValue());
+			}
+			return ids;
+		}
+	}
+}
@@ -24,16 +24,42 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.tests;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery.QueryTypeEnum;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.configuration.InMemoryAasStorageConfiguration;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SearchAfterInvalidException;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ConcurrentInMemoryAasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage.DuplicateSubmodelIds;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.junit.Test;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.ContextConfiguration;
@@ -47,7 +73,7 @@ public class InMemoryAasRegistyStorageTest extends AasRegistryStorageTest {
 	public AasRegistryStorage createCloningInMemoryStorage() {
 		// we save the initial storage state in some testcases
 		// so we do not want to alter the object and thus need a deep copy
-		return new CloningAasRegistryStorageDecorator(new InMemoryAasStorageConfiguration().storage());
+		return new CloningAasRegistryStorageDecorator(new InMemoryAasStorageConfiguration().storage(true));
 	}
 	
 	
@@ -62,4 +88,140 @@ public class InMemoryAasRegistyStorageTest extends AasRegistryStorageTest {
 		verifyNoEventSent();
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void whenSubmodelInsertedAfterRead_thenReadDescriptorIsUnchanged() {
+		ConcurrentInMemoryAasRegistryStorage concurrentStorage = new ConcurrentInMemoryAasRegistryStorage();
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor(IDENTIFICATION_NEW));
+		AssetAdministrationShellDescriptor snapshot = concurrentStorage.getAasDescriptor(IDENTIFICATION_NEW);
+
+		concurrentStorage.insertSubmodel(IDENTIFICATION_NEW, new SubmodelDescriptor(IDENTIFICATION_NEW_1, List.of()));
+
+		assertTrue(snapshot.getSubmodelDescriptors() == null || snapshot.getSubmodelDescriptors().isEmpty());
+		assertEquals(1, concurrentStorage.getAasDescriptor(IDENTIFICATION_NEW).getSubmodelDescriptors().size());
+	}
+
+	@Test
+	public void whenInsertedOrReturnedDescriptorIsModified_thenStoredDescriptorIsUnchanged() {
+		ConcurrentInMemoryAasRegistryStorage concurrentStorage = new ConcurrentInMemoryAasRegistryStorage();
+		AssetAdministrationShellDescriptor inserted = new AssetAdministrationShellDescriptor(IDENTIFICATION_NEW).idShort("shell");
+		inserted.addSubmodelDescriptorsItem(new SubmodelDescriptor(IDENTIFICATION_NEW_1, List.of()).idShort("submodel"));
+		concurrentStorage.insertAasDescriptor(inserted);
+
+		inserted.setIdShort("changed");
+		inserted.getSubmodelDescriptors().get(0).setIdShort("changed");
+		AssetAdministrationShellDescriptor returned = concurrentStorage.getAasDescriptor(IDENTIFICATION_NEW);
+		returned.getSubmodelDescriptors().get(0).setIdShort("changed");
+		concurrentStorage.getSubmodel(IDENTIFICATION_NEW, IDENTIFICATION_NEW_1).setIdShort("changed");
+
+		AssetAdministrationShellDescriptor stored = concurrentStorage.getAasDescriptor(IDENTIFICATION_NEW);
+		assertEquals("shell", stored.getIdShort());
+		assertEquals("submodel", stored.getSubmodelDescriptors().get(0).getIdShort());
+		assertEquals("submodel", concurrentStorage.getSubmodel(IDENTIFICATION_NEW, IDENTIFICATION_NEW_1).getIdShort());
+	}
+
+	@Test
+	public void whenSubmodelsInsertedConcurrently_thenAllAreStored() throws InterruptedException {
+		ConcurrentInMemoryAasRegistryStorage concurrentStorage = new ConcurrentInMemoryAasRegistryStorage();
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor(IDENTIFICATION_NEW));
+
+		int submodelCount = 100;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		IntStream.range(0, submodelCount).forEach(i -> executor.execute(() -> concurrentStorage.insertSubmodel(IDENTIFICATION_NEW, new SubmodelDescriptor("sm" + i, List.of()))));
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(submodelCount, concurrentStorage.getAasDescriptor(IDENTIFICATION_NEW).getSubmodelDescriptors().size());
+		assertEquals(submodelCount, concurrentStorage.getAllSubmodels(IDENTIFICATION_NEW, new PaginationInfo(null, null)).getResult().size());
+	}
+
+	@Test
+	public void whenFilteredByKindWithCursor_thenPagesFollowIndexOrder() {
+		ConcurrentInMemoryAasRegistryStorage concurrentStorage = new ConcurrentInMemoryAasRegistryStorage();
+		IntStream.range(0, 5).forEach(i -> concurrentStorage.insertAasDescriptor(createDescriptor("type" + i, AssetKind.TYPE, "assetType")));
+		IntStream.range(0, 5).forEach(i -> concurrentStorage.insertAasDescriptor(createDescriptor("instance" + i, AssetKind.INSTANCE, null)));
+		concurrentStorage.removeAasDescriptor("type1");
+		concurrentStorage.replaceAasDescriptor("type3", createDescriptor("type3", AssetKind.INSTANCE, null));
+
+		DescriptorFilter filter = new DescriptorFilter(AssetKind.TYPE, "assetType");
+		CursorResult<List<AssetAdministrationShellDescriptor>> firstPage = concurrentStorage.getAllAasDescriptors(new PaginationInfo(2, null), filter);
+		assertEquals(List.of("type0", "type2"), firstPage.getResult().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList()));
+		assertEquals("type4", firstPage.getCursor());
+
+		CursorResult<List<AssetAdministrationShellDescriptor>> secondPage = concurrentStorage.getAllAasDescriptors(new PaginationInfo(2, firstPage.getCursor()), filter);
+		assertEquals(List.of("type4"), secondPage.getResult().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList()));
+		assertNull(secondPage.getCursor());
+
+		assertEquals(6, concurrentStorage.getAllAasDescriptors(new PaginationInfo(null, null), new DescriptorFilter(AssetKind.INSTANCE, null)).getResult().size());
+	}
+
+	@Test
+	public void whenSearchIndexed_thenWritesAreReflectedInSearchResults() {
+		ConcurrentInMemoryAasRegistryStorage concurrentStorage = new ConcurrentInMemoryAasRegistryStorage(true);
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("robot1").idShort("robot"));
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("robot2").idShort("robotArm"));
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("conveyor").idShort("conveyor"));
+
+		ShellDescriptorSearchRequest exactRequest = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery(AasRegistryPaths.idShort(), "robot"));
+		ShellDescriptorSearchRequest prefixRequest = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery(AasRegistryPaths.idShort(), "robo.*").queryType(QueryTypeEnum.REGEX));
+		ShellDescriptorSearchRequest submodelRequest = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery(AasRegistryPaths.submodelDescriptors().id(), "sm"));
+		assertEquals(List.of("robot1"), searchIds(concurrentStorage, exactRequest));
+		assertEquals(List.of("robot1", "robot2"), searchIds(concurrentStorage, prefixRequest));
+		assertEquals(List.of(), searchIds(concurrentStorage, submodelRequest));
+
+		concurrentStorage.replaceAasDescriptor("conveyor", new AssetAdministrationShellDescriptor("conveyor").idShort("robot"));
+		concurrentStorage.removeAasDescriptor("robot2");
+		concurrentStorage.insertSubmodel("robot1", new SubmodelDescriptor("sm", List.of()));
+
+		assertEquals(List.of("conveyor", "robot1"), searchIds(concurrentStorage, exactRequest));
+		assertEquals(List.of("conveyor", "robot1"), searchIds(concurrentStorage, prefixRequest));
+		assertEquals(List.of("robot1"), searchIds(concurrentStorage, submodelRequest));
+	}
+
+	@Test
+	public void whenSearchAfterLastHit_thenPagesContinueInSortOrder() {
+		ConcurrentInMemoryAasRegistryStorage concurrentStorage = new ConcurrentInMemoryAasRegistryStorage();
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("a").idShort("shell2"));
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("b").idShort("shell1"));
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("c").idShort("shell2"));
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("d"));
+		concurrentStorage.insertAasDescriptor(new AssetAdministrationShellDescriptor("e").idShort("shell3"));
+
+		Sorting sorting = new Sorting(List.of(SortingPath.IDSHORT)).direction(SortDirection.DESC);
+		ShellDescriptorSearchRequest request = new ShellDescriptorSearchRequest().sortBy(sorting).page(new Page(0, 2));
+		ShellDescriptorSearchResponse firstPage = concurrentStorage.searchAasDescriptors(request);
+		assertEquals(List.of("e", "c"), firstPage.getHits().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList()));
+		assertEquals(List.of("shell2", "c"), firstPage.getSearchAfter());
+		assertEquals(5, firstPage.getTotal().longValue());
+
+		ShellDescriptorSearchResponse secondPage = concurrentStorage.searchAasDescriptors(request.searchAfter(firstPage.getSearchAfter()));
+		assertEquals(List.of("a", "b"), secondPage.getHits().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList()));
+		assertEquals(5, secondPage.getTotal().longValue());
+
+		ShellDescriptorSearchResponse lastPage = concurrentStorage.searchAasDescriptors(request.searchAfter(secondPage.getSearchAfter()));
+		assertEquals(List.of("d"), lastPage.getHits().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList()));
+		assertNull(lastPage.getSearchAfter());
+
+		assertEquals(List.of("a", "b"), searchIds(concurrentStorage, new ShellDescriptorSearchRequest().sortBy(sorting).page(new Page(1, 2))));
+		assertThrows(SearchAfterInvalidException.class, () -> concurrentStorage.searchAasDescriptors(new ShellDescriptorSearchRequest().sortBy(sorting).page(new Page(0, 2)).searchAfter(List.of("c"))));
+	}
+
+	@Test
+	public void whenSortPathResolvesToSeveralValues_thenItIsNotSingleValued() {
+		assertTrue(Arrays.stream(SortingPath.values()).map(SortingPath::toString).allMatch(ShellDescriptorSearchRequests::isSingleValuedPath));
+		assertFalse(ShellDescriptorSearchRequests.isSingleValuedPath(AasRegistryPaths.submodelDescriptors().idShort()));
+		assertFalse(ShellDescriptorSearchRequests.isSingleValuedPath(AasRegistryPaths.specificAssetIds().value()));
+		// stored by its enum name, so its sort values cannot be compared to stored values
+		assertFalse(ShellDescriptorSearchRequests.isSingleValuedPath(AasRegistryPaths.assetKind()));
+	}
+
+	private static List<String> searchIds(AasRegistryStorage storage, ShellDescriptorSearchRequest request) {
+		return storage.searchAasDescriptors(request).getHits().stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList());
+	}
+
+	private static AssetAdministrationShellDescriptor createDescriptor(String id, AssetKind kind, String assetType) {
+		AssetAdministrationShellDescriptor descr = new AssetAdministrationShellDescriptor(id);
+		descr.setAssetKind(kind);
+		descr.setAssetType(assetType);
+		return descr;
+	}
+}
@@ -25,18 +25,50 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.service.events.RegistryEventSink;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.AsyncKafkaRegistryEventSink;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.DeliveryTimingProducerListener;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.KafkaRegistryEventSink;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.function.StreamBridge;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.support.ProducerListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @Configuration
 @ConditionalOnProperty(prefix = "events", name = "sink", havingValue = "kafka")
 public class KafkaRegistryEventsConfiguration {
 
+	@Value("${events.kafka.async.enabled:false}")
+	private boolean async;
+
+	@Value("${events.kafka.async.buffer-size:10000}")
+	private int bufferSize;
+
+	@Value("${events.kafka.async.offer-timeout-ms:1000}")
+	private long offerTimeoutMillis;
+
+	@Bean
+	public RegistryEventSink eventSink(StreamBridge streamBridge, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+		KafkaRegistryEventSink sink = new KafkaRegistryEventSink(streamBridge, meterRegistry);
+		if (async) {
+			return new AsyncKafkaRegistryEventSink(sink, bufferSize, offerTimeoutMillis, meterRegistry);
+		}
+		return sink;
+	}
+
+	/**
+	 * Replaces the logging producer listener of the kafka binder, so that the delivery latency is recorded from the
+	 * send results of the producer
+	 */
 	@Bean
-	public RegistryEventSink eventSink() {
-		return new KafkaRegistryEventSink();
+	public ProducerListener<Object, Object> producerListener(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		return new DeliveryTimingProducerListener(meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
 	}
 
 }
@@ -24,20 +24,19 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.configuration;
 
-import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
-import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import java.util.List;
+
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.CursorEncodingRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.MongoDbAasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.MongoDbIndexManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.index.Index;
-import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @Configuration
@@ -46,42 +45,11 @@ import org.springframework.scheduling.annotation.EnableAsync;
 public class MongoDbConfiguration {
 
 	@Bean
-	public AasRegistryStorage createStorage(MongoTemplate template) {
-		initializeIndices(template);
+	public AasRegistryStorage createStorage(MongoTemplate template, @Value("${registry.mongodb.search-index-paths:}") List<String> searchIndexPaths) {
+		new MongoDbIndexManager(template, searchIndexPaths).initializeIndices();
 		return new CursorEncodingRegistryStorage(new MongoDbAasRegistryStorage(template));
 	}
 
-	private void initializeIndices(MongoTemplate template) {
-		IndexOperations ops = template.indexOps(AssetAdministrationShellDescriptor.class);
-		initializeGetShellDescriptorsIndices(ops);
-		initializeExtensionIndices(ops);
-	}
-
-	private void initializeGetShellDescriptorsIndices(IndexOperations ops) {
-		initializeSingleAscIndex(ops, AasRegistryPaths.assetKind());
-		initializeSingleAscIndex(ops, AasRegistryPaths.assetType());
-	}
-
-	private void initializeExtensionIndices(IndexOperations ops) {
-		initializeShellExtensionIndices(ops);
-		initializeSubmodelExtensionIndices(ops);
-	}
-
-	private void initializeShellExtensionIndices(IndexOperations ops) {
-		initializeSingleAscIndex(ops, AasRegistryPaths.extensions().name());
-		initializeSingleAscIndex(ops, AasRegistryPaths.extensions().value());	
-	}
-
-	private void initializeSubmodelExtensionIndices(IndexOperations ops) {
-		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().extensions().name());
-		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().extensions().value());
-	}
-	
-	private void initializeSingleAscIndex(IndexOperations ops, String path) {
-		Index smValueIndex = new Index(path, Direction.ASC);
-		ops.ensureIndex(smValueIndex);
-	}
-
 	@Bean
 	public MongoTransactionManager transactionManager(MongoDatabaseFactory dbFactory) {
 		return new MongoTransactionManager(dbFactory);
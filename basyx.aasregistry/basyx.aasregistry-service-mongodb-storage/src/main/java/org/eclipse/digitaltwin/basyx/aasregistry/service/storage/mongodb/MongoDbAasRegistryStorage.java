@@ -35,10 +35,13 @@ import java.util.stream.Collectors;
 
 import javax.validation.Valid;
 
+import org.bson.Document;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest.TotalCountEnum;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorAlreadyExistsException;
@@ -61,8 +64,9 @@ import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
 import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
-import org.springframework.data.mongodb.core.aggregation.MatchOperation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
 import org.springframework.data.mongodb.core.aggregation.SortOperation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -84,6 +88,8 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 	private static final String SUBMODEL_DESCRIPTORS_ID = "submodelDescriptors._id";
 	private static final String ASSET_TYPE = "assetType";
 	private static final String ASSET_KIND = "assetKind";
+	private static final String FACET_HITS = "hits";
+	private static final String FACET_TOTAL = "total";
 
 	private final MongoTemplate template;
 	
@@ -123,6 +129,7 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 
 	private void applyFilter(DescriptorFilter filter, List<AggregationOperation> allAggregations) {
 		Optional<Criteria> filterCriteria = createFilterCriteria(filter);
+		filterCriteria.ifPresent(criteria -> MongoDbIndexManager.logIndexUsage(template, criteria));
 		filterCriteria.map(Aggregation::match).ifPresent(allAggregations::add);
 	}
 	
@@ -312,20 +319,48 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 		ShellDescriptorQuery dQuery = request.getQuery();
 		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(dQuery);
 		Criteria mongoCriteria = qBuilder.buildCriteria(grouped);
-		
-		long total = template.count(Query.query(mongoCriteria), AssetAdministrationShellDescriptor.class);
+		MongoDbIndexManager.logIndexUsage(template, mongoCriteria);
 
-		List<AggregationOperation> aggregationOps = new LinkedList<>();
-		MatchOperation matchOp = Aggregation.match(mongoCriteria);
-		aggregationOps.add(matchOp);
-		qBuilder.withSorting(request.getSortBy(), aggregationOps);
-		qBuilder.withPage(request.getPage(), aggregationOps);
-		qBuilder.withProjection(grouped.getQueriesInsideSubmodel(), aggregationOps);
+		List<AggregationOperation> hitsOps = new LinkedList<>();
+		List<String> searchAfter = ShellDescriptorSearchRequests.getSearchAfter(request);
+		if (searchAfter != null) {
+			// the range is matched inside the hits facet, so that the total still counts all matches
+			qBuilder.withSearchAfterPage(request.getSortBy(), searchAfter, request.getPage(), hitsOps);
+			qBuilder.withProjection(grouped.getQueriesInsideSubmodel(), hitsOps);
+			// the hits start after the given hit, so the page index does not apply
+			return searchPaged(request, new Page(0, request.getPage().getSize()), mongoCriteria, hitsOps, qBuilder);
+		}
+
+		qBuilder.withSorting(request.getSortBy(), hitsOps);
+		qBuilder.withPage(request.getPage(), hitsOps);
+		qBuilder.withProjection(grouped.getQueriesInsideSubmodel(), hitsOps);
+
+		if (request.getPage() == null) {
+			// all matches are returned, so their number is the total
+			List<AggregationOperation> aggregationOps = new LinkedList<>();
+			aggregationOps.add(Aggregation.match(mongoCriteria));
+			aggregationOps.addAll(hitsOps);
+			List<AssetAdministrationShellDescriptor> descriptors = template.aggregate(Aggregation.newAggregation(aggregationOps), AssetAdministrationShellDescriptor.class, AssetAdministrationShellDescriptor.class).getMappedResults();
+			return new ShellDescriptorSearchResponse((long) descriptors.size(), descriptors);
+		}
+		return searchPaged(request, request.getPage(), mongoCriteria, hitsOps, qBuilder);
+	}
+
+	private ShellDescriptorSearchResponse searchPaged(ShellDescriptorSearchRequest request, Page page, Criteria mongoCriteria, List<AggregationOperation> hitsOps, SearchQueryBuilder qBuilder) {
+		List<AggregationOperation> totalOps = new LinkedList<>();
+		if (request.getTotalCount() == TotalCountEnum.ESTIMATED) {
+			qBuilder.withEstimatedTotalLimit(page, totalOps);
+		}
+		totalOps.add(Aggregation.count().as(FACET_TOTAL));
 
-		Aggregation aggregation = Aggregation.newAggregation(aggregationOps);
-		AggregationResults<AssetAdministrationShellDescriptor> results = template.aggregate(aggregation, AssetAdministrationShellDescriptor.class, AssetAdministrationShellDescriptor.class);
+		FacetOperation facetOp = Aggregation.facet(hitsOps.toArray(AggregationOperation[]::new)).as(FACET_HITS).and(totalOps.toArray(AggregationOperation[]::new)).as(FACET_TOTAL);
+		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(mongoCriteria), facetOp);
+		Document result = template.aggregate(aggregation, AssetAdministrationShellDescriptor.class, Document.class).getUniqueMappedResult();
 
-		List<AssetAdministrationShellDescriptor> descriptors = results.getMappedResults();
-		return new ShellDescriptorSearchResponse(total, descriptors);
+		MongoConverter converter = template.getConverter();
+		List<AssetAdministrationShellDescriptor> descriptors = result.getList(FACET_HITS, Document.class).stream().map(doc -> converter.read(AssetAdministrationShellDescriptor.class, doc)).collect(Collectors.toList());
+		List<Document> totals = result.getList(FACET_TOTAL, Document.class);
+		long total = totals.isEmpty() ? 0 : totals.get(0).get(FACET_TOTAL, Number.class).longValue();
+		return new ShellDescriptorSearchResponse(total, descriptors).searchAfter(ShellDescriptorSearchRequests.getNextSearchAfter(request, descriptors));
 	}
 }
\ No newline at end of file
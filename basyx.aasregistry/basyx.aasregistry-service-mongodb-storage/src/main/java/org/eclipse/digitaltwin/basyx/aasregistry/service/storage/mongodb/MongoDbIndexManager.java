@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.UnknownLeafPathException;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.SegmentBlocksBuilder.SegmentBlock;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Creates the indexes of the aas descriptor collection at startup. Besides the
+ * indexes for the fixed access patterns of the storage, an index is created for
+ * each configured search path.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class MongoDbIndexManager {
+
+	private static final String ASSET_KIND = "assetKind";
+	private static final String ASSET_TYPE = "assetType";
+	// mongodb maps all id fields internally to _id
+	private static final String ID = "_id";
+	private static final String SUBMODEL_DESCRIPTORS_ID = "submodelDescriptors._id";
+
+	@NonNull
+	private final MongoTemplate template;
+
+	@NonNull
+	private final List<String> searchPaths;
+
+	public void initializeIndices() {
+		IndexOperations ops = template.indexOps(AssetAdministrationShellDescriptor.class);
+		initializeGetShellDescriptorsIndices(ops);
+		initializeSubmodelIndices(ops);
+		initializeExtensionIndices(ops);
+		initializeSearchPathIndices(ops);
+	}
+
+	private void initializeGetShellDescriptorsIndices(IndexOperations ops) {
+		initializeSingleAscIndex(ops, ASSET_TYPE);
+		// filtered pages are sorted and continued by id, the compound index also
+		// serves filters by assetKind alone as it is its prefix
+		ops.ensureIndex(new Index().on(ASSET_KIND, Direction.ASC).on(ASSET_TYPE, Direction.ASC).on(ID, Direction.ASC));
+	}
+
+	private void initializeSubmodelIndices(IndexOperations ops) {
+		initializeSingleAscIndex(ops, SUBMODEL_DESCRIPTORS_ID);
+	}
+
+	private void initializeExtensionIndices(IndexOperations ops) {
+		initializeSingleAscIndex(ops, AasRegistryPaths.extensions().name());
+		initializeSingleAscIndex(ops, AasRegistryPaths.extensions().value());
+		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().extensions().name());
+		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().extensions().value());
+	}
+
+	private void initializeSearchPathIndices(IndexOperations ops) {
+		for (String eachPath : searchPaths) {
+			if (eachPath.isBlank()) {
+				continue;
+			}
+			try {
+				initializeSingleAscIndex(ops, toIndexPath(eachPath.trim()));
+			} catch (UnknownLeafPathException ex) {
+				log.warn("Skipping index for unknown search path '" + eachPath + "'.");
+			}
+		}
+	}
+
+	/**
+	 * Maps a search path to the dotted field path of the stored documents, e.g.
+	 * <code>submodelDescriptors.id</code> to <code>submodelDescriptors._id</code>
+	 */
+	public static String toIndexPath(String searchPath) {
+		SegmentBlocksBuilder builder = new SegmentBlocksBuilder(new SearchQueryBuilder().getPathMappings());
+		return builder.buildSegmentBlocks(searchPath).stream().map(SegmentBlock::getSegment).collect(Collectors.joining("."));
+	}
+
+	private void initializeSingleAscIndex(IndexOperations ops, String path) {
+		ops.ensureIndex(new Index(path, Direction.ASC));
+	}
+
+	/**
+	 * Logs the winning query plan for the criteria if debug logging is enabled, so
+	 * that missing indexes can be spotted
+	 */
+	public static void logIndexUsage(MongoTemplate template, Criteria criteria) {
+		if (!log.isDebugEnabled()) {
+			return;
+		}
+		String collectionName = template.getCollectionName(AssetAdministrationShellDescriptor.class);
+		Document find = new Document("find", collectionName).append("filter", criteria.getCriteriaObject());
+		Document explained = template.getDb().runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+		Document queryPlanner = explained.get("queryPlanner", Document.class);
+		Object winningPlan = queryPlanner == null ? null : queryPlanner.get("winningPlan");
+		log.debug("Query plan for " + criteria.getCriteriaObject().toJson() + " -> " + (winningPlan instanceof Document ? ((Document) winningPlan).toJson() : winningPlan));
+	}
+}
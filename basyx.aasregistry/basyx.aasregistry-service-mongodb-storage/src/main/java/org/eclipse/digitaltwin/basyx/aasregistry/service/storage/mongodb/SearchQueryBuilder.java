@@ -25,20 +25,18 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.validation.Valid;
-
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
-import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
-import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests.GroupedQueries;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
@@ -51,6 +49,9 @@ import org.springframework.data.mongodb.core.query.Criteria;
 
 public class SearchQueryBuilder {
 
+	// number of matches beyond the requested page that are counted for estimated totals
+	private static final long ESTIMATED_TOTAL_LOOKAHEAD = 1000;
+
 	private final Map<String, String> pathMappings;
 
 	public SearchQueryBuilder() {
@@ -60,6 +61,10 @@ public class SearchQueryBuilder {
 		pathMappings.put(AasRegistryPaths.submodelDescriptors().id(), AasRegistryPaths.submodelDescriptors() + "." + "_id");
 	}
 
+	public Map<String, String> getPathMappings() {
+		return Collections.unmodifiableMap(pathMappings);
+	}
+
 	public Criteria buildCriteria(GroupedQueries grouped) {
 		SearchPathCriteriaBuilder builder = new SearchPathCriteriaBuilder(pathMappings);
 		List<Criteria> criterias = builder.buildCriterias(grouped);
@@ -74,65 +79,62 @@ public class SearchQueryBuilder {
 	}
 
 	public void withSorting(Sorting sorting, List<AggregationOperation> aggregationOps) {
-		if (sorting == null) {
-			withAscendingById(aggregationOps);
-		} else {
-			withSorting(sorting.getPath(), sorting.getDirection(), aggregationOps);
-		}
+		aggregationOps.add(getSort(sorting));
 	}
 
 	public SortOperation getSort(Sorting sorting) {
-		if (sorting == null) {
-			return getAscendingById();
-		} else {
-			return getSort(sorting.getPath(), sorting.getDirection());
+		Direction mongoDirection = ShellDescriptorSearchRequests.isDescending(sorting) ? Direction.DESC : Direction.ASC;
+		List<Order> orderList = new ArrayList<>();
+		for (String eachPath : ShellDescriptorSearchRequests.getSortKeyPaths(sorting)) {
+			orderList.add(new Order(mongoDirection, pathMappings.getOrDefault(eachPath, eachPath)));
 		}
+		return Aggregation.sort(Sort.by(orderList));
 	}
 
-	private void withSorting(List<SortingPath> paths, @Valid SortDirection direction, List<AggregationOperation> aggregationOps) {
-		Direction mongoDirection = mapDirection(direction);
-		List<Order> orderList = new ArrayList<>();
-		if (paths.isEmpty()) {
-			String path = pathMappings.getOrDefault(AasRegistryPaths.id(), AasRegistryPaths.id());
-			aggregationOps.add(Aggregation.sort(mongoDirection, path));
-		} else {
-			for (SortingPath eachPath : paths) {
-				String path = eachPath.toString();
-				path = pathMappings.getOrDefault(path, path);
-				orderList.add(new Order(mongoDirection, path));
+	/**
+	 * Builds range criteria that match all documents sorted after the hit with the given sort values, so that the
+	 * search can continue there without skipping the documents of the previous pages. Missing values sort before all
+	 * strings, but $lt does not match them, so they are matched explicitly in descending order.
+	 */
+	public Criteria buildSearchAfterCriteria(Sorting sorting, List<String> searchAfter) {
+		boolean descending = ShellDescriptorSearchRequests.isDescending(sorting);
+		List<String> paths = ShellDescriptorSearchRequests.getSortKeyPaths(sorting);
+		List<Criteria> alternatives = new ArrayList<>();
+		for (int i = 0; i < paths.size(); i++) {
+			String value = searchAfter.get(i);
+			if (descending && value.isEmpty()) {
+				// nothing sorts after missing values
+				continue;
 			}
-			aggregationOps.add(Aggregation.sort(Sort.by(orderList)));
+			List<Criteria> conjunction = new ArrayList<>();
+			for (int j = 0; j < i; j++) {
+				conjunction.add(equalToSortValue(paths.get(j), searchAfter.get(j)));
+			}
+			conjunction.add(afterSortValue(paths.get(i), value, descending));
+			alternatives.add(conjunction.size() == 1 ? conjunction.get(0) : new Criteria().andOperator(conjunction));
 		}
+		return alternatives.size() == 1 ? alternatives.get(0) : new Criteria().orOperator(alternatives);
 	}
 
-	private SortOperation getSort(List<SortingPath> paths, @Valid SortDirection direction) {
-		Direction mongoDirection = mapDirection(direction);
-		List<Order> orderList = new ArrayList<>();
-		for (SortingPath eachPath : paths) {
-			String path = eachPath.toString();
-			path = pathMappings.getOrDefault(path, path);
-			orderList.add(new Order(mongoDirection, path));
+	private Criteria afterSortValue(String sortPath, String value, boolean descending) {
+		String path = pathMappings.getOrDefault(sortPath, sortPath);
+		if (!descending) {
+			return Criteria.where(path).gt(value);
 		}
-		return Aggregation.sort(Sort.by(orderList));
-	}
-
-	private Direction mapDirection(@Valid SortDirection direction) {
-		if (direction == null || direction == SortDirection.ASC) {
-			return Direction.ASC;
+		if (sortPath.equals(AasRegistryPaths.id())) {
+			// ids are never missing
+			return Criteria.where(path).lt(value);
 		}
-		return Direction.DESC;
-	}
-
-	private void withAscendingById(List<AggregationOperation> aggregationOps) {
-		String idPath = AasRegistryPaths.id();
-		idPath = pathMappings.getOrDefault(idPath, idPath);
-		aggregationOps.add(Aggregation.sort(Direction.ASC, idPath));
+		return new Criteria().orOperator(Criteria.where(path).lt(value), Criteria.where(path).is(null));
 	}
 
-	private SortOperation getAscendingById() {
-		String idPath = AasRegistryPaths.id();
-		idPath = pathMappings.getOrDefault(idPath, idPath);
-		return Aggregation.sort(Direction.ASC, idPath);
+	private Criteria equalToSortValue(String sortPath, String value) {
+		Criteria criteria = Criteria.where(pathMappings.getOrDefault(sortPath, sortPath));
+		if (value.isEmpty()) {
+			// missing values are reported as empty strings
+			return criteria.in(null, "");
+		}
+		return criteria.is(value);
 	}
 
 	public void withPage(Page page, List<AggregationOperation> aggregations) {
@@ -144,6 +146,21 @@ public class SearchQueryBuilder {
 		}
 	}
 
+	/**
+	 * Limits the matches that are counted for an estimated total to the end of the requested page plus a fixed
+	 * lookahead.
+	 */
+	public void withEstimatedTotalLimit(Page page, List<AggregationOperation> aggregations) {
+		long pageEnd = (page.getIndex() + 1L) * page.getSize();
+		aggregations.add(Aggregation.limit(pageEnd + ESTIMATED_TOTAL_LOOKAHEAD));
+	}
+
+	public void withSearchAfterPage(Sorting sorting, List<String> searchAfter, Page page, List<AggregationOperation> aggregations) {
+		aggregations.add(Aggregation.match(buildSearchAfterCriteria(sorting, searchAfter)));
+		aggregations.add(getSort(sorting));
+		aggregations.add(Aggregation.limit(page.getSize()));
+	}
+
 	public void withProjection(List<ShellDescriptorQuery> submodelQueries, List<AggregationOperation> ops) {
 		SearchPathProjectionBuilder projBuilder = new SearchPathProjectionBuilder(pathMappings);
 		Optional<AggregationExpression> filterOpt = projBuilder.buildSubmodelFilter(submodelQueries);
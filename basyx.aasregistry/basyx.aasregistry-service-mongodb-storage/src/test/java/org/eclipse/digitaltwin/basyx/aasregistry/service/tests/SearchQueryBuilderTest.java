@@ -24,14 +24,28 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorPathVisitor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.UnknownLeafPathException;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.MongoDbIndexManager;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.SearchQueryBuilder;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 public class SearchQueryBuilderTest {
 
@@ -85,6 +99,51 @@ public class SearchQueryBuilderTest {
 		Mockito.verify(mvisitor, Mockito.times(1)).endObjectSegment(targetPath, EMPTY_STRING, EMPTY_STRING);
 		Mockito.verifyNoMoreInteractions(mvisitor);	
 	}
-	
-	
+
+	@Test
+	public void testIndexPaths() {
+		assertEquals("_id", MongoDbIndexManager.toIndexPath(AasRegistryPaths.id()));
+		assertEquals("submodelDescriptors._id", MongoDbIndexManager.toIndexPath(AasRegistryPaths.submodelDescriptors().id()));
+		assertEquals("submodelDescriptors.semanticId.keys.value", MongoDbIndexManager.toIndexPath(AasRegistryPaths.submodelDescriptors().semanticId().keys().value()));
+		assertThrows(UnknownLeafPathException.class, () -> MongoDbIndexManager.toIndexPath("unknown"));
+	}
+
+	@Test
+	public void testSearchAfterCriteria() {
+		Sorting sorting = new Sorting(List.of(SortingPath.IDSHORT)).direction(SortDirection.DESC);
+		Criteria criteria = new SearchQueryBuilder().buildSearchAfterCriteria(sorting, List.of("shell", "id1"));
+		Document expected = Document.parse("{ '$or' : [ { '$or' : [ { 'idShort' : { '$lt' : 'shell' } }, { 'idShort' : null } ] }, { '$and' : [ { 'idShort' : 'shell' }, { '_id' : { '$lt' : 'id1' } } ] } ] }");
+		assertEquals(expected, criteria.getCriteriaObject());
+
+		Criteria byId = new SearchQueryBuilder().buildSearchAfterCriteria(null, List.of("id1"));
+		assertEquals(Document.parse("{ '_id' : { '$gt' : 'id1' } }"), byId.getCriteriaObject());
+	}
+
+	@Test
+	public void testSearchAfterCriteriaWithMissingSortValue() {
+		Sorting ascending = new Sorting(List.of(SortingPath.IDSHORT)).direction(SortDirection.ASC);
+		Criteria afterMissingAscending = new SearchQueryBuilder().buildSearchAfterCriteria(ascending, List.of(EMPTY_STRING, "id1"));
+		Document expectedAscending = Document.parse("{ '$or' : [ { 'idShort' : { '$gt' : '' } }, { '$and' : [ { 'idShort' : { '$in' : [ null, '' ] } }, { '_id' : { '$gt' : 'id1' } } ] } ] }");
+		assertEquals(expectedAscending, afterMissingAscending.getCriteriaObject());
+
+		// missing values come last in descending order, so only the remaining hits without a value follow
+		Sorting descending = new Sorting(List.of(SortingPath.IDSHORT)).direction(SortDirection.DESC);
+		Criteria afterMissingDescending = new SearchQueryBuilder().buildSearchAfterCriteria(descending, List.of(EMPTY_STRING, "id1"));
+		Document expectedDescending = Document.parse("{ '$and' : [ { 'idShort' : { '$in' : [ null, '' ] } }, { '_id' : { '$lt' : 'id1' } } ] }");
+		assertEquals(expectedDescending, afterMissingDescending.getCriteriaObject());
+	}
+
+	@Test
+	public void testEstimatedTotalLimitCoversRequestedPage() {
+		assertEquals(1010L, getEstimatedTotalLimit(new Page(0, 10)));
+		assertEquals(1030L, getEstimatedTotalLimit(new Page(2, 10)));
+	}
+
+	private static Object getEstimatedTotalLimit(Page page) {
+		List<AggregationOperation> ops = new ArrayList<>();
+		new SearchQueryBuilder().withEstimatedTotalLimit(page, ops);
+		List<Document> pipeline = Aggregation.newAggregation(ops).toPipeline(Aggregation.DEFAULT_CONTEXT);
+		assertEquals(1, pipeline.size());
+		return pipeline.get(0).get("$limit");
+	}
 }
@@ -29,21 +29,72 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
-import lombok.NonNull;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 
+import lombok.NonNull;
 
+/**
+ * Deep copies of descriptors and their nested models.
+ * 
+ * Model objects are copied field by field using accessors that are resolved
+ * once per class, immutable values are shared and lists are copied element
+ * by element. Values of any other type are copied using java serialization.
+ */
 public class DescriptorCopies {
-	
+
+	private static final String MODEL_PACKAGE = AssetAdministrationShellDescriptor.class.getPackageName();
+
+	private static final Map<Class<?>, ModelCopier> COPIERS = new ConcurrentHashMap<>();
+
 	private DescriptorCopies() {
 		
 	}
 
 	@SuppressWarnings("unchecked")
 	public static <T> T deepClone(@NonNull T toClone) {
+		return (T) copyValue(toClone);
+	}
+
+	/**
+	 * Copies the fields of a model object without copying their values, so that
+	 * nested models are shared between the object and its copy.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T shallowClone(@NonNull T toClone) {
+		ModelCopier copier = getModelCopier(toClone.getClass());
+		if (copier == null) {
+			throw new DeepCopyException("Not a model class: " + toClone.getClass().getName(), null);
+		}
+		return (T) copier.copy(toClone, Function.identity());
+	}
+
+	public static <T> List<T> deepCloneCollection(@NonNull Collection<T> values) {
+		List<T> clonedValues = new ArrayList<>(values.size());
+		for (T eachItem : values) {
+			T clone = deepClone(eachItem);
+			clonedValues.add(clone);
+		}
+		return clonedValues;
+	}
+
+	/**
+	 * Copies the object by serializing and deserializing it. This is the
+	 * reference implementation for {@link #deepClone(Object)} and is used for
+	 * values that are not part of the model.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T deepCloneBySerialization(@NonNull T toClone) {
 		try {
 			ByteArrayOutputStream baos = new ByteArrayOutputStream();
 			ObjectOutputStream oos = new ObjectOutputStream(baos);
@@ -56,13 +107,69 @@ public class DescriptorCopies {
 		}
 	}
 
-	public static <T> List<T> deepCloneCollection(@NonNull Collection<T> values) {
-		List<T> clonedValues = new ArrayList<>(values.size());
-		for (T eachItem : values) {
-			T clone = deepClone(eachItem);
-			clonedValues.add(clone);
+	private static Object copyValue(Object value) {
+		if (value == null || isImmutable(value)) {
+			return value;
+		}
+		if (value instanceof List) {
+			List<?> values = (List<?>) value;
+			List<Object> copy = new ArrayList<>(values.size());
+			for (Object eachValue : values) {
+				copy.add(copyValue(eachValue));
+			}
+			return copy;
+		}
+		ModelCopier copier = getModelCopier(value.getClass());
+		if (copier == null) {
+			return deepCloneBySerialization(value);
+		}
+		return copier.copy(value, DescriptorCopies::copyValue);
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum || value instanceof TemporalAccessor;
+	}
+
+	private static ModelCopier getModelCopier(Class<?> cls) {
+		if (!MODEL_PACKAGE.equals(cls.getPackageName())) {
+			return null;
+		}
+		return COPIERS.computeIfAbsent(cls, ModelCopier::new);
+	}
+
+	private static final class ModelCopier {
+
+		private final Constructor<?> constructor;
+		private final List<Field> fields = new ArrayList<>();
+
+		private ModelCopier(Class<?> cls) {
+			try {
+				constructor = cls.getDeclaredConstructor();
+				constructor.setAccessible(true);
+			} catch (NoSuchMethodException e) {
+				throw new DeepCopyException("Model class without default constructor: " + cls.getName(), e);
+			}
+			for (Class<?> current = cls; current != Object.class; current = current.getSuperclass()) {
+				for (Field eachField : current.getDeclaredFields()) {
+					if (!Modifier.isStatic(eachField.getModifiers())) {
+						eachField.setAccessible(true);
+						fields.add(eachField);
+					}
+				}
+			}
+		}
+
+		private Object copy(Object toCopy, Function<Object, Object> valueCopier) {
+			try {
+				Object copy = constructor.newInstance();
+				for (Field eachField : fields) {
+					eachField.set(copy, valueCopier.apply(eachField.get(toCopy)));
+				}
+				return copy;
+			} catch (ReflectiveOperationException e) {
+				throw new DeepCopyException("Failed to copy " + toCopy.getClass().getName(), e);
+			}
 		}
-		return clonedValues;
 	}
 
 	private static class DeepCopyException extends RuntimeException {
@@ -73,4 +180,4 @@ public class DescriptorCopies {
 			super(msg, e);
 		}
 	}
-}
\ No newline at end of file
+}
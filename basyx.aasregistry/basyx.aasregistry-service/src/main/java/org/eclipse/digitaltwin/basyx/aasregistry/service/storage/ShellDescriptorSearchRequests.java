@@ -26,9 +26,18 @@ package org.eclipse.digitaltwin.basyx.aasregistry.service.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SearchAfterInvalidException;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -37,6 +46,15 @@ import lombok.RequiredArgsConstructor;
 
 public class ShellDescriptorSearchRequests {
 
+	/**
+	 * Paths that resolve to at most one value per descriptor. Paths inside lists like submodelDescriptors.idShort
+	 * resolve to several values. Mongo sorts them by their min or max value, so they cannot define a searchAfter
+	 * position that all storages agree on. The assetKind is not included, because it is reported by its value like
+	 * 'Instance', but stored by its name like 'INSTANCE', so that its sort values are not comparable to stored values.
+	 */
+	private static final Set<String> SINGLE_VALUED_PATHS = Set.of(AasRegistryPaths.id(), AasRegistryPaths.idShort(), AasRegistryPaths.assetType(),
+			AasRegistryPaths.globalAssetId(), AasRegistryPaths.administration().version(), AasRegistryPaths.administration().revision());
+
 	private ShellDescriptorSearchRequests() {
 	}
 
@@ -53,8 +71,98 @@ public class ShellDescriptorSearchRequests {
 		}
 		return new GroupedQueries(rootQueries, submodelQueries);
 	}
+
+	/**
+	 * Returns the paths that define the order of search hits. The id is always the last path so that the order is
+	 * total and a hit can be identified by its sort values.
+	 */
+	public static List<String> getSortKeyPaths(Sorting sorting) {
+		List<String> paths = new ArrayList<>();
+		if (sorting != null) {
+			for (SortingPath eachPath : sorting.getPath()) {
+				paths.add(eachPath.toString()); // toString returns the path
+			}
+		}
+		String idPath = AasRegistryPaths.id();
+		if (!paths.contains(idPath)) {
+			paths.add(idPath);
+		}
+		return paths;
+	}
+
+	public static boolean isSingleValuedPath(String path) {
+		return SINGLE_VALUED_PATHS.contains(path);
+	}
+
+	public static boolean isDescending(Sorting sorting) {
+		return sorting != null && sorting.getDirection() == SortDirection.DESC;
+	}
+
+	/**
+	 * Returns the validated searchAfter values of the request or null if the request does not continue after a hit.
+	 */
+	public static List<String> getSearchAfter(ShellDescriptorSearchRequest request) {
+		List<String> searchAfter = request.getSearchAfter();
+		if (searchAfter == null || searchAfter.isEmpty()) {
+			return null;
+		}
+		if (request.getPage() == null) {
+			throw new SearchAfterInvalidException("A page is required to define the number of hits.");
+		}
+		List<String> sortKeyPaths = getSortKeyPaths(request.getSortBy());
+		for (String eachPath : sortKeyPaths) {
+			if (!isSingleValuedPath(eachPath)) {
+				throw new SearchAfterInvalidException("The sort path '" + eachPath + "' can resolve to several values and does not support searchAfter.");
+			}
+		}
+		int expectedSize = sortKeyPaths.size();
+		if (searchAfter.size() != expectedSize || searchAfter.contains(null)) {
+			throw new SearchAfterInvalidException("Expected " + expectedSize + " non-null values matching the sort paths followed by the id.");
+		}
+		return searchAfter;
+	}
+
+	/**
+	 * Resolves the values of a descriptor for the sort key paths. Missing values are resolved as empty strings.
+	 */
+	public static List<String> getSortValues(AssetAdministrationShellDescriptor descriptor, List<String> sortKeyPaths) {
+		List<String> values = new ArrayList<>(sortKeyPaths.size());
+		for (String eachPath : sortKeyPaths) {
+			FirstValueVisitor visitor = new FirstValueVisitor();
+			AasRegistryPathProcessor.compile(eachPath).visitValues(descriptor, visitor);
+			values.add(visitor.value);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the sort values of the last hit if the page is full, so that the client can continue after it. Returns
+	 * null if a sort path can resolve to several values.
+	 */
+	public static List<String> getNextSearchAfter(ShellDescriptorSearchRequest request, List<AssetAdministrationShellDescriptor> hits) {
+		if (request.getPage() == null || hits.isEmpty() || hits.size() < request.getPage().getSize()) {
+			return null;
+		}
+		List<String> sortKeyPaths = getSortKeyPaths(request.getSortBy());
+		if (!sortKeyPaths.stream().allMatch(ShellDescriptorSearchRequests::isSingleValuedPath)) {
+			return null;
+		}
+		return getSortValues(hits.get(hits.size() - 1), sortKeyPaths);
+	}
 	
 	
+	private static final class FirstValueVisitor implements AssetAdministrationShellDescriptorVisitor {
+
+		private String value = "";
+
+		@Override
+		public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
+			if (this.value.isEmpty() && value != null) {
+				this.value = value;
+			}
+		}
+	}
+
 	@Getter
 	@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 	public static class GroupedQueries {
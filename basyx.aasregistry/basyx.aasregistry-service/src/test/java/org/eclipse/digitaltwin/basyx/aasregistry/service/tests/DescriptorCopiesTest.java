@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.DataSpecificationIec61360;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Endpoint;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Extension;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.KeyTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.LangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.LangStringTextType;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ProtocolInformation;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ReferenceTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SpecificAssetId;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorCopies;
+import org.junit.jupiter.api.Test;
+
+public class DescriptorCopiesTest {
+
+	@Test
+	public void whenDescriptorIsCopied_thenCopyEqualsSerializedCopy() {
+		AssetAdministrationShellDescriptor descriptor = newDescriptor("aas");
+
+		AssetAdministrationShellDescriptor copy = DescriptorCopies.deepClone(descriptor);
+
+		assertThat(copy).isEqualTo(descriptor).isEqualTo(DescriptorCopies.deepCloneBySerialization(descriptor)).isNotSameAs(descriptor);
+	}
+
+	@Test
+	public void whenCopyIsModified_thenOriginalIsUnchanged() {
+		AssetAdministrationShellDescriptor descriptor = newDescriptor("aas");
+		AssetAdministrationShellDescriptor copy = DescriptorCopies.deepClone(descriptor);
+
+		copy.getSubmodelDescriptors().get(0).getSemanticId().getKeys().get(0).setValue("changed");
+		copy.getSubmodelDescriptors().add(new SubmodelDescriptor("sm2", List.of()));
+		((DataSpecificationIec61360) copy.getAdministration().getEmbeddedDataSpecifications().get(0).getDataSpecificationContent()).setUnit("changed");
+
+		assertThat(descriptor.getSubmodelDescriptors()).hasSize(1);
+		assertThat(descriptor.getSubmodelDescriptors().get(0).getSemanticId().getKeys().get(0).getValue()).isEqualTo("semanticId");
+		assertThat(((DataSpecificationIec61360) descriptor.getAdministration().getEmbeddedDataSpecifications().get(0).getDataSpecificationContent()).getUnit()).isEqualTo("unit");
+	}
+
+	@Test
+	public void whenCollectionIsCopied_thenEachItemIsCopied() {
+		List<AssetAdministrationShellDescriptor> descriptors = List.of(newDescriptor("aas1"), newDescriptor("aas2"));
+
+		List<AssetAdministrationShellDescriptor> copies = DescriptorCopies.deepCloneCollection(descriptors);
+
+		assertThat(copies).isEqualTo(descriptors);
+		assertThat(copies.get(0)).isNotSameAs(descriptors.get(0));
+	}
+
+	@Test
+	public void whenDescriptorIsShallowCopied_thenNestedModelsAreShared() {
+		AssetAdministrationShellDescriptor descriptor = newDescriptor("aas");
+
+		AssetAdministrationShellDescriptor copy = DescriptorCopies.shallowClone(descriptor);
+		copy.setIdShort("changed");
+
+		assertThat(descriptor.getIdShort()).isEqualTo("shell");
+		assertThat(copy.getSubmodelDescriptors()).isSameAs(descriptor.getSubmodelDescriptors());
+		assertThat(copy.getAdministration()).isSameAs(descriptor.getAdministration());
+	}
+
+	private static AssetAdministrationShellDescriptor newDescriptor(String id) {
+		Reference semanticId = new Reference(ReferenceTypes.EXTERNALREFERENCE, List.of(new Key(KeyTypes.GLOBALREFERENCE, "semanticId")));
+		Endpoint endpoint = new Endpoint("AAS-3.0", new ProtocolInformation("http://localhost:8081/shells/" + id).addEndpointProtocolVersionItem("1.1"));
+		DataSpecificationIec61360 content = new DataSpecificationIec61360(List.of(new LangStringPreferredNameTypeIec61360("en", "name")), "DataSpecificationIec61360").unit("unit");
+		AdministrativeInformation administration = new AdministrativeInformation().version("1").revision("0")
+				.addEmbeddedDataSpecificationsItem(new EmbeddedDataSpecification(semanticId, content));
+		SubmodelDescriptor submodel = new SubmodelDescriptor("sm-" + id, List.of(endpoint)).idShort("submodel").semanticId(semanticId)
+				.addDescriptionItem(new LangStringTextType("en", "a submodel"));
+		return new AssetAdministrationShellDescriptor(id).idShort("shell").assetKind(AssetKind.INSTANCE).administration(administration)
+				.addEndpointsItem(endpoint).addExtensionsItem(new Extension("tag").value("value"))
+				.addSpecificAssetIdsItem(new SpecificAssetId("serial", "1234").externalSubjectId(semanticId))
+				.addSubmodelDescriptorsItem(submodel);
+	}
+}
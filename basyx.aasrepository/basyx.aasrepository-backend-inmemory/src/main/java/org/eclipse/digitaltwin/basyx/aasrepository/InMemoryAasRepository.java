@@ -24,20 +24,29 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.index.InvertedIdIndex;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
@@ -50,7 +59,14 @@ import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
  */
 public class InMemoryAasRepository implements AasRepository {
 
-	private Map<String, AasService> aasServices = new LinkedHashMap<>();
+	private static final String ID_SHORT_FIELD = "idShort";
+	private static final String ASSET_ID_FIELD = "assetId";
+
+	private ConcurrentNavigableMap<String, AasService> aasServices = new ConcurrentSkipListMap<>();
+
+	private final InvertedIdIndex<AssetAdministrationShell> aasIndex = new InvertedIdIndex<>(AssetAdministrationShell::getId)
+			.withField(ID_SHORT_FIELD, aas -> aas.getIdShort() == null ? Collections.emptySet() : Collections.singleton(aas.getIdShort()))
+			.withField(ASSET_ID_FIELD, aas -> getAssetIdKeys(aas.getAssetInformation()));
 
 	private AasServiceFactory aasServiceFactory;
 	
@@ -79,17 +95,77 @@ public class InMemoryAasRepository implements AasRepository {
 
 	@Override
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
-		List<AssetAdministrationShell> allAas = aasServices.values()
+		return getPaged(aasServices, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		if ((assetIds == null || assetIds.isEmpty()) && (idShort == null || idShort.isEmpty())) {
+			return getAllAas(pInfo);
+		}
+
+		Map<String, Set<?>> requiredKeys = new HashMap<>();
+		if (idShort != null && !idShort.isEmpty()) {
+			requiredKeys.put(ID_SHORT_FIELD, Collections.singleton(idShort));
+		}
+		if (assetIds != null && !assetIds.isEmpty()) {
+			requiredKeys.put(ASSET_ID_FIELD, toAssetIdKeys(assetIds));
+		}
+
+		NavigableMap<String, AasService> matchingServices = new TreeMap<>();
+		for (String aasId : aasIndex.findIds(requiredKeys)) {
+			AasService service = aasServices.get(aasId);
+			// verifies the index hit against a concurrently updated AAS
+			if (service != null && matches(service.getAAS(), assetIds, idShort)) {
+				matchingServices.put(aasId, service);
+			}
+		}
+		return getPaged(matchingServices, pInfo);
+	}
+
+	private static boolean matches(AssetAdministrationShell aas, List<SpecificAssetID> assetIds, String idShort) {
+		if (idShort != null && !idShort.isEmpty() && !idShort.equals(aas.getIdShort())) {
+			return false;
+		}
+		return assetIds == null || getAssetIdKeys(aas.getAssetInformation()).containsAll(toAssetIdKeys(assetIds));
+	}
+
+	/**
+	 * Returns the name and value of each asset id of the passed asset
+	 * information, the global asset id is named {@link AasRepository#GLOBAL_ASSET_ID_NAME}
+	 */
+	private static Set<List<String>> getAssetIdKeys(AssetInformation assetInformation) {
+		Set<List<String>> keys = new HashSet<>();
+		if (assetInformation == null) {
+			return keys;
+		}
+		if (assetInformation.getGlobalAssetID() != null) {
+			keys.add(Arrays.asList(AasRepository.GLOBAL_ASSET_ID_NAME, assetInformation.getGlobalAssetID()));
+		}
+		if (assetInformation.getSpecificAssetIds() != null) {
+			keys.addAll(toAssetIdKeys(assetInformation.getSpecificAssetIds()));
+		}
+		return keys;
+	}
+
+	private static Set<List<String>> toAssetIdKeys(List<SpecificAssetID> assetIds) {
+		Set<List<String>> keys = new HashSet<>();
+		for (SpecificAssetID eachAssetId : assetIds) {
+			keys.add(Arrays.asList(eachAssetId.getName(), eachAssetId.getValue()));
+		}
+		return keys;
+	}
+
+	private CursorResult<List<AssetAdministrationShell>> getPaged(NavigableMap<String, AasService> services, PaginationInfo pInfo) {
+		PaginationSupport<AasService> paginationSupport = new PaginationSupport<>(services, service -> service.getAAS().getId());
+		CursorResult<List<AasService>> paginatedServices = paginationSupport.getPaged(pInfo);
+
+		List<AssetAdministrationShell> paginatedAAS = paginatedServices.getResult()
 				.stream()
 				.map(AasService::getAAS)
 				.collect(Collectors.toList());
 
-		TreeMap<String, AssetAdministrationShell> aasMap = allAas.stream()
-				.collect(Collectors.toMap(AssetAdministrationShell::getId, aas -> aas, (a, b) -> a, TreeMap::new));
-
-		PaginationSupport<AssetAdministrationShell> paginationSupport = new PaginationSupport<>(aasMap, AssetAdministrationShell::getId);
-		CursorResult<List<AssetAdministrationShell>> paginatedAAS = paginationSupport.getPaged(pInfo);
-		return paginatedAAS;
+		return new CursorResult<>(paginatedServices.getCursor(), paginatedAAS);
 	}
 
 	@Override
@@ -105,6 +181,7 @@ public class InMemoryAasRepository implements AasRepository {
 		throwIfAasExists(aas);
 
 		aasServices.put(aas.getId(), aasServiceFactory.create(aas));
+		aasIndex.index(aas);
 	}
 
 	@Override
@@ -112,6 +189,7 @@ public class InMemoryAasRepository implements AasRepository {
 		throwIfAasDoesNotExist(aasId);
 
 		aasServices.remove(aasId);
+		aasIndex.remove(aasId);
 	}
 
 	@Override
@@ -121,6 +199,7 @@ public class InMemoryAasRepository implements AasRepository {
 		throwIfMismatchingIds(aasId, aas);
 
 		aasServices.put(aasId, aasServiceFactory.create(aas));
+		aasIndex.index(aas);
 	}
 
 	private void throwIfAasExists(AssetAdministrationShell aas) {
@@ -161,9 +240,10 @@ public class InMemoryAasRepository implements AasRepository {
 	@Override
 	public void setAssetInformation(String aasId, AssetInformation aasInfo) throws ElementDoesNotExistException {
 		throwIfAasDoesNotExist(aasId);
-		aasServices.get(aasId)
-				.getAAS()
-				.setAssetInformation(aasInfo);
+		AssetAdministrationShell aas = aasServices.get(aasId)
+				.getAAS();
+		aas.setAssetInformation(aasInfo);
+		aasIndex.index(aas);
 	}
 
 	@Override
@@ -23,12 +23,15 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
@@ -36,6 +39,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -55,6 +59,9 @@ import com.mongodb.client.result.DeleteResult;
 public class MongoDBAasRepository implements AasRepository {
 	private static String IDJSONPATH = "id";
 	private static final String ID = "_id";
+	private static final String IDSHORTJSONPATH = "idShort";
+	private static final String GLOBALASSETIDJSONPATH = "assetInformation.globalAssetID";
+	private static final String SPECIFICASSETIDSJSONPATH = "assetInformation.specificAssetIds";
 	private MongoTemplate mongoTemplate;
 	private String collectionName;
 	private AasServiceFactory aasServiceFactory;
@@ -65,6 +72,7 @@ public class MongoDBAasRepository implements AasRepository {
 		this.collectionName = collectionName;
 		this.aasServiceFactory = aasServiceFactory;
 		configureIndexForAasId(mongoTemplate);
+		configureIndexesForAasFilters(mongoTemplate);
 	}
 	
 	public MongoDBAasRepository(MongoTemplate mongoTemplate, String collectionName, AasServiceFactory aasServiceFactory, String aasRepositoryName) {
@@ -77,6 +85,12 @@ public class MongoDBAasRepository implements AasRepository {
 		mongoTemplate.indexOps(AssetAdministrationShell.class).ensureIndex(idIndex);
 	}
 
+	private void configureIndexesForAasFilters(MongoTemplate mongoTemplate) {
+		mongoTemplate.indexOps(collectionName).ensureIndex(new Index().on(IDSHORTJSONPATH, Direction.ASC));
+		mongoTemplate.indexOps(collectionName).ensureIndex(new Index().on(GLOBALASSETIDJSONPATH, Direction.ASC));
+		mongoTemplate.indexOps(collectionName).ensureIndex(new Index().on(SPECIFICASSETIDSJSONPATH + ".name", Direction.ASC).on(SPECIFICASSETIDSJSONPATH + ".value", Direction.ASC));
+	}
+
 	@Override
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
 		Query query = new Query();
@@ -89,6 +103,30 @@ public class MongoDBAasRepository implements AasRepository {
 		return new CursorResult<List<AssetAdministrationShell>>(cursor, foundDescriptors);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		Query query = new Query();
+		applyFilters(query, assetIds, idShort);
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+		List<AssetAdministrationShell> foundDescriptors = mongoTemplate.find(query, AssetAdministrationShell.class, collectionName);
+
+		String cursor = resolveCursor(pInfo, foundDescriptors, AssetAdministrationShell::getId);
+		return new CursorResult<List<AssetAdministrationShell>>(cursor, foundDescriptors);
+	}
+
+	@Override
+	public StreamedCursorResult<AssetAdministrationShell> streamAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		Query query = new Query();
+		applyFilters(query, assetIds, idShort);
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+		Stream<AssetAdministrationShell> foundDescriptors = mongoTemplate.stream(query, AssetAdministrationShell.class, collectionName)
+				.stream();
+
+		return new StreamedCursorResult<>(foundDescriptors, pInfo, AssetAdministrationShell::getId);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		AssetAdministrationShell aas = mongoTemplate.findOne(new Query().addCriteria(Criteria.where(IDJSONPATH)
@@ -124,12 +162,11 @@ public class MongoDBAasRepository implements AasRepository {
 		Query query = new Query().addCriteria(Criteria.where(IDJSONPATH)
 				.is(aasId));
 
-		throwIfAasDoesNotExist(query, aasId);
-
-		throwIfMismatchingIds(aasId, aas);
+		throwIfMismatchingIds(query, aasId, aas);
 
-		mongoTemplate.remove(query, AssetAdministrationShell.class, collectionName);
-		mongoTemplate.save(aas, collectionName);
+		query.fields().include(ID);
+		if (mongoTemplate.findAndReplace(query, aas, collectionName) == null)
+			throw new ElementDoesNotExistException(aasId);
 	}
 
 	@Override
@@ -184,11 +221,15 @@ public class MongoDBAasRepository implements AasRepository {
 			throw new ElementDoesNotExistException(aasId);
 	}
 
-	private void throwIfMismatchingIds(String aasId, AssetAdministrationShell newAas) {
+	private void throwIfMismatchingIds(Query query, String aasId, AssetAdministrationShell newAas) {
 		String newAasId = newAas.getId();
 
-		if (!aasId.equals(newAasId))
-			throw new IdentificationMismatchException();
+		if (aasId.equals(newAasId))
+			return;
+
+		// A non-existing AAS is reported in favor of the mismatch
+		throwIfAasDoesNotExist(query, aasId);
+		throw new IdentificationMismatchException();
 	}
 
 	private <T> String resolveCursor(PaginationInfo pRequest, List<T> foundDescriptors,
@@ -200,6 +241,31 @@ public class MongoDBAasRepository implements AasRepository {
 		return idResolver.apply(last);
 	}
 
+	private void applyFilters(Query query, List<SpecificAssetID> assetIds, String idShort) {
+		List<Criteria> filters = new ArrayList<>();
+		if (idShort != null && !idShort.isEmpty()) {
+			filters.add(Criteria.where(IDSHORTJSONPATH).is(idShort));
+		}
+		if (assetIds != null) {
+			for (SpecificAssetID eachAssetId : assetIds) {
+				filters.add(createAssetIdCriteria(eachAssetId));
+			}
+		}
+		if (filters.size() == 1) {
+			query.addCriteria(filters.get(0));
+		} else if (!filters.isEmpty()) {
+			query.addCriteria(new Criteria().andOperator(filters));
+		}
+	}
+
+	private Criteria createAssetIdCriteria(SpecificAssetID assetId) {
+		Criteria specificAssetIdCriteria = Criteria.where(SPECIFICASSETIDSJSONPATH).elemMatch(Criteria.where("name").is(assetId.getName()).and("value").is(assetId.getValue()));
+		if (!AasRepository.GLOBAL_ASSET_ID_NAME.equals(assetId.getName())) {
+			return specificAssetIdCriteria;
+		}
+		return new Criteria().orOperator(Criteria.where(GLOBALASSETIDJSONPATH).is(assetId.getValue()), specificAssetIdCriteria);
+	}
+
 	private void applySorting(Query query, PaginationInfo pInfo) {
 		query.with(Sort.by(Direction.ASC, ID));
 	}
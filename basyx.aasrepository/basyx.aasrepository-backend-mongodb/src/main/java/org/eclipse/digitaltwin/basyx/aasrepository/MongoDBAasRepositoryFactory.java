@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -41,6 +42,8 @@ import org.springframework.stereotype.Component;
 @ConditionalOnExpression("'${basyx.backend}'.equals('MongoDB')")
 public class MongoDBAasRepositoryFactory implements AasRepositoryFactory {
 	private MongoTemplate mongoTemplate;
+	private String writeConcern;
+	private String readPreference;
 	private String collectionName;
 	private AasServiceFactory aasServiceFactory;
 	
@@ -63,8 +66,23 @@ public class MongoDBAasRepositoryFactory implements AasRepositoryFactory {
 		this.aasRepositoryName = aasRepositoryName;
 	}
 
+	/**
+	 * Configures the write concern and the read preference used for accessing the
+	 * collection, e.g. <i>MAJORITY</i> and <i>primaryPreferred</i>. Empty values
+	 * keep the defaults of the MongoDB connection.
+	 * 
+	 * @param writeConcern
+	 * @param readPreference
+	 */
+	@Autowired
+	public void setConsistencySettings(@Value("${basyx.aasrepository.mongodb.writeConcern:}") String writeConcern,
+			@Value("${basyx.aasrepository.mongodb.readPreference:}") String readPreference) {
+		this.writeConcern = writeConcern;
+		this.readPreference = readPreference;
+	}
+
 	@Override
 	public AasRepository create() {
-		return new MongoDBAasRepository(mongoTemplate, collectionName, aasServiceFactory, aasRepositoryName);
+		return new MongoDBAasRepository(MongoDBUtilities.withConsistencySettings(mongoTemplate, writeConcern, readPreference), collectionName, aasServiceFactory, aasRepositoryName);
 	}
 }
@@ -29,10 +29,12 @@ import java.util.List;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 
 /**
  * Specifies the overall AasRepository API
@@ -49,6 +51,42 @@ public interface AasRepository {
 	 */
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo);
 
+	/**
+	 * Name of the specific asset id that matches the global asset id of an AAS
+	 */
+	public static final String GLOBAL_ASSET_ID_NAME = "globalAssetId";
+
+	/**
+	 * Retrieves all Asset Administration Shells matching the passed filters from
+	 * the repository
+	 * 
+	 * @param assetIds
+	 *            the asset ids each returned AAS has to contain. An asset id named
+	 *            {@value #GLOBAL_ASSET_ID_NAME} is matched against the global asset
+	 *            id. Not applied if null or empty
+	 * @param idShort
+	 *            the idShort of the returned AAS. Not applied if null or empty
+	 * @return a list of all matching Asset Administration Shells
+	 */
+	public CursorResult<List<AssetAdministrationShell>> getAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo);
+
+	/**
+	 * Retrieves all Asset Administration Shells matching the passed filters from
+	 * the repository as lazily consumable Stream, e.g., on top of a database
+	 * cursor. The returned result has to be closed after it has been consumed.
+	 * 
+	 * @param assetIds
+	 *            the asset ids each returned AAS has to contain. Not applied if
+	 *            null or empty
+	 * @param idShort
+	 *            the idShort of the returned AAS. Not applied if null or empty
+	 * @return the page of all matching Asset Administration Shells
+	 * @see #getAllAas(List, String, PaginationInfo)
+	 */
+	public default StreamedCursorResult<AssetAdministrationShell> streamAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		return StreamedCursorResult.of(getAllAas(assetIds, idShort, pInfo));
+	}
+
 	/**
 	 * Retrieves a specific AAS
 	 * 
@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
@@ -40,10 +41,12 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetID;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
@@ -263,6 +266,52 @@ public abstract class AasRepositorySuite {
 				.getId());
 	}
 
+	@Test
+	public void getAllAasFilteredByAssetIdsAndIdShort() {
+		SpecificAssetID serialNumber = new DefaultSpecificAssetID.Builder().name("serialNumber")
+				.value("1234")
+				.build();
+		AssetAdministrationShell motor = new DefaultAssetAdministrationShell.Builder().id("motor")
+				.idShort("Motor")
+				.assetInformation(new DefaultAssetInformation.Builder().assetKind(AssetKind.INSTANCE)
+						.globalAssetID("motorAsset")
+						.specificAssetIds(List.of(serialNumber))
+						.build())
+				.build();
+		aasRepo.createAas(motor);
+
+		assertEquals(List.of("motor"), getFilteredAasIds(List.of(serialNumber), null, noLimitPaginationInfo));
+		assertEquals(List.of("motor"), getFilteredAasIds(List.of(createGlobalAssetId("motorAsset"), serialNumber), "Motor", noLimitPaginationInfo));
+		assertEquals(List.of(), getFilteredAasIds(List.of(serialNumber), "Pump", noLimitPaginationInfo));
+		assertEquals(List.of(AAS2), getFilteredAasIds(List.of(createGlobalAssetId("assetIDTestKey")), null, noLimitPaginationInfo));
+
+		aasRepo.setAssetInformation("motor", createDummyAssetInformation());
+		assertEquals(List.of(), getFilteredAasIds(List.of(serialNumber), null, noLimitPaginationInfo));
+
+		CursorResult<List<AssetAdministrationShell>> firstPage = aasRepo.getAllAas(List.of(createGlobalAssetId("assetIDTestKey")), null, new PaginationInfo(1, null));
+		assertEquals(AAS2, firstPage.getResult()
+				.get(0)
+				.getId());
+		assertEquals(List.of("motor"), getFilteredAasIds(List.of(createGlobalAssetId("assetIDTestKey")), null, new PaginationInfo(1, firstPage.getCursor())));
+
+		aasRepo.deleteAas("motor");
+		assertEquals(List.of(), getFilteredAasIds(null, "Motor", noLimitPaginationInfo));
+	}
+
+	private List<String> getFilteredAasIds(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		return aasRepo.getAllAas(assetIds, idShort, pInfo)
+				.getResult()
+				.stream()
+				.map(AssetAdministrationShell::getId)
+				.collect(Collectors.toList());
+	}
+
+	private static SpecificAssetID createGlobalAssetId(String value) {
+		return new DefaultSpecificAssetID.Builder().name(AasRepository.GLOBAL_ASSET_ID_NAME)
+				.value(value)
+				.build();
+	}
+
 	@Test
 	public void getPaginatedSubmodelReferencesPaginated() {
 		List<Reference> submodelReferences = createDummyReferences();
@@ -31,17 +31,14 @@ import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttException;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
-import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 
 /**
  * Observer for the AASAggregator that triggers MQTT events for different
@@ -51,17 +48,17 @@ import org.slf4j.LoggerFactory;
  *
  */
 public class MqttAasRepository implements AasRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttAasRepository.class);
+	private static final JsonSerializer SERIALIZER = new JsonSerializer();
 	private MqttAasRepositoryTopicFactory topicFactory;
 
 	private AasRepository decorated;
 
-	private IMqttClient mqttClient;
+	private AsyncMqttPublisher publisher;
 
-	public MqttAasRepository(AasRepository decorated, IMqttClient mqttClient, MqttAasRepositoryTopicFactory topicFactory) {
+	public MqttAasRepository(AasRepository decorated, AsyncMqttPublisher publisher, MqttAasRepositoryTopicFactory topicFactory) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.publisher = publisher;
 	}
 
 	@Override
@@ -69,6 +66,16 @@ public class MqttAasRepository implements AasRepository {
 		return decorated.getAllAas(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		return decorated.getAllAas(assetIds, idShort, pInfo);
+	}
+
+	@Override
+	public StreamedCursorResult<AssetAdministrationShell> streamAllAas(List<SpecificAssetID> assetIds, String idShort, PaginationInfo pInfo) {
+		return decorated.streamAllAas(assetIds, idShort, pInfo);
+	}
+
 	@Override
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
 		return decorated.getAas(aasId);
@@ -137,14 +144,14 @@ public class MqttAasRepository implements AasRepository {
 
 	private String serializePayload(AssetAdministrationShell shell) {
 		try {
-			return new JsonSerializer().write(shell);
+			return SERIALIZER.write(shell);
 		} catch (SerializationException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
 	/**
-	 * Sends MQTT message to connected broker
+	 * Enqueues MQTT message for publishing to the connected broker
 	 * 
 	 * @param topic
 	 *            in which the message will be published
@@ -152,24 +159,7 @@ public class MqttAasRepository implements AasRepository {
 	 *            the actual message
 	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttMessage msg = createMqttMessage(payload);
-
-		try {
-			logger.debug("Send MQTT message to " + topic + ": " + payload);
-			mqttClient.publish(topic, msg);
-		} catch (MqttPersistenceException e) {
-			logger.error("Could not persist mqtt message", e);
-		} catch (MqttException e) {
-			logger.error("Could not send mqtt message", e);
-		}
-	}
-
-	private MqttMessage createMqttMessage(String payload) {
-		if (payload == null) {
-			return new MqttMessage();
-		} else {
-			return new MqttMessage(payload.getBytes());
-		}
+		publisher.publish(topic, payload);
 	}
 
 }
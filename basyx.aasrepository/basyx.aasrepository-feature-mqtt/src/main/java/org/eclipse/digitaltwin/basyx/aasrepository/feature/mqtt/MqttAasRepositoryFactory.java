@@ -28,23 +28,23 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 
 public class MqttAasRepositoryFactory implements AasRepositoryFactory {
 
 	private AasRepositoryFactory decorated;
-	private IMqttClient client;
+	private AsyncMqttPublisher publisher;
 	private MqttAasRepositoryTopicFactory topicFactory;
 
-	public MqttAasRepositoryFactory(AasRepositoryFactory decorated, IMqttClient client, MqttAasRepositoryTopicFactory topicFactory) {
+	public MqttAasRepositoryFactory(AasRepositoryFactory decorated, AsyncMqttPublisher publisher, MqttAasRepositoryTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.publisher = publisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public AasRepository create() {
-		return new MqttAasRepository(decorated.create(), client, topicFactory);
+		return new MqttAasRepository(decorated.create(), publisher, topicFactory);
 	}
 
 }
@@ -29,7 +29,7 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.AasRepositoryFeature;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.URLEncoder;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -43,16 +43,16 @@ public class MqttAasRepositoryFeature implements AasRepositoryFeature {
 	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 	private boolean enabled;
 
-	private IMqttClient mqttClient;
+	private AsyncMqttPublisher publisher;
 
 	@Autowired
-	public MqttAasRepositoryFeature(IMqttClient mqttClient) {
-		this.mqttClient = mqttClient;
+	public MqttAasRepositoryFeature(AsyncMqttPublisher publisher) {
+		this.publisher = publisher;
 	}
 
 	@Override
 	public AasRepositoryFactory decorate(AasRepositoryFactory aasServiceFactory) {
-		return new MqttAasRepositoryFactory(aasServiceFactory, mqttClient, new MqttAasRepositoryTopicFactory(new URLEncoder()));
+		return new MqttAasRepositoryFactory(aasServiceFactory, publisher, new MqttAasRepositoryTopicFactory(new URLEncoder()));
 	}
 
 	@Override
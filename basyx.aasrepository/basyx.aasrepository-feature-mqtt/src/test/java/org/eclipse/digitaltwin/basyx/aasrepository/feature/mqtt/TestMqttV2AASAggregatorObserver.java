@@ -26,10 +26,12 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
  ******************************************************************************/
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
@@ -44,6 +46,7 @@ import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactor
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.URLEncoder;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttSecurityException;
@@ -67,6 +70,7 @@ public class TestMqttV2AASAggregatorObserver {
 	private static Server mqttBroker;
 	private static MqttClient mqttClient;
 	private static MqttTestListener listener;
+	private static AsyncMqttPublisher publisher;
 	private static MqttAasRepositoryTopicFactory topicFactory = new MqttAasRepositoryTopicFactory(new Base64URLEncoder());
 
 	private static AasRepository aasRepository;
@@ -79,11 +83,13 @@ public class TestMqttV2AASAggregatorObserver {
 
 		mqttClient = createAndConnectClient();
 
-		aasRepository = createMqttAasRepository(mqttClient);
+		publisher = new AsyncMqttPublisher(mqttClient);
+		aasRepository = createMqttAasRepository(publisher);
 	}
 
 	@AfterClass
 	public static void tearDownClass() {
+		publisher.close();
 		mqttBroker.removeInterceptHandler(listener);
 		mqttBroker.stopServer();
 	}
@@ -93,6 +99,8 @@ public class TestMqttV2AASAggregatorObserver {
 		AssetAdministrationShell shell = createAasDummy("createAasEventId");
 		aasRepository.createAas(shell);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createCreateAASTopic(aasRepository.getName()), listener.lastTopic);
 		assertEquals(shell, deserializePayload(listener.lastPayload));
 	}
@@ -106,6 +114,8 @@ public class TestMqttV2AASAggregatorObserver {
 
 		aasRepository.updateAas(shell.getId(), shell);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createUpdateAASTopic(aasRepository.getName()), listener.lastTopic);
 		assertEquals(shell, deserializePayload(listener.lastPayload));
 	}
@@ -116,6 +126,8 @@ public class TestMqttV2AASAggregatorObserver {
 		aasRepository.createAas(shell);
 		aasRepository.deleteAas(shell.getId());
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createDeleteAASTopic(aasRepository.getName()), listener.lastTopic);
 		assertEquals(shell, deserializePayload(listener.lastPayload));
 	}
@@ -134,10 +146,10 @@ public class TestMqttV2AASAggregatorObserver {
 				.build();
 	}
 
-	private static AasRepository createMqttAasRepository(MqttClient client) {
+	private static AasRepository createMqttAasRepository(AsyncMqttPublisher publisher) {
 		AasRepositoryFactory repoFactory = new InMemoryAasRepositoryFactory(new InMemoryAasServiceFactory());
 
-		return new MqttAasRepositoryFactory(repoFactory, client, new MqttAasRepositoryTopicFactory(new URLEncoder())).create();
+		return new MqttAasRepositoryFactory(repoFactory, publisher, new MqttAasRepositoryTopicFactory(new URLEncoder())).create();
 	}
 
 	private static MqttTestListener configureInterceptListener(Server broker) {
@@ -153,6 +165,15 @@ public class TestMqttV2AASAggregatorObserver {
 		return client;
 	}
 
+	private static void waitForPublishedMessages() {
+		try {
+			assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+	}
+
 	private static Server startBroker() throws IOException {
 		Server broker = new Server();
 		IResourceLoader classpathLoader = new ClasspathResourceLoader();
@@ -35,13 +35,13 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
-import org.eclipse.digitaltwin.basyx.aasrepository.http.pagination.GetAssetAdministrationShellsResult;
 import org.eclipse.digitaltwin.basyx.aasrepository.http.pagination.GetReferencesResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
+import org.eclipse.digitaltwin.basyx.http.pagination.StreamedPagedResult;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -105,13 +105,8 @@ public class AasRepositoryApiHTTPController implements AasRepositoryHTTPApi {
 			cursor = "";
 
 		PaginationInfo paginationInfo = new PaginationInfo(limit, cursor);
-		CursorResult<List<AssetAdministrationShell>> paginatedAAS = aasRepository.getAllAas(paginationInfo);
 
-		GetAssetAdministrationShellsResult result = new GetAssetAdministrationShellsResult();
-		result.setResult(paginatedAAS.getResult());
-		result.setPagingMetadata(new PagedResultPagingMetadata().cursor(paginatedAAS.getCursor()));
-
-		return new ResponseEntity<>(result, HttpStatus.OK);
+		return new ResponseEntity<>(new StreamedPagedResult<>(AssetAdministrationShell.class, () -> aasRepository.streamAllAas(assetIds, idShort, paginationInfo)), HttpStatus.OK);
 	}
 
 	@Override
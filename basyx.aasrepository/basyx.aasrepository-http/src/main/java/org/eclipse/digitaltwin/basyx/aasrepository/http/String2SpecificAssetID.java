@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.http;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetID;
+import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Handles conversion from a string representing a Base64Url encoded JSON
+ * serialization of a {@link SpecificAssetID}, e.g., as passed in the assetIds
+ * query parameter
+ * 
+ * @author schnicke
+ *
+ */
+@Component
+public class String2SpecificAssetID implements Converter<String, SpecificAssetID> {
+
+	private final ObjectMapper mapper;
+
+	public String2SpecificAssetID(ObjectMapper mapper) {
+		this.mapper = mapper;
+	}
+
+	@Override
+	public SpecificAssetID convert(String source) {
+		String json = Base64UrlEncodedIdentifier.fromEncodedValue(source)
+				.getIdentifier();
+		try {
+			return mapper.readValue(json, SpecificAssetID.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("The asset id '" + json + "' is not a valid SpecificAssetId", e);
+		}
+	}
+}
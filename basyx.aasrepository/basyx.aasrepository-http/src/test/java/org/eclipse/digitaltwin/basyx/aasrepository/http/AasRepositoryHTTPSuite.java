@@ -275,6 +275,16 @@ public abstract class AasRepositoryHTTPSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(getPaginatedAas1JSONString(), response);
 	}
 
+	@Test
+	public void getAllAasFilteredByAssetIdAndIdShort() throws IOException, ParseException {
+		createMultipleAasOnServer();
+		String assetId = Base64UrlEncodedIdentifier.encodeIdentifier("{\"name\":\"globalAssetId\",\"value\":\"dummyAasAssetId\"}");
+
+		CloseableHttpResponse getResponse = BaSyxHttpTestUtils.executeGetOnURL(getURL() + "?assetIds=" + assetId + "&idShort=DummyAas");
+		assertEquals(HttpStatus.OK.value(), getResponse.getCode());
+		BaSyxHttpTestUtils.assertSameJSONContent(BaSyxHttpTestUtils.readJSONStringFromClasspath("FilteredAasSimple_2.json"), BaSyxHttpTestUtils.getResponseAsString(getResponse));
+	}
+
 	private String getPaginatedAas1JSONString() throws FileNotFoundException, IOException {
 		return BaSyxHttpTestUtils.readJSONStringFromClasspath("PaginatedAasSimple_1.json");
 	}
@@ -25,6 +25,7 @@
 package org.eclipse.digitaltwin.basyx.aasservice.backend;
 
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -48,6 +49,7 @@ import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
  */
 public class InMemoryAasService implements AasService {
 	private AssetAdministrationShell aas;
+	private NavigableMap<String, Reference> sortedSubmodelReferences;
 
 	/**
 	 * Creates the InMemory AasService containing the passed AAS
@@ -65,13 +67,7 @@ public class InMemoryAasService implements AasService {
 
 	@Override
 	public CursorResult<List<Reference>> getSubmodelReferences(PaginationInfo pInfo) {
-		List<Reference> submodelReferences = aas.getSubmodels();
-
-		Function<Reference, String> idResolver = extractSubmodelID();
-
-		TreeMap<String, Reference> submodelRefMap = convertToTreeMap(submodelReferences, idResolver);
-
-		PaginationSupport<Reference> paginationSupport = new PaginationSupport<>(submodelRefMap, idResolver);
+		PaginationSupport<Reference> paginationSupport = new PaginationSupport<>(getSortedSubmodelReferences(), extractSubmodelID());
 		CursorResult<List<Reference>> paginatedSubmodelReference = paginationSupport.getPaged(pInfo);
 
 		return paginatedSubmodelReference;
@@ -81,6 +77,7 @@ public class InMemoryAasService implements AasService {
 	@Override
 	public void addSubmodelReference(Reference submodelReference) {
 		aas.getSubmodels().add(submodelReference);
+		getSortedSubmodelReferences().putIfAbsent(extractSubmodelID().apply(submodelReference), submodelReference);
 	}
 
 	@Override
@@ -88,6 +85,9 @@ public class InMemoryAasService implements AasService {
 		Reference specificSubmodelReference = getSubmodelReferenceById(submodelId);
 
 		aas.getSubmodels().remove(specificSubmodelReference);
+
+		// Another reference to the same Submodel may have to take its place
+		sortedSubmodelReferences = null;
 	}
 
 	@Override
@@ -112,6 +112,17 @@ public class InMemoryAasService implements AasService {
 		return specificSubmodelReference;
 	}
 
+	/**
+	 * Returns the submodel references sorted by the referenced Submodel id. The
+	 * map is built on first access and maintained afterwards.
+	 */
+	private NavigableMap<String, Reference> getSortedSubmodelReferences() {
+		if (sortedSubmodelReferences == null)
+			sortedSubmodelReferences = convertToTreeMap(aas.getSubmodels(), extractSubmodelID());
+
+		return sortedSubmodelReferences;
+	}
+
 	private TreeMap<String, Reference> convertToTreeMap(List<Reference> submodelReferences,
 			Function<Reference, String> idResolver) {
 		return submodelReferences.stream().collect(Collectors
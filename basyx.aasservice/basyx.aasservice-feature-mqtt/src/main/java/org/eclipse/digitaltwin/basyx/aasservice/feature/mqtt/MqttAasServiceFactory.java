@@ -27,25 +27,25 @@ package org.eclipse.digitaltwin.basyx.aasservice.feature.mqtt;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 
 public class MqttAasServiceFactory implements AasServiceFactory {
 
 	private AasServiceFactory decorated;
-	private IMqttClient client;
+	private AsyncMqttPublisher publisher;
 	private MqttAasServiceTopicFactory topicFactory;
 	private String repoId;
 
-	public MqttAasServiceFactory(AasServiceFactory decorated, IMqttClient client, MqttAasServiceTopicFactory topicFactory, String repoId) {
+	public MqttAasServiceFactory(AasServiceFactory decorated, AsyncMqttPublisher publisher, MqttAasServiceTopicFactory topicFactory, String repoId) {
 		this.decorated = decorated;
-		this.client = client;
+		this.publisher = publisher;
 		this.topicFactory = topicFactory;
 		this.repoId = repoId;
 	}
 
 	@Override
 	public AasService create(AssetAdministrationShell aas) {
-		return new MqttAasService(decorated.create(aas), client, topicFactory, repoId);
+		return new MqttAasService(decorated.create(aas), publisher, topicFactory, repoId);
 	}
 
 }
@@ -24,10 +24,13 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasservice.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.OverflowPolicy;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.eclipse.paho.client.mqttv3.MqttException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -35,6 +38,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @ConditionalOnExpression("#{${" + MqttAasServiceFeature.FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 @Configuration
 public class MqttConfiguration {
@@ -49,6 +54,16 @@ public class MqttConfiguration {
 		return mqttClient;
 	}
 
+	@ConditionalOnMissingBean
+	@Bean(destroyMethod = "close")
+	public AsyncMqttPublisher asyncMqttPublisher(IMqttClient mqttClient, @Value("${basyx.feature.mqtt.publisher.queueCapacity:" + AsyncMqttPublisher.DEFAULT_QUEUE_CAPACITY + "}") int queueCapacity,
+			@Value("${basyx.feature.mqtt.publisher.overflowPolicy:BLOCK}") OverflowPolicy overflowPolicy, @Value("${basyx.feature.mqtt.publisher.maxBatchSize:" + AsyncMqttPublisher.DEFAULT_MAX_BATCH_SIZE + "}") int maxBatchSize,
+			MqttConnectOptions mqttConnectOptions, ObjectProvider<MeterRegistry> meterRegistry) {
+		AsyncMqttPublisher publisher = new AsyncMqttPublisher(mqttClient, queueCapacity, overflowPolicy, maxBatchSize, mqttConnectOptions.getMaxInflight());
+		meterRegistry.ifAvailable(publisher::bindTo);
+		return publisher;
+	}
+
 	@ConditionalOnMissingBean
 	@Bean
 	@ConfigurationProperties(prefix = "mqtt")
@@ -26,8 +26,10 @@
 package org.eclipse.digitaltwin.basyx.aasservice.feature.mqtt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -43,6 +45,7 @@ import org.eclipse.digitaltwin.basyx.aasservice.DummyAssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.URLEncoder;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.listener.MqttTestListener;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttSecurityException;
@@ -65,6 +68,7 @@ public class TestMqttAasService extends AasServiceSuite {
 	private static Server mqttBroker;
 	private static MqttClient mqttClient;
 	private static MqttTestListener listener;
+	private static AsyncMqttPublisher publisher;
 	private static MqttAasServiceTopicFactory topicFactory = new MqttAasServiceTopicFactory(new URLEncoder());
 
 	private static AasRepository aasRepository;
@@ -80,7 +84,8 @@ public class TestMqttAasService extends AasServiceSuite {
 		mqttClient = createAndConnectClient();
 
 		aasRepository = createMqttAasRepository();
-		mqttAasServiceFactory = createMqttAasServiceFactory(mqttClient);
+		publisher = new AsyncMqttPublisher(mqttClient);
+		mqttAasServiceFactory = createMqttAasServiceFactory(publisher);
 
 	}
 
@@ -92,6 +97,7 @@ public class TestMqttAasService extends AasServiceSuite {
 
 	@AfterClass
 	public static void tearDownClass() {
+		publisher.close();
 		mqttBroker.removeInterceptHandler(listener);
 		mqttBroker.stopServer();
 	}
@@ -101,9 +107,9 @@ public class TestMqttAasService extends AasServiceSuite {
 		return mqttAasServiceFactory;
 	}
 
-	private static AasServiceFactory createMqttAasServiceFactory(MqttClient client) {
+	private static AasServiceFactory createMqttAasServiceFactory(AsyncMqttPublisher publisher) {
 		AasServiceFactory serviceFactory = new InMemoryAasServiceFactory();
-		MqttAasServiceFeature mqttFeature = new MqttAasServiceFeature(client, aasRepository);
+		MqttAasServiceFeature mqttFeature = new MqttAasServiceFeature(publisher, aasRepository);
 		return mqttFeature.decorate(serviceFactory);
 	}
 
@@ -113,6 +119,8 @@ public class TestMqttAasService extends AasServiceSuite {
 		mqttAasService.setAssetInformation(assetInfo);
 		String repoId = aasRepository.getName();
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createSetAssetInformationTopic(repoId, shell.getId()), listener.lastTopic);
 		assertEquals(serialize(assetInfo), listener.lastPayload);
 	}
@@ -130,6 +138,8 @@ public class TestMqttAasService extends AasServiceSuite {
 		mqttAasService.addSubmodelReference(submodelReference);
 		String repoId = aasRepository.getName();
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createAddSubmodelReferenceTopic(repoId, shell.getId()), listener.lastTopic);
 		assertEquals(serialize(submodelReference), listener.lastPayload);
 	}
@@ -151,6 +161,8 @@ public class TestMqttAasService extends AasServiceSuite {
 		DummyAssetAdministrationShell.addDummySubmodelReference(mqttAasService.getAAS());
 		mqttAasService.removeSubmodelReference(DummyAssetAdministrationShell.SUBMODEL_ID);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createRemoveSubmodelReferenceTopic(repoId, shell.getId()), listener.lastTopic);
 		assertEquals(serialize(DummyAssetAdministrationShell.submodelReference), listener.lastPayload);
 	}
@@ -173,6 +185,15 @@ public class TestMqttAasService extends AasServiceSuite {
 		return testListener;
 	}
 
+	private static void waitForPublishedMessages() {
+		try {
+			assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+	}
+
 	private static Server startBroker() throws IOException {
 		Server broker = new Server();
 		IResourceLoader classpathLoader = new ClasspathResourceLoader();
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Inverted index from the keys of elements to their identifiers. The keys are
+ * resolved per field, e.g., the idShort or the semanticId key values of an
+ * element. It allows filtered retrievals to only access the matching elements
+ * instead of scanning all of them.
+ * 
+ * The fields have to be added before the first element is indexed. Matches
+ * returned by the index have to be verified against the element if it may
+ * have been modified concurrently.
+ * 
+ * @author schnicke
+ *
+ * @param <T>
+ *            type of the indexed elements
+ */
+public class InvertedIdIndex<T> {
+
+	private final Function<T, String> idResolver;
+	private final Map<String, Function<T, ? extends Collection<?>>> keyResolversByField = new LinkedHashMap<>();
+	private final Map<String, Map<Object, Set<String>>> idsByKeyByField = new HashMap<>();
+	private final Map<String, Map<String, Set<Object>>> indexedKeysById = new HashMap<>();
+
+	public InvertedIdIndex(Function<T, String> idResolver) {
+		this.idResolver = idResolver;
+	}
+
+	/**
+	 * Adds a field to the index
+	 * 
+	 * @param field
+	 *            name of the field used for finding identifiers
+	 * @param keyResolver
+	 *            resolves the keys of an element for this field, may return an
+	 *            empty collection but not null
+	 * @return this index
+	 */
+	public InvertedIdIndex<T> withField(String field, Function<T, ? extends Collection<?>> keyResolver) {
+		keyResolversByField.put(field, keyResolver);
+		idsByKeyByField.put(field, new HashMap<>());
+		return this;
+	}
+
+	/**
+	 * Indexes the passed element, replacing the keys of a previously indexed
+	 * element with the same identifier
+	 */
+	public synchronized void index(T element) {
+		String id = idResolver.apply(element);
+		remove(id);
+
+		Map<String, Set<Object>> keysByField = new HashMap<>();
+		keyResolversByField.forEach((field, keyResolver) -> {
+			Set<Object> keys = new HashSet<>(keyResolver.apply(element));
+			keysByField.put(field, keys);
+			Map<Object, Set<String>> idsByKey = idsByKeyByField.get(field);
+			for (Object eachKey : keys) {
+				idsByKey.computeIfAbsent(eachKey, k -> new HashSet<>())
+						.add(id);
+			}
+		});
+		indexedKeysById.put(id, keysByField);
+	}
+
+	public synchronized void remove(String id) {
+		Map<String, Set<Object>> keysByField = indexedKeysById.remove(id);
+		if (keysByField == null) {
+			return;
+		}
+		keysByField.forEach((field, keys) -> {
+			Map<Object, Set<String>> idsByKey = idsByKeyByField.get(field);
+			for (Object eachKey : keys) {
+				removeFromBucket(idsByKey, eachKey, id);
+			}
+		});
+	}
+
+	/**
+	 * Returns the sorted identifiers of all elements having all passed keys in
+	 * the respective fields
+	 * 
+	 * @param requiredKeysByField
+	 *            the keys per field. A field without keys is not applied
+	 * @return the identifiers of the matching elements
+	 */
+	public synchronized NavigableSet<String> findIds(Map<String, ? extends Collection<?>> requiredKeysByField) {
+		List<Set<String>> buckets = new ArrayList<>();
+		requiredKeysByField.forEach((field, requiredKeys) -> {
+			Map<Object, Set<String>> idsByKey = idsByKeyByField.get(field);
+			if (idsByKey == null) {
+				throw new IllegalArgumentException("The field " + field + " is not indexed");
+			}
+			for (Object eachKey : requiredKeys) {
+				buckets.add(idsByKey.getOrDefault(eachKey, Collections.emptySet()));
+			}
+		});
+		if (buckets.isEmpty()) {
+			return new TreeSet<>(indexedKeysById.keySet());
+		}
+		// intersect starting with the smallest bucket
+		buckets.sort(Comparator.comparingInt(Set::size));
+		NavigableSet<String> result = new TreeSet<>(buckets.get(0));
+		for (int i = 1; i < buckets.size() && !result.isEmpty(); i++) {
+			result.retainAll(buckets.get(i));
+		}
+		return result;
+	}
+
+	private static void removeFromBucket(Map<Object, Set<String>> idsByKey, Object key, String id) {
+		Set<String> bucket = idsByKey.get(key);
+		if (bucket == null) {
+			return;
+		}
+		bucket.remove(id);
+		if (bucket.isEmpty()) {
+			idsByKey.remove(key);
+		}
+	}
+}
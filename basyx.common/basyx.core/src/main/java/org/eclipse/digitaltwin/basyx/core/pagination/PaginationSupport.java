@@ -28,28 +28,45 @@ package org.eclipse.digitaltwin.basyx.core.pagination;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Cursor based pagination on top of a map sorted by the identifiers of its
+ * values. Seeking to the cursor and retrieving a page is done lazily on the
+ * passed map, thus a persistent sorted map, e.g. a TreeMap or a
+ * ConcurrentSkipListMap, can be paged in O(log n + limit) without copying it.
+ */
 public class PaginationSupport<T extends Object> {
 
-	private final TreeMap<String, T> sortedMap;
+	private final NavigableMap<String, T> sortedMap;
 	private final Function<T, String> idResolver;
 
-	public PaginationSupport(TreeMap<String, T> sortedMap, Function<T, String> idResolver) {
+	public PaginationSupport(NavigableMap<String, T> sortedMap, Function<T, String> idResolver) {
 		this.sortedMap = sortedMap;
 		this.idResolver = idResolver;
 	}
 
 	public CursorResult<List<T>> getPaged(PaginationInfo pInfo) {
+		return getPaged(pInfo, t -> true);
+	}
+
+	/**
+	 * Returns the page of values matching the passed filter
+	 * 
+	 * @param pInfo
+	 * @param filter
+	 * @return the paged result
+	 */
+	public CursorResult<List<T>> getPaged(PaginationInfo pInfo, Predicate<T> filter) {
 		Map<String, T> cursorView = getCursorView(pInfo);
-		Stream<Entry<String, T>> eStream = cursorView.entrySet()
-				.stream();
 
-		Stream<T> tStream = eStream.map(Entry::getValue);
+		Stream<T> tStream = cursorView.values()
+				.stream()
+				.filter(filter);
 		tStream = applyLimit(pInfo, tStream);
 
 		List<T> resultList = tStream.collect(Collectors.toList());
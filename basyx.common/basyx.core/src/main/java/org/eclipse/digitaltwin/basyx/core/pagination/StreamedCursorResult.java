@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Page of a cursor based pagination whose elements are provided lazily as
+ * Stream, e.g., on top of a database cursor, so that they can be processed one
+ * by one without holding the complete page in memory. As the last element of
+ * the page is only known after the Stream has been consumed, the cursor
+ * pointing to the next page is resolved afterwards.
+ * 
+ * @author schnicke
+ *
+ */
+public class StreamedCursorResult<T> implements AutoCloseable {
+	private final Stream<T> result;
+	private final PaginationInfo pInfo;
+	private final Function<T, String> idResolver;
+	private final String cursor;
+
+	private int count;
+	private T last;
+
+	/**
+	 * Creates a StreamedCursorResult resolving the cursor from the last consumed
+	 * element
+	 * 
+	 * @param result
+	 *            the elements of the page, i.e., the limit has to be already
+	 *            applied
+	 * @param pInfo
+	 *            the pagination info the page has been retrieved with
+	 * @param idResolver
+	 *            resolves the identifier of an element used as cursor
+	 */
+	public StreamedCursorResult(Stream<T> result, PaginationInfo pInfo, Function<T, String> idResolver) {
+		this.result = result;
+		this.pInfo = pInfo;
+		this.idResolver = idResolver;
+		this.cursor = null;
+	}
+
+	private StreamedCursorResult(String cursor, Stream<T> result) {
+		this.result = result;
+		this.pInfo = null;
+		this.idResolver = null;
+		this.cursor = cursor;
+	}
+
+	/**
+	 * Wraps an already retrieved page
+	 * 
+	 * @param cursorResult
+	 * @return
+	 */
+	public static <T> StreamedCursorResult<T> of(CursorResult<List<T>> cursorResult) {
+		return new StreamedCursorResult<>(cursorResult.getCursor(), cursorResult.getResult()
+				.stream());
+	}
+
+	/**
+	 * Returns the elements of the page. The returned Stream can only be consumed
+	 * once.
+	 * 
+	 * @return
+	 */
+	public Stream<T> getResult() {
+		return result.peek(this::track);
+	}
+
+	/**
+	 * Returns the cursor pointing to the next page. Has to be called after the
+	 * Stream returned by {@link #getResult()} has been consumed.
+	 * 
+	 * @return the cursor or null, if there is no next page
+	 */
+	public String getCursor() {
+		if (idResolver == null)
+			return cursor;
+
+		if (!pInfo.hasLimit() || count < pInfo.getLimit())
+			return null; // got less than requested
+
+		return idResolver.apply(last);
+	}
+
+	/**
+	 * Releases the resources backing the Stream, e.g., a database cursor
+	 */
+	@Override
+	public void close() {
+		result.close();
+	}
+
+	private void track(T element) {
+		count++;
+		last = element;
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class InvertedIdIndexTest {
+
+	private static final String NAME = "name";
+	private static final String TAG = "tag";
+
+	@Test
+	public void testFindIdsIntersectsFields() {
+		InvertedIdIndex<Element> index = createIndex();
+		index.index(new Element("1", "a", Set.of("x", "y")));
+		index.index(new Element("2", "a", Set.of("y")));
+		index.index(new Element("3", "b", Set.of("x", "y")));
+
+		assertEquals(Set.of("1", "2"), index.findIds(Map.of(NAME, Set.of("a"))));
+		assertEquals(Set.of("1", "3"), index.findIds(Map.of(TAG, Set.of("x"))));
+		assertEquals(Set.of("1"), index.findIds(Map.of(NAME, Set.of("a"), TAG, Set.of("x", "y"))));
+		assertEquals(Set.of(), index.findIds(Map.of(NAME, Set.of("unknown"))));
+	}
+
+	@Test
+	public void testFindIdsWithoutKeysReturnsAllSorted() {
+		InvertedIdIndex<Element> index = createIndex();
+		index.index(new Element("2", "a", Set.of()));
+		index.index(new Element("1", null, Set.of()));
+
+		assertEquals(List.of("1", "2"), List.copyOf(index.findIds(Map.of())));
+		assertEquals(List.of("1", "2"), List.copyOf(index.findIds(Map.of(NAME, Set.of()))));
+	}
+
+	@Test
+	public void testReindexReplacesKeys() {
+		InvertedIdIndex<Element> index = createIndex();
+		index.index(new Element("1", "a", Set.of("x")));
+		index.index(new Element("1", "b", Set.of("y")));
+
+		assertEquals(Set.of(), index.findIds(Map.of(NAME, Set.of("a"))));
+		assertEquals(Set.of(), index.findIds(Map.of(TAG, Set.of("x"))));
+		assertEquals(Set.of("1"), index.findIds(Map.of(NAME, Set.of("b"), TAG, Set.of("y"))));
+	}
+
+	@Test
+	public void testRemove() {
+		InvertedIdIndex<Element> index = createIndex();
+		index.index(new Element("1", "a", Set.of("x")));
+		index.index(new Element("2", "a", Set.of("x")));
+		index.remove("1");
+		index.remove("unknown");
+
+		assertEquals(Set.of("2"), index.findIds(Map.of(NAME, Set.of("a"), TAG, Set.of("x"))));
+		assertEquals(Set.of("2"), index.findIds(Map.of()));
+	}
+
+	@Test
+	public void testUnknownField() {
+		InvertedIdIndex<Element> index = createIndex();
+		assertThrows(IllegalArgumentException.class, () -> index.findIds(Map.of("unknown", Set.of("a"))));
+	}
+
+	private static InvertedIdIndex<Element> createIndex() {
+		return new InvertedIdIndex<Element>(element -> element.id)
+				.withField(NAME, element -> element.name == null ? Collections.emptySet() : Collections.singleton(element.name))
+				.withField(TAG, element -> element.tags);
+	}
+
+	private static final class Element {
+		private final String id;
+		private final String name;
+		private final Set<String> tags;
+
+		private Element(String id, String name, Set<String> tags) {
+			this.id = id;
+			this.name = name;
+			this.tags = tags;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package org.eclipse.digitaltwin.basyx.core.pagination;
 
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -61,6 +62,24 @@ public class PaginationSupportTest {
 		Assert.assertNull(cursorResult.getCursor());
 	}
 
+	@Test
+	public void testFilteredPagination() {
+		PaginationSupport<String> support = getPaginationSupport();
+		CursorResult<List<String>> cursorResult = support.getPaged(new PaginationInfo(2, "2"), s -> Integer.parseInt(s) % 2 == 0);
+		Assert.assertArrayEquals(new String[] { "4", "6" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("6", cursorResult.getCursor());
+	}
+
+	@Test
+	public void testConcurrentSkipListMap() {
+		ConcurrentSkipListMap<String, String> sorted = new ConcurrentSkipListMap<>();
+		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
+
+		CursorResult<List<String>> cursorResult = new PaginationSupport<String>(sorted, Function.identity()).getPaged(new PaginationInfo(3, "3"));
+		Assert.assertArrayEquals(new String[] { "4", "5", "6" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("6", cursorResult.getCursor());
+	}
+
 	private PaginationSupport<String> getPaginationSupport() {
 		TreeMap<String, String> sorted = new TreeMap<>();
 		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
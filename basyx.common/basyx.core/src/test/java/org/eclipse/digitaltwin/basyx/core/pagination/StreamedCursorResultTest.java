@@ -0,0 +1,50 @@
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamedCursorResultTest {
+
+	@Test
+	public void testCursorOfFullPage() {
+		StreamedCursorResult<String> cursorResult = new StreamedCursorResult<>(Stream.of("1", "2"), new PaginationInfo(2, null), Function.identity());
+		Assert.assertEquals(List.of("1", "2"), cursorResult.getResult().collect(Collectors.toList()));
+		Assert.assertEquals("2", cursorResult.getCursor());
+	}
+
+	@Test
+	public void testCursorOfPartialPage() {
+		StreamedCursorResult<String> cursorResult = new StreamedCursorResult<>(Stream.of("1"), new PaginationInfo(2, null), Function.identity());
+		Assert.assertEquals(List.of("1"), cursorResult.getResult().collect(Collectors.toList()));
+		Assert.assertNull(cursorResult.getCursor());
+	}
+
+	@Test
+	public void testCursorOfEmptyPage() {
+		StreamedCursorResult<String> cursorResult = new StreamedCursorResult<>(Stream.empty(), new PaginationInfo(2, null), Function.identity());
+		Assert.assertEquals(0, cursorResult.getResult().count());
+		Assert.assertNull(cursorResult.getCursor());
+	}
+
+	@Test
+	public void testWrappedCursorResult() {
+		StreamedCursorResult<String> cursorResult = StreamedCursorResult.of(new CursorResult<>("1", List.of("1")));
+		Assert.assertEquals(List.of("1"), cursorResult.getResult().collect(Collectors.toList()));
+		Assert.assertEquals("1", cursorResult.getCursor());
+	}
+
+	@Test
+	public void testCloseReleasesStream() {
+		AtomicBoolean closed = new AtomicBoolean();
+		try (StreamedCursorResult<String> cursorResult = new StreamedCursorResult<>(Stream.of("1").onClose(() -> closed.set(true)), new PaginationInfo(1, null), Function.identity())) {
+			cursorResult.getResult().forEach(s -> {});
+		}
+		Assert.assertTrue(closed.get());
+	}
+}
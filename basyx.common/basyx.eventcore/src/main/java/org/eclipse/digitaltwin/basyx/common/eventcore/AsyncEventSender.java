@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.eventcore;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sends events asynchronously, so that the thread triggering an event does not
+ * have to wait for its delivery.
+ *
+ * Events are buffered in a bounded queue and passed one at a time to the
+ * delegate by a single sender thread, thus their order is kept. Batching is
+ * left to the delegate, e.g., the Kafka producer. If the queue stays full for
+ * the offer timeout, the event is dropped.
+ *
+ * MQTT messages are not sent by this class but by the AsyncMqttPublisher of
+ * the mqttcore module. The MQTT client does not batch by itself, thus that
+ * publisher sends batches of messages before waiting for their delivery and
+ * offers further overflow policies.
+ *
+ * The following metrics are registered with the given prefix:
+ * <ul>
+ * <li><i>prefix</i>.buffered: events waiting in the queue</li>
+ * <li><i>prefix</i>.dropped: events dropped due to a full queue or a closed
+ * sender</li>
+ * <li><i>prefix</i>.queued: time an event waits in the queue until it is passed
+ * to the delegate</li>
+ * </ul>
+ *
+ * @author schnicke
+ *
+ */
+public class AsyncEventSender<E> implements Closeable {
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+	private static final long CLOSE_TIMEOUT_MILLIS = 10000;
+	private static Logger logger = LoggerFactory.getLogger(AsyncEventSender.class);
+
+	private final Consumer<E> delegate;
+	private final BlockingQueue<QueuedEvent<E>> queue;
+	private final long offerTimeoutMillis;
+	private final Counter droppedCounter;
+	private final Timer queuedTimer;
+	private final Thread sender;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param name
+	 *            of the sender thread
+	 * @param delegate
+	 *            that actually sends the events
+	 * @param queueCapacity
+	 *            maximum number of buffered events
+	 * @param offerTimeoutMillis
+	 *            time to wait for free space in a full queue before the event is
+	 *            dropped
+	 * @param meterRegistry
+	 *            to register the metrics with
+	 * @param metricsPrefix
+	 *            prefix of the metric names
+	 */
+	public AsyncEventSender(String name, Consumer<E> delegate, int queueCapacity, long offerTimeoutMillis, MeterRegistry meterRegistry, String metricsPrefix) {
+		if (queueCapacity < 1)
+			throw new IllegalArgumentException("The queue capacity has to be at least 1 but was " + queueCapacity);
+
+		this.delegate = delegate;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.offerTimeoutMillis = offerTimeoutMillis;
+		this.droppedCounter = Counter.builder(metricsPrefix + ".dropped").description("Events dropped because the send queue was full or the sender was closed").register(meterRegistry);
+		this.queuedTimer = Timer.builder(metricsPrefix + ".queued").description("Time an event waits in the send queue").register(meterRegistry);
+		Gauge.builder(metricsPrefix + ".buffered", queue, BlockingQueue::size).description("Events waiting in the send queue").register(meterRegistry);
+
+		this.sender = new Thread(this::sendQueuedEvents, name);
+		this.sender.setDaemon(true);
+		this.sender.start();
+	}
+
+	/**
+	 * Enqueues an event for sending
+	 *
+	 * @param event
+	 * @return true if the event has been enqueued, false if it has been dropped
+	 */
+	public boolean send(E event) {
+		if (closed) {
+			droppedCounter.increment();
+			return false;
+		}
+
+		try {
+			if (queue.offer(new QueuedEvent<>(event, System.nanoTime()), offerTimeoutMillis, TimeUnit.MILLISECONDS))
+				return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		droppedCounter.increment();
+		return false;
+	}
+
+	/**
+	 * @return the number of events currently waiting in the queue
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Stops accepting new events and waits a bounded amount of time for the
+	 * already enqueued events to be sent
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		try {
+			sender.join(CLOSE_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (sender.isAlive()) {
+			logger.warn("Could not send " + queue.size() + " queued events before closing");
+			sender.interrupt();
+		}
+	}
+
+	private void sendQueuedEvents() {
+		while (!closed || !queue.isEmpty()) {
+			QueuedEvent<E> queued;
+			try {
+				queued = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			if (queued != null)
+				sendEvent(queued);
+		}
+	}
+
+	private void sendEvent(QueuedEvent<E> queued) {
+		queuedTimer.record(System.nanoTime() - queued.enqueuedAt, TimeUnit.NANOSECONDS);
+		try {
+			delegate.accept(queued.event);
+		} catch (RuntimeException e) {
+			logger.error("Could not send event", e);
+		}
+	}
+
+	private static class QueuedEvent<E> {
+		private final E event;
+		private final long enqueuedAt;
+
+		private QueuedEvent(E event, long enqueuedAt) {
+			this.event = event;
+			this.enqueuedAt = enqueuedAt;
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.eventcore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the buffering, overflow and shutdown behavior of
+ * {@link AsyncEventSender}
+ *
+ * @author schnicke
+ *
+ */
+public class TestAsyncEventSender {
+	private static final String PREFIX = "test.events";
+
+	private MeterRegistry meterRegistry;
+	private List<String> sent;
+	private CountDownLatch sending;
+	private CountDownLatch release;
+	private AsyncEventSender<String> sender;
+
+	@Before
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		sent = new CopyOnWriteArrayList<>();
+		sending = new CountDownLatch(1);
+		release = new CountDownLatch(0);
+	}
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		if (sender != null)
+			sender.close();
+	}
+
+	@Test
+	public void eventsAreSentInOrder() throws InterruptedException {
+		sender = createSender(10, this::record);
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(sender.send("event" + i));
+		}
+		sender.close();
+
+		assertEquals(List.of("event0", "event1", "event2", "event3", "event4"), sent);
+		assertEquals(5, meterRegistry.get(PREFIX + ".queued").timer().count());
+	}
+
+	@Test
+	public void eventsAreBufferedWhileDelegateIsBusy() throws InterruptedException {
+		release = new CountDownLatch(1);
+		sender = createSender(10, this::recordBlocking);
+
+		sender.send("first");
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		sender.send("second");
+		sender.send("third");
+
+		assertEquals(2, sender.getQueueDepth());
+		assertEquals(2, meterRegistry.get(PREFIX + ".buffered").gauge().value(), 0);
+
+		release.countDown();
+		sender.close();
+		assertEquals(List.of("first", "second", "third"), sent);
+	}
+
+	@Test
+	public void eventIsDroppedIfQueueStaysFull() throws InterruptedException {
+		release = new CountDownLatch(1);
+		sender = createSender(1, this::recordBlocking);
+
+		sender.send("first");
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		assertTrue(sender.send("second"));
+		assertFalse(sender.send("third"));
+
+		assertEquals(1, meterRegistry.get(PREFIX + ".dropped").counter().count(), 0);
+
+		release.countDown();
+		sender.close();
+		assertEquals(List.of("first", "second"), sent);
+	}
+
+	@Test
+	public void closeSendsQueuedEvents() throws InterruptedException {
+		release = new CountDownLatch(1);
+		sender = createSender(10, this::recordBlocking);
+
+		sender.send("first");
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		sender.send("second");
+
+		new Thread(() -> release.countDown()).start();
+		sender.close();
+
+		assertEquals(List.of("first", "second"), sent);
+		assertEquals(0, sender.getQueueDepth());
+	}
+
+	@Test
+	public void eventIsDroppedAfterClose() {
+		sender = createSender(10, this::record);
+		sender.close();
+
+		assertFalse(sender.send("event"));
+		assertEquals(1, meterRegistry.get(PREFIX + ".dropped").counter().count(), 0);
+		assertTrue(sent.isEmpty());
+	}
+
+	@Test
+	public void failingDelegateDoesNotStopSending() {
+		sender = createSender(10, event -> {
+			if (event.equals("failing"))
+				throw new IllegalStateException();
+			record(event);
+		});
+
+		sender.send("failing");
+		sender.send("event");
+		sender.close();
+
+		assertEquals(List.of("event"), sent);
+	}
+
+	private AsyncEventSender<String> createSender(int queueCapacity, Consumer<String> delegate) {
+		return new AsyncEventSender<>("test-events", delegate, queueCapacity, 10, meterRegistry, PREFIX);
+	}
+
+	private void record(String event) {
+		sent.add(event);
+	}
+
+	private void recordBlocking(String event) {
+		sending.countDown();
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		sent.add(event);
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.pagination;
+
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Paginated result whose elements are serialized one by one while they are
+ * retrieved from a {@link StreamedCursorResult}, i.e., the page is never held
+ * in memory as a whole. As the cursor is only known after the last element has
+ * been written, the paging_metadata follows the result.
+ * 
+ * The StreamedCursorResult is only opened when the result is serialized and is
+ * closed afterwards. Thus, no database cursor is left open if the result is
+ * never serialized, e.g., if the requested media type is not supported.
+ * 
+ * @author schnicke
+ *
+ */
+@JsonSerialize(using = StreamedPagedResultSerializer.class)
+public class StreamedPagedResult<T> extends PagedResult {
+	private final Class<T> elementType;
+	private final Supplier<StreamedCursorResult<T>> cursorResultSupplier;
+
+	/**
+	 * Creates a StreamedPagedResult
+	 * 
+	 * @param elementType
+	 *            the declared type of the elements, used to resolve their type
+	 *            information, e.g., the modelType
+	 * @param cursorResultSupplier
+	 *            opens the page to serialize
+	 */
+	public StreamedPagedResult(Class<T> elementType, Supplier<StreamedCursorResult<T>> cursorResultSupplier) {
+		this.elementType = elementType;
+		this.cursorResultSupplier = cursorResultSupplier;
+	}
+
+	public Class<T> getElementType() {
+		return elementType;
+	}
+
+	/**
+	 * Opens the page to serialize, which has to be closed by the caller
+	 * 
+	 * @return the opened page
+	 */
+	public StreamedCursorResult<T> openCursorResult() {
+		return cursorResultSupplier.get();
+	}
+}
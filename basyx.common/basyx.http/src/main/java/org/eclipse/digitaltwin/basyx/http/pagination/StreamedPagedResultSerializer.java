@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.pagination;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializes a {@link StreamedPagedResult} element by element. The generator
+ * is not flushed explicitly, so that elements are written in chunks of its
+ * buffer size instead of individually.
+ * 
+ * @author schnicke
+ *
+ */
+public class StreamedPagedResultSerializer extends StdSerializer<StreamedPagedResult<?>> {
+	private static final long serialVersionUID = 1L;
+
+	private static final String RESULT = "result";
+	private static final String PAGING_METADATA = "paging_metadata";
+
+	@SuppressWarnings("unchecked")
+	public StreamedPagedResultSerializer() {
+		super((Class<StreamedPagedResult<?>>) (Class<?>) StreamedPagedResult.class);
+	}
+
+	@Override
+	public void serialize(StreamedPagedResult<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		TypeSerializer typeSerializer = provider.findTypeSerializer(provider.constructType(value.getElementType()));
+
+		gen.writeStartObject();
+		gen.writeArrayFieldStart(RESULT);
+		try (StreamedCursorResult<?> cursorResult = value.openCursorResult()) {
+			Iterator<?> elements = cursorResult.getResult()
+					.iterator();
+			while (elements.hasNext()) {
+				serializeElement(elements.next(), typeSerializer, gen, provider);
+			}
+			gen.writeEndArray();
+			provider.defaultSerializeField(PAGING_METADATA, new PagedResultPagingMetadata().cursor(cursorResult.getCursor()), gen);
+		}
+		gen.writeEndObject();
+	}
+
+	private void serializeElement(Object element, TypeSerializer typeSerializer, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		JsonSerializer<Object> serializer = provider.findValueSerializer(element.getClass());
+		if (typeSerializer == null)
+			serializer.serialize(element, gen, provider);
+		else
+			serializer.serializeWithType(element, gen, provider, typeSerializer);
+	}
+}
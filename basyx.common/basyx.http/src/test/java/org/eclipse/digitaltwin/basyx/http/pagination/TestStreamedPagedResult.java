@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.pagination;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the serialization of the StreamedPagedResult
+ * 
+ * @author schnicke
+ *
+ */
+public class TestStreamedPagedResult {
+	private final AtomicBoolean opened = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	@Test
+	public void serializesElementsBeforePagingMetadata() throws JsonProcessingException {
+		String json = new ObjectMapper().writeValueAsString(createResult(new PaginationInfo(2, null)));
+
+		assertEquals("{\"result\":[\"a\",\"b\"],\"paging_metadata\":{\"cursor\":\"b\"}}", json);
+	}
+
+	@Test
+	public void cursorIsClosedAfterSerialization() throws JsonProcessingException {
+		new ObjectMapper().writeValueAsString(createResult(new PaginationInfo(0, null)));
+
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void cursorIsNotOpenedWithoutSerialization() {
+		createResult(new PaginationInfo(0, null));
+
+		assertFalse(opened.get());
+	}
+
+	private StreamedPagedResult<String> createResult(PaginationInfo pInfo) {
+		return new StreamedPagedResult<>(String.class, () -> {
+			opened.set(true);
+			Stream<String> elements = Stream.of("a", "b").onClose(() -> closed.set(true));
+
+			return new StreamedCursorResult<>(elements, pInfo, element -> element);
+		});
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * MongoDatabaseFactory decorator that applies a write concern and a read
+ * preference to every database handed out. Since collections inherit these
+ * settings from their database, they apply to operations of a MongoTemplate as
+ * well as to direct collection access.
+ * 
+ * @author schnicke
+ *
+ */
+class ConsistencyConfiguringMongoDatabaseFactory implements MongoDatabaseFactory {
+
+	private final MongoDatabaseFactory delegate;
+	private final WriteConcern writeConcern;
+	private final ReadPreference readPreference;
+
+	/**
+	 * 
+	 * @param delegate
+	 * @param writeConcern
+	 *            the write concern to apply or null to keep the default
+	 * @param readPreference
+	 *            the read preference to apply or null to keep the default
+	 */
+	public ConsistencyConfiguringMongoDatabaseFactory(MongoDatabaseFactory delegate, WriteConcern writeConcern, ReadPreference readPreference) {
+		this.delegate = delegate;
+		this.writeConcern = writeConcern;
+		this.readPreference = readPreference;
+	}
+
+	@Override
+	public MongoDatabase getMongoDatabase() throws DataAccessException {
+		return configure(delegate.getMongoDatabase());
+	}
+
+	@Override
+	public MongoDatabase getMongoDatabase(String dbName) throws DataAccessException {
+		return configure(delegate.getMongoDatabase(dbName));
+	}
+
+	@Override
+	public PersistenceExceptionTranslator getExceptionTranslator() {
+		return delegate.getExceptionTranslator();
+	}
+
+	@Override
+	public CodecRegistry getCodecRegistry() {
+		return delegate.getCodecRegistry();
+	}
+
+	@Override
+	public ClientSession getSession(ClientSessionOptions options) {
+		return delegate.getSession(options);
+	}
+
+	@Override
+	public MongoDatabaseFactory withSession(ClientSession session) {
+		return new ConsistencyConfiguringMongoDatabaseFactory(delegate.withSession(session), writeConcern, readPreference);
+	}
+
+	@Override
+	public boolean isTransactionActive() {
+		return delegate.isTransactionActive();
+	}
+
+	private MongoDatabase configure(MongoDatabase database) {
+		MongoDatabase configured = database;
+
+		if (writeConcern != null)
+			configured = configured.withWriteConcern(writeConcern);
+
+		if (readPreference != null)
+			configured = configured.withReadPreference(readPreference);
+
+		return configured;
+	}
+}
@@ -27,6 +27,9 @@ package org.eclipse.digitaltwin.basyx.common.mongocore;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+
 /**
  * 
  * @author jungjan
@@ -43,4 +46,41 @@ public class MongoDBUtilities {
 	public static void clearCollection(MongoTemplate template, String collection) {
 		template.remove(new Query(), collection);
 	}
+
+	/**
+	 * Creates a MongoTemplate sharing the connection and the mapping of the passed
+	 * template, that uses the passed write concern and read preference for all of
+	 * its operations. If neither is configured, the passed template is returned.
+	 * 
+	 * @param template
+	 * @param writeConcern
+	 *            name of the write concern, e.g. <i>MAJORITY</i> or <i>W1</i>, or
+	 *            an empty String to keep the default
+	 * @param readPreference
+	 *            name of the read preference, e.g. <i>primaryPreferred</i>, or an
+	 *            empty String to keep the default
+	 * @return the configured MongoTemplate
+	 */
+	public static MongoTemplate withConsistencySettings(MongoTemplate template, String writeConcern, String readPreference) {
+		if (isNotConfigured(writeConcern) && isNotConfigured(readPreference))
+			return template;
+
+		WriteConcern parsedWriteConcern = isNotConfigured(writeConcern) ? null : parseWriteConcern(writeConcern);
+		ReadPreference parsedReadPreference = isNotConfigured(readPreference) ? null : ReadPreference.valueOf(readPreference.trim());
+
+		return new MongoTemplate(new ConsistencyConfiguringMongoDatabaseFactory(template.getMongoDatabaseFactory(), parsedWriteConcern, parsedReadPreference), template.getConverter());
+	}
+
+	private static WriteConcern parseWriteConcern(String writeConcern) {
+		WriteConcern parsed = WriteConcern.valueOf(writeConcern.trim());
+
+		if (parsed == null)
+			throw new IllegalArgumentException("Unknown write concern '" + writeConcern + "'");
+
+		return parsed;
+	}
+
+	private static boolean isNotConfigured(String setting) {
+		return setting == null || setting.isBlank();
+	}
 }
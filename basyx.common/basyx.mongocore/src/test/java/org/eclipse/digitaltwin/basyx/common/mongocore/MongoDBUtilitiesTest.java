@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Tests {@link MongoDBUtilities#withConsistencySettings}. The client does not
+ * connect until the first operation, thus no running MongoDB is required.
+ * 
+ * @author schnicke
+ *
+ */
+public class MongoDBUtilitiesTest {
+
+	private static final String DATABASE_NAME = "consistency-test";
+
+	private MongoClient client;
+	private MongoTemplate template;
+
+	@Before
+	public void createTemplate() {
+		client = MongoClients.create("mongodb://localhost:27017");
+		template = new MongoTemplate(client, DATABASE_NAME);
+	}
+
+	@After
+	public void closeClient() {
+		client.close();
+	}
+
+	@Test
+	public void unconfiguredSettingsKeepTemplate() {
+		assertSame(template, MongoDBUtilities.withConsistencySettings(template, "", null));
+		assertSame(template, MongoDBUtilities.withConsistencySettings(template, " ", " "));
+	}
+
+	@Test
+	public void writeConcernAndReadPreferenceAreApplied() {
+		MongoTemplate configured = MongoDBUtilities.withConsistencySettings(template, "MAJORITY", "secondaryPreferred");
+
+		MongoDatabase database = configured.getDb();
+		assertEquals(DATABASE_NAME, database.getName());
+		assertEquals(WriteConcern.MAJORITY, database.getWriteConcern());
+		assertEquals(ReadPreference.secondaryPreferred(), database.getReadPreference());
+		assertEquals(WriteConcern.MAJORITY, configured.getCollection("test").getWriteConcern());
+	}
+
+	@Test
+	public void onlyConfiguredSettingIsApplied() {
+		MongoTemplate configured = MongoDBUtilities.withConsistencySettings(template, "", "primaryPreferred");
+
+		MongoDatabase database = configured.getDb();
+		assertEquals(template.getDb().getWriteConcern(), database.getWriteConcern());
+		assertEquals(ReadPreference.primaryPreferred(), database.getReadPreference());
+	}
+
+	@Test
+	public void unknownWriteConcernIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> MongoDBUtilities.withConsistencySettings(template, "unknown", ""));
+	}
+
+	@Test
+	public void unknownReadPreferenceIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> MongoDBUtilities.withConsistencySettings(template, "", "unknown"));
+	}
+}
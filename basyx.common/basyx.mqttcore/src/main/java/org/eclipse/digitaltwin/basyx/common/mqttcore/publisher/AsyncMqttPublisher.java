@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes MQTT messages asynchronously, so that the thread triggering an
+ * event does not have to wait for the broker.
+ *
+ * Messages are buffered in a bounded queue. If the queue is full, the
+ * configured {@link OverflowPolicy} is applied. A single worker thread drains
+ * the queue in batches of up to <i>maxBatchSize</i> messages. All messages of a
+ * batch are sent before waiting for their delivery, thus the batch size must
+ * not exceed the maximum number of inflight messages of the MQTT client.
+ *
+ * The counters and latencies are available via the getters and can be
+ * registered with Micrometer using {@link #bindTo(MeterRegistry)}.
+ *
+ * @author schnicke
+ *
+ */
+public class AsyncMqttPublisher implements Closeable, MeterBinder {
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+	public static final int DEFAULT_MAX_BATCH_SIZE = 10;
+	public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BLOCK;
+	public static final String METRICS_PREFIX = "basyx.mqtt.publisher";
+
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+	private static Logger logger = LoggerFactory.getLogger(AsyncMqttPublisher.class);
+
+	private final IMqttClient mqttClient;
+	private final BlockingQueue<QueuedMessage> queue;
+	private final OverflowPolicy overflowPolicy;
+	private final int maxBatchSize;
+	private final Thread worker;
+
+	private final Object pendingLock = new Object();
+	private long pendingMessages;
+	private volatile boolean closed;
+
+	private final AtomicLong publishedMessages = new AtomicLong();
+	private final AtomicLong droppedMessages = new AtomicLong();
+	private final AtomicLong failedMessages = new AtomicLong();
+	private final AtomicLong totalPublishLatencyNanos = new AtomicLong();
+	private final AtomicLong maxPublishLatencyNanos = new AtomicLong();
+
+	public AsyncMqttPublisher(IMqttClient mqttClient) {
+		this(mqttClient, DEFAULT_QUEUE_CAPACITY, DEFAULT_OVERFLOW_POLICY, DEFAULT_MAX_BATCH_SIZE, MqttConnectOptions.MAX_INFLIGHT_DEFAULT);
+	}
+
+	/**
+	 * @param mqttClient
+	 * @param queueCapacity
+	 *            maximum number of messages waiting to be published
+	 * @param overflowPolicy
+	 *            applied if the queue is full
+	 * @param maxBatchSize
+	 *            maximum number of messages sent before waiting for their
+	 *            delivery
+	 * @param maxInflight
+	 *            maximum number of inflight messages configured for the MQTT
+	 *            client, see {@link MqttConnectOptions#getMaxInflight()}
+	 */
+	public AsyncMqttPublisher(IMqttClient mqttClient, int queueCapacity, OverflowPolicy overflowPolicy, int maxBatchSize, int maxInflight) {
+		if (queueCapacity < 1)
+			throw new IllegalArgumentException("The queue capacity has to be at least 1 but was " + queueCapacity);
+
+		if (maxBatchSize < 1)
+			throw new IllegalArgumentException("The maximum batch size has to be at least 1 but was " + maxBatchSize);
+
+		if (maxBatchSize > maxInflight)
+			throw new IllegalArgumentException("The maximum batch size " + maxBatchSize + " exceeds the maximum number of inflight messages " + maxInflight + " of the MQTT client");
+
+		this.mqttClient = mqttClient;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.overflowPolicy = overflowPolicy;
+		this.maxBatchSize = maxBatchSize;
+
+		this.worker = new Thread(this::processQueue, "basyx-mqtt-publisher");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	/**
+	 * Enqueues a message for publishing
+	 *
+	 * @param topic
+	 *            in which the message will be published
+	 * @param payload
+	 *            the actual message, may be null
+	 * @return true if the message has been enqueued, false if it has been
+	 *         dropped
+	 */
+	public boolean publish(String topic, String payload) {
+		if (closed) {
+			logger.warn("Publisher is closed, dropping MQTT message to " + topic);
+			droppedMessages.incrementAndGet();
+			return false;
+		}
+
+		QueuedMessage message = new QueuedMessage(topic, createMqttMessage(payload), System.nanoTime());
+		logger.debug("Enqueue MQTT message to " + topic + ": " + payload);
+
+		incrementPending();
+		try {
+			if (enqueue(message))
+				return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			decrementPending(1);
+			logger.warn("Interrupted while waiting for space in the MQTT publish queue, discarding message to " + topic);
+			return false;
+		}
+
+		droppedMessages.incrementAndGet();
+		decrementPending(1);
+		logger.warn("MQTT publish queue is full, dropping message to " + topic);
+		return false;
+	}
+
+	/**
+	 * Waits until all messages enqueued so far have been processed
+	 *
+	 * @param timeout
+	 * @param unit
+	 * @return true if all messages have been processed, false if the timeout
+	 *         elapsed before
+	 * @throws InterruptedException
+	 */
+	public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+		synchronized (pendingLock) {
+			while (pendingMessages > 0) {
+				long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remainingMillis <= 0)
+					return false;
+
+				pendingLock.wait(remainingMillis);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Stops accepting new messages and waits a bounded amount of time for the
+	 * already enqueued messages to be published
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		try {
+			if (!flush(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+				logger.warn("Could not publish " + getQueueDepth() + " queued MQTT messages before closing");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		worker.interrupt();
+	}
+
+	/**
+	 * @return the number of messages currently waiting in the queue
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * @return the number of messages that have been delivered to the broker
+	 */
+	public long getPublishedMessageCount() {
+		return publishedMessages.get();
+	}
+
+	/**
+	 * @return the number of messages dropped due to a full queue or a closed
+	 *         publisher
+	 */
+	public long getDroppedMessageCount() {
+		return droppedMessages.get();
+	}
+
+	/**
+	 * @return the number of messages that could not be delivered to the broker
+	 */
+	public long getFailedMessageCount() {
+		return failedMessages.get();
+	}
+
+	/**
+	 * Returns the average time between enqueuing a message and its delivery to
+	 * the broker
+	 *
+	 * @param unit
+	 * @return the average latency or 0, if no message has been published yet
+	 */
+	public long getAveragePublishLatency(TimeUnit unit) {
+		long published = publishedMessages.get();
+		if (published == 0)
+			return 0;
+
+		return unit.convert(totalPublishLatencyNanos.get() / published, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the maximum time between enqueuing a message and its delivery to
+	 * the broker
+	 *
+	 * @param unit
+	 * @return the maximum latency
+	 */
+	public long getMaxPublishLatency(TimeUnit unit) {
+		return unit.convert(maxPublishLatencyNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Registers the queue depth, the message counters and the publish latency
+	 * with the given registry
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder(METRICS_PREFIX + ".queue.depth", this, AsyncMqttPublisher::getQueueDepth).description("MQTT messages waiting to be published").register(registry);
+		FunctionCounter.builder(METRICS_PREFIX + ".published", publishedMessages, AtomicLong::get).description("MQTT messages delivered to the broker").register(registry);
+		FunctionCounter.builder(METRICS_PREFIX + ".dropped", droppedMessages, AtomicLong::get).description("MQTT messages dropped due to a full queue or a closed publisher").register(registry);
+		FunctionCounter.builder(METRICS_PREFIX + ".failed", failedMessages, AtomicLong::get).description("MQTT messages that could not be delivered to the broker").register(registry);
+		FunctionTimer.builder(METRICS_PREFIX + ".latency", this, AsyncMqttPublisher::getPublishedMessageCount, publisher -> publisher.totalPublishLatencyNanos.get(), TimeUnit.NANOSECONDS)
+				.description("Time between enqueuing a message and its delivery to the broker").register(registry);
+		TimeGauge.builder(METRICS_PREFIX + ".latency.max", this, TimeUnit.NANOSECONDS, publisher -> publisher.maxPublishLatencyNanos.get()).description("Maximum time between enqueuing a message and its delivery to the broker").register(registry);
+	}
+
+	private boolean enqueue(QueuedMessage message) throws InterruptedException {
+		switch (overflowPolicy) {
+		case BLOCK:
+			return enqueueBlocking(message);
+		case DROP_OLDEST:
+			return enqueueDroppingOldest(message);
+		default:
+			return queue.offer(message);
+		}
+	}
+
+	private boolean enqueueBlocking(QueuedMessage message) throws InterruptedException {
+		queue.put(message);
+		return true;
+	}
+
+	private boolean enqueueDroppingOldest(QueuedMessage message) {
+		while (!queue.offer(message)) {
+			QueuedMessage oldest = queue.poll();
+			if (oldest == null)
+				continue;
+
+			droppedMessages.incrementAndGet();
+			decrementPending(1);
+			logger.warn("MQTT publish queue is full, dropping oldest message to " + oldest.topic);
+		}
+
+		return true;
+	}
+
+	private void processQueue() {
+		List<QueuedMessage> batch = new ArrayList<>(maxBatchSize);
+
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				batch.add(queue.take());
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			queue.drainTo(batch, maxBatchSize - 1);
+			publishBatch(batch);
+			decrementPending(batch.size());
+			batch.clear();
+		}
+	}
+
+	private void publishBatch(List<QueuedMessage> batch) {
+		List<MqttDeliveryToken> tokens = new ArrayList<>(batch.size());
+
+		for (QueuedMessage message : batch) {
+			tokens.add(sendMessage(message));
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			MqttDeliveryToken token = tokens.get(i);
+			if (token != null)
+				awaitDelivery(batch.get(i), token);
+		}
+	}
+
+	private MqttDeliveryToken sendMessage(QueuedMessage message) {
+		try {
+			return mqttClient.getTopic(message.topic).publish(message.message);
+		} catch (MqttException | RuntimeException e) {
+			failedMessages.incrementAndGet();
+			logger.error("Could not send mqtt message", e);
+			return null;
+		}
+	}
+
+	private void awaitDelivery(QueuedMessage message, MqttDeliveryToken token) {
+		try {
+			token.waitForCompletion();
+			recordLatency(System.nanoTime() - message.enqueuedAt);
+		} catch (MqttException | RuntimeException e) {
+			failedMessages.incrementAndGet();
+			logger.error("Could not deliver mqtt message to " + message.topic, e);
+		}
+	}
+
+	private void recordLatency(long latencyNanos) {
+		publishedMessages.incrementAndGet();
+		totalPublishLatencyNanos.addAndGet(latencyNanos);
+		maxPublishLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+	}
+
+	private void incrementPending() {
+		synchronized (pendingLock) {
+			pendingMessages++;
+		}
+	}
+
+	private void decrementPending(int count) {
+		synchronized (pendingLock) {
+			pendingMessages -= count;
+			if (pendingMessages == 0)
+				pendingLock.notifyAll();
+		}
+	}
+
+	private static MqttMessage createMqttMessage(String payload) {
+		if (payload == null) {
+			return new MqttMessage();
+		} else {
+			return new MqttMessage(payload.getBytes());
+		}
+	}
+
+	private static class QueuedMessage {
+		private final String topic;
+		private final MqttMessage message;
+		private final long enqueuedAt;
+
+		private QueuedMessage(String topic, MqttMessage message, long enqueuedAt) {
+			this.topic = topic;
+			this.message = message;
+			this.enqueuedAt = enqueuedAt;
+		}
+	}
+}
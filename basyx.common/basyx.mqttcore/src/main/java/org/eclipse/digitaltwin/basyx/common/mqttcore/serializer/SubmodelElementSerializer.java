@@ -27,19 +27,9 @@ package org.eclipse.digitaltwin.basyx.common.mqttcore.serializer;
 
 import java.util.Optional;
 
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
-import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
-import org.eclipse.digitaltwin.aas4j.v3.model.File;
-import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
-import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
-import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 
 /**
  * Serializer for the submodel element.
@@ -49,6 +39,8 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 public class SubmodelElementSerializer {
 	public static final String EMPTYVALUEUPDATE_TYPE = "emptyValueUpdateEvent";
 
+	private static final ValueSkippingJsonSerializer SERIALIZER = new ValueSkippingJsonSerializer();
+
 	private SubmodelElementSerializer() {
 	}
 
@@ -60,51 +52,15 @@ public class SubmodelElementSerializer {
 	 */
 	public static String serializeSubmodelElement(SubmodelElement submodelElement) {
 		try {
-			SubmodelElement localElement;
-			if (shouldSendEmptyValueEvent(submodelElement)) {
-				localElement = getSubmodelElementWithoutValue(submodelElement);
-			} else {
-				localElement = submodelElement;
-			}
+			if (shouldSendEmptyValueEvent(submodelElement))
+				return SERIALIZER.writeWithoutValue(submodelElement);
 
-			return new JsonSerializer().write(localElement);
-		} catch (SerializationException | DeserializationException e) {
+			return SERIALIZER.write(submodelElement);
+		} catch (SerializationException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
-	/**
-	 * Generator to create a copy of a submodelElement without its value.
-	 * 
-	 * @param submodelElement
-	 * @return submodelElement without value
-	 * @throws SerializationException
-	 * @throws DeserializationException
-	 */
-	private static SubmodelElement getSubmodelElementWithoutValue(SubmodelElement submodelElement) throws SerializationException, DeserializationException {
-		// Copy the SubmodelElement to not modify the original.
-		String jsonToCopy = new JsonSerializer().write(submodelElement);
-		SubmodelElement localElement = new JsonDeserializer().readReferable(jsonToCopy, SubmodelElement.class);
-
-		if (submodelElement instanceof Blob) {
-			((Blob) localElement).setValue(null);
-		} else if (submodelElement instanceof File) {
-			((File) localElement).setValue(null);
-		} else if (submodelElement instanceof MultiLanguageProperty) {
-			((MultiLanguageProperty) localElement).setValue(null);
-		} else if (submodelElement instanceof Property) {
-			((Property) localElement).setValue(null);
-		} else if (submodelElement instanceof ReferenceElement) {
-			((ReferenceElement) localElement).setValue(null);
-		} else if (submodelElement instanceof SubmodelElementCollection) {
-			((SubmodelElementCollection) localElement).setValue(null);
-		} else if (submodelElement instanceof SubmodelElementList) {
-			((SubmodelElementList) localElement).setValue(null);
-		}
-
-		return localElement;
-	}
-
 	/**
 	 * Returns true if the submodelElement has an EmptyValueUpdateEvent with a value
 	 * of true.
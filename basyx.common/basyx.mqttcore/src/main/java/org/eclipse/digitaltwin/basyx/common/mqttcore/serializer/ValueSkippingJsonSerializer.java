@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.serializer;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/**
+ * JsonSerializer that is additionally able to write a SubmodelElement without
+ * its value in a single pass, i.e., without creating a modified copy of it.
+ * 
+ * Only the value of the passed SubmodelElement itself is skipped, the values of
+ * nested elements are written as usual.
+ * 
+ * @author schnicke
+ */
+class ValueSkippingJsonSerializer extends JsonSerializer {
+	private static final String VALUE_PROPERTY = "value";
+	private static final String SKIP_VALUE_OF_ATTRIBUTE = ValueSkippingJsonSerializer.class.getName() + ".skipValueOf";
+	private static final List<Class<?>> TYPES_WITH_SKIPPABLE_VALUE = List.of(Blob.class, File.class, MultiLanguageProperty.class, Property.class, ReferenceElement.class, SubmodelElementCollection.class,
+			SubmodelElementList.class);
+
+	public ValueSkippingJsonSerializer() {
+		super();
+		mapper.registerModule(new SimpleModule().setSerializerModifier(new ValueSkippingSerializerModifier()));
+	}
+
+	/**
+	 * Writes the SubmodelElement without its value
+	 * 
+	 * @param submodelElement
+	 * @return serialized submodelElement as JSON String
+	 * @throws SerializationException
+	 */
+	public String writeWithoutValue(SubmodelElement submodelElement) throws SerializationException {
+		try {
+			return mapper.writer()
+					.withAttribute(SKIP_VALUE_OF_ATTRIBUTE, submodelElement)
+					.writeValueAsString(submodelElement);
+		} catch (JsonProcessingException e) {
+			throw new SerializationException("error serializing SubmodelElement", e);
+		}
+	}
+
+	private static boolean hasSkippableValue(Class<?> beanClass) {
+		return TYPES_WITH_SKIPPABLE_VALUE.stream()
+				.anyMatch(type -> type.isAssignableFrom(beanClass));
+	}
+
+	private static class ValueSkippingSerializerModifier extends BeanSerializerModifier {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+			if (!hasSkippableValue(beanDesc.getBeanClass()))
+				return beanProperties;
+
+			return beanProperties.stream()
+					.map(writer -> VALUE_PROPERTY.equals(writer.getName()) ? new ValueSkippingPropertyWriter(writer) : writer)
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static class ValueSkippingPropertyWriter extends BeanPropertyWriter {
+		private static final long serialVersionUID = 1L;
+
+		private ValueSkippingPropertyWriter(BeanPropertyWriter base) {
+			super(base);
+		}
+
+		@Override
+		public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+			if (prov.getAttribute(SKIP_VALUE_OF_ATTRIBUTE) == bean)
+				return;
+
+			super.serializeAsField(bean, gen, prov);
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.MqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.MqttTopic;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the overflow policies, flushing and closing of the
+ * {@link AsyncMqttPublisher} using a client whose deliveries can be held back
+ *
+ * @author schnicke
+ *
+ */
+public class TestAsyncMqttPublisher {
+	private static final String TOPIC = "test/topic";
+
+	private IMqttClient mqttClient;
+	private List<String> published;
+	private CountDownLatch deliveryStarted;
+	private CountDownLatch releaseDelivery;
+	private AsyncMqttPublisher publisher;
+
+	@Before
+	public void setUp() throws MqttException {
+		published = new CopyOnWriteArrayList<>();
+		deliveryStarted = new CountDownLatch(1);
+		releaseDelivery = new CountDownLatch(0);
+
+		MqttTopic topic = mock(MqttTopic.class);
+		when(topic.publish(any(MqttMessage.class))).thenAnswer(invocation -> createToken(invocation.getArgument(0)));
+		mqttClient = mock(IMqttClient.class);
+		when(mqttClient.getTopic(anyString())).thenReturn(topic);
+	}
+
+	@After
+	public void tearDown() {
+		releaseDelivery.countDown();
+		if (publisher != null)
+			publisher.close();
+	}
+
+	@Test
+	public void messagesArePublishedInOrder() throws InterruptedException {
+		publisher = new AsyncMqttPublisher(mqttClient, 10, OverflowPolicy.BLOCK, 2, 10);
+
+		for (int i = 0; i < 5; i++) {
+			assertTrue(publisher.publish(TOPIC, "message" + i));
+		}
+
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		assertEquals(List.of("message0", "message1", "message2", "message3", "message4"), published);
+		assertEquals(5, publisher.getPublishedMessageCount());
+	}
+
+	@Test
+	public void blockPolicyWaitsForSpaceInQueue() throws InterruptedException {
+		publisher = createPublisherWithHeldDelivery(OverflowPolicy.BLOCK);
+
+		Thread blocked = new Thread(() -> publisher.publish(TOPIC, "third"));
+		blocked.start();
+		blocked.join(200);
+		assertTrue(blocked.isAlive());
+
+		releaseDelivery.countDown();
+		blocked.join(5000);
+		assertFalse(blocked.isAlive());
+
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		assertEquals(List.of("first", "second", "third"), published);
+		assertEquals(0, publisher.getDroppedMessageCount());
+	}
+
+	@Test
+	public void interruptedBlockedPublishIsNotCountedAsDropped() throws InterruptedException {
+		publisher = createPublisherWithHeldDelivery(OverflowPolicy.BLOCK);
+
+		Thread.currentThread().interrupt();
+		assertFalse(publisher.publish(TOPIC, "third"));
+		assertTrue(Thread.interrupted());
+		assertEquals(0, publisher.getDroppedMessageCount());
+
+		releaseDelivery.countDown();
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		assertEquals(List.of("first", "second"), published);
+	}
+
+	@Test
+	public void dropOldestPolicyDiscardsOldestQueuedMessage() throws InterruptedException {
+		publisher = createPublisherWithHeldDelivery(OverflowPolicy.DROP_OLDEST);
+
+		assertTrue(publisher.publish(TOPIC, "third"));
+		assertEquals(1, publisher.getDroppedMessageCount());
+
+		releaseDelivery.countDown();
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		assertEquals(List.of("first", "third"), published);
+	}
+
+	@Test
+	public void dropNewPolicyDiscardsNewMessage() throws InterruptedException {
+		publisher = createPublisherWithHeldDelivery(OverflowPolicy.DROP_NEW);
+
+		assertFalse(publisher.publish(TOPIC, "third"));
+		assertEquals(1, publisher.getDroppedMessageCount());
+
+		releaseDelivery.countDown();
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		assertEquals(List.of("first", "second"), published);
+	}
+
+	@Test
+	public void flushTimesOutWhileDeliveryIsPending() throws InterruptedException {
+		publisher = createPublisherWithHeldDelivery(OverflowPolicy.BLOCK);
+
+		assertFalse(publisher.flush(100, TimeUnit.MILLISECONDS));
+
+		releaseDelivery.countDown();
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void closePublishesQueuedMessagesAndRejectsNewOnes() throws InterruptedException {
+		publisher = createPublisherWithHeldDelivery(OverflowPolicy.BLOCK);
+
+		new Thread(() -> releaseDelivery.countDown()).start();
+		publisher.close();
+
+		assertEquals(List.of("first", "second"), published);
+		assertFalse(publisher.publish(TOPIC, "third"));
+		assertEquals(1, publisher.getDroppedMessageCount());
+	}
+
+	@Test
+	public void runtimeExceptionOfClientDoesNotStopPublishing() throws InterruptedException {
+		when(mqttClient.getTopic("failing/topic")).thenThrow(new IllegalStateException("client failure"));
+		publisher = new AsyncMqttPublisher(mqttClient, 1, OverflowPolicy.BLOCK, 1, 10);
+
+		assertTrue(publisher.publish("failing/topic", "failing"));
+		assertTrue(publisher.publish(TOPIC, "message"));
+
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		assertEquals(List.of("message"), published);
+		assertEquals(1, publisher.getFailedMessageCount());
+		assertEquals(1, publisher.getPublishedMessageCount());
+	}
+
+	@Test
+	public void batchSizeMustNotExceedMaxInflight() {
+		assertThrows(IllegalArgumentException.class, () -> new AsyncMqttPublisher(mqttClient, 10, OverflowPolicy.BLOCK, 11, 10));
+	}
+
+	@Test
+	public void metricsAreRegistered() throws InterruptedException {
+		publisher = new AsyncMqttPublisher(mqttClient);
+		MeterRegistry registry = new SimpleMeterRegistry();
+		publisher.bindTo(registry);
+
+		publisher.publish(TOPIC, "message");
+		assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+
+		assertEquals(1, registry.get(AsyncMqttPublisher.METRICS_PREFIX + ".published").functionCounter().count(), 0);
+		assertEquals(1, registry.get(AsyncMqttPublisher.METRICS_PREFIX + ".latency").functionTimer().count(), 0);
+		assertEquals(0, registry.get(AsyncMqttPublisher.METRICS_PREFIX + ".queue.depth").gauge().value(), 0);
+	}
+
+	/**
+	 * Creates a publisher with a queue capacity of one, whose worker holds the
+	 * delivery of the message "first" while "second" waits in the full queue
+	 */
+	private AsyncMqttPublisher createPublisherWithHeldDelivery(OverflowPolicy overflowPolicy) throws InterruptedException {
+		releaseDelivery = new CountDownLatch(1);
+		AsyncMqttPublisher heldPublisher = new AsyncMqttPublisher(mqttClient, 1, overflowPolicy, 1, 10);
+
+		heldPublisher.publish(TOPIC, "first");
+		assertTrue(deliveryStarted.await(5, TimeUnit.SECONDS));
+		assertTrue(heldPublisher.publish(TOPIC, "second"));
+
+		return heldPublisher;
+	}
+
+	private MqttDeliveryToken createToken(MqttMessage message) throws MqttException {
+		MqttDeliveryToken token = mock(MqttDeliveryToken.class);
+		doAnswer(invocation -> {
+			deliveryStarted.countDown();
+			releaseDelivery.await();
+			published.add(new String(message.getPayload()));
+			return null;
+		}).when(token).waitForCompletion();
+		return token;
+	}
+}
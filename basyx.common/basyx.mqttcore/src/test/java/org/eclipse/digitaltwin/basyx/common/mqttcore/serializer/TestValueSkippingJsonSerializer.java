@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.serializer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.model.EntityType;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests that the {@link ValueSkippingJsonSerializer} only skips the value of
+ * the passed SubmodelElement
+ *
+ * @author schnicke
+ *
+ */
+public class TestValueSkippingJsonSerializer {
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final ValueSkippingJsonSerializer serializer = new ValueSkippingJsonSerializer();
+
+	@Test
+	public void propertyWithoutValue() throws SerializationException, JsonProcessingException {
+		SubmodelElement property = createProperty("prop", "42");
+
+		JsonNode withoutValue = MAPPER.readTree(serializer.writeWithoutValue(property));
+
+		assertFalse(withoutValue.has("value"));
+		assertEquals(expectedWithoutValue(property), withoutValue);
+	}
+
+	@Test
+	public void collectionWithoutValue() throws SerializationException, JsonProcessingException {
+		SubmodelElement collection = new DefaultSubmodelElementCollection.Builder().idShort("collection")
+				.category("cat1")
+				.value(List.of(createProperty("prop1", "1"), createProperty("prop2", "2")))
+				.build();
+
+		JsonNode withoutValue = MAPPER.readTree(serializer.writeWithoutValue(collection));
+
+		assertFalse(withoutValue.has("value"));
+		assertEquals(expectedWithoutValue(collection), withoutValue);
+	}
+
+	@Test
+	public void nestedValuesAreKept() throws SerializationException, JsonProcessingException {
+		SubmodelElement nestedProperty = createProperty("nested", "nestedValue");
+		SubmodelElement entity = new DefaultEntity.Builder().idShort("entity")
+				.entityType(EntityType.SELF_MANAGED_ENTITY)
+				.statements(nestedProperty)
+				.build();
+
+		JsonNode withoutValue = MAPPER.readTree(serializer.writeWithoutValue(entity));
+
+		assertEquals(MAPPER.readTree(serializer.write(entity)), withoutValue);
+		assertEquals("nestedValue", withoutValue.get("statements").get(0).get("value").asText());
+		assertEquals("1", withoutValue.get("statements").get(0).get("qualifiers").get(0).get("value").asText());
+	}
+
+	@Test
+	public void valueIsOnlySkippedWhenRequested() throws SerializationException, JsonProcessingException {
+		SubmodelElement property = createProperty("prop", "42");
+		serializer.writeWithoutValue(property);
+
+		JsonNode withValue = MAPPER.readTree(serializer.write(property));
+
+		assertTrue(withValue.has("value"));
+		assertEquals("42", withValue.get("value").asText());
+	}
+
+	private JsonNode expectedWithoutValue(SubmodelElement submodelElement) throws SerializationException, JsonProcessingException {
+		ObjectNode expected = (ObjectNode) MAPPER.readTree(serializer.write(submodelElement));
+		expected.remove("value");
+		return expected;
+	}
+
+	private static SubmodelElement createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort)
+				.category("cat1")
+				.value(value)
+				.qualifiers(new DefaultQualifier.Builder().type("qualifier").value("1").build())
+				.build();
+	}
+}
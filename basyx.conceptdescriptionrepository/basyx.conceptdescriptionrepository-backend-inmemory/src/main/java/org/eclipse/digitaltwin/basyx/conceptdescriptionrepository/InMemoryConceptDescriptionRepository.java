@@ -27,12 +27,13 @@ package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -53,7 +54,7 @@ import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
  */
 public class InMemoryConceptDescriptionRepository implements ConceptDescriptionRepository {
 
-	private Map<String, ConceptDescription> conceptDescriptions = new LinkedHashMap<>();
+	private ConcurrentNavigableMap<String, ConceptDescription> conceptDescriptions = new ConcurrentSkipListMap<>();
 	
 	private String cdRepositoryName;
 
@@ -98,52 +99,26 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo) {
-		List<ConceptDescription> conceptDescriptionList = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-
-		CursorResult<List<ConceptDescription>> paginatedCD = paginateList(pInfo, conceptDescriptionList);
+		CursorResult<List<ConceptDescription>> paginatedCD = paginate(pInfo, conceptDescription -> true);
 		return paginatedCD;
 	}
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
-		List<ConceptDescription> allDescriptions = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-
-		List<ConceptDescription> filtered = allDescriptions.stream()
-				.filter(conceptDescription -> conceptDescription.getIdShort()
-						.equals(idShort))
-				.collect(Collectors.toList());
-		CursorResult<List<ConceptDescription>> result = paginateList(pInfo, filtered);
+		CursorResult<List<ConceptDescription>> result = paginate(pInfo, conceptDescription -> conceptDescription.getIdShort()
+				.equals(idShort));
 		return result;
 	}
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIsCaseOf(Reference reference, PaginationInfo pInfo) {
-		List<ConceptDescription> allDescriptions = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-		List<ConceptDescription> filtered = allDescriptions.stream()
-				.filter(conceptDescription -> hasMatchingReference(conceptDescription, reference))
-				.collect(Collectors.toList());
-
-		CursorResult<List<ConceptDescription>> result = paginateList(pInfo, filtered);
+		CursorResult<List<ConceptDescription>> result = paginate(pInfo, conceptDescription -> hasMatchingReference(conceptDescription, reference));
 		return result;
 	}
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByDataSpecificationReference(Reference reference, PaginationInfo pInfo) {
-		List<ConceptDescription> allDescriptions = conceptDescriptions.values()
-				.stream()
-				.collect(Collectors.toList());
-
-		List<ConceptDescription> filtered = allDescriptions.stream()
-				.filter(conceptDescription -> hasMatchingDataSpecificationReference(conceptDescription, reference))
-				.collect(Collectors.toList());
-
-		CursorResult<List<ConceptDescription>> result = paginateList(pInfo, filtered);
+		CursorResult<List<ConceptDescription>> result = paginate(pInfo, conceptDescription -> hasMatchingDataSpecificationReference(conceptDescription, reference));
 		return result;
 	}
 
@@ -236,12 +211,9 @@ public class InMemoryConceptDescriptionRepository implements ConceptDescriptionR
 			throw new IdentificationMismatchException();
 	}
 
-	private CursorResult<List<ConceptDescription>> paginateList(PaginationInfo pInfo, List<ConceptDescription> conceptDescriptionList) {
-		TreeMap<String, ConceptDescription> cdMap = conceptDescriptionList.stream()
-				.collect(Collectors.toMap(ConceptDescription::getId, cd -> cd, (a, b) -> a, TreeMap::new));
-
-		PaginationSupport<ConceptDescription> paginationSupport = new PaginationSupport<>(cdMap, ConceptDescription::getId);
-		CursorResult<List<ConceptDescription>> paginatedCD = paginationSupport.getPaged(pInfo);
+	private CursorResult<List<ConceptDescription>> paginate(PaginationInfo pInfo, Predicate<ConceptDescription> filter) {
+		PaginationSupport<ConceptDescription> paginationSupport = new PaginationSupport<>(conceptDescriptions, ConceptDescription::getId);
+		CursorResult<List<ConceptDescription>> paginatedCD = paginationSupport.getPaged(pInfo, filter);
 		return paginatedCD;
 	}
 
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
@@ -37,6 +38,8 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchExcep
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.index.Index;
@@ -54,6 +57,7 @@ import com.mongodb.client.result.DeleteResult;
  */
 public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRepository {
 	private static final String IDJSONPATH = "id";
+	private static final String ID = "_id";
 
 	private MongoTemplate mongoTemplate;
 	private String collectionName;
@@ -77,6 +81,17 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 		return paginatedCD;
 	}
 
+	@Override
+	public StreamedCursorResult<ConceptDescription> streamAllConceptDescriptions(PaginationInfo pInfo) {
+		Query query = new Query();
+		applySorting(query);
+		applyPagination(query, pInfo);
+		Stream<ConceptDescription> foundDescriptions = mongoTemplate.stream(query, ConceptDescription.class, collectionName)
+				.stream();
+
+		return new StreamedCursorResult<>(foundDescriptions, pInfo, ConceptDescription::getId);
+	}
+
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
 		List<ConceptDescription> allDescriptions = mongoTemplate.findAll(ConceptDescription.class, collectionName);
@@ -129,12 +144,11 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 		Query query = new Query().addCriteria(Criteria.where(IDJSONPATH)
 				.is(conceptDescriptionId));
 
-		throwIfConceptDescriptionDoesNotExist(query, conceptDescriptionId);
-
-		throwIfMismatchingIds(conceptDescriptionId, conceptDescription);
+		throwIfMismatchingIds(query, conceptDescriptionId, conceptDescription);
 
-		mongoTemplate.remove(query, ConceptDescription.class, collectionName);
-		mongoTemplate.save(conceptDescription, collectionName);
+		query.fields().include(ID);
+		if (mongoTemplate.findAndReplace(query, conceptDescription, collectionName) == null)
+			throw new ElementDoesNotExistException(conceptDescriptionId);
 	}
 
 	@Override
@@ -194,11 +208,15 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 			throw new ElementDoesNotExistException(conceptDescriptionId);
 	}
 
-	private void throwIfMismatchingIds(String conceptDescriptionId, ConceptDescription newConceptDescription) {
+	private void throwIfMismatchingIds(Query query, String conceptDescriptionId, ConceptDescription newConceptDescription) {
 		String newConceptDescriptionId = newConceptDescription.getId();
 
-		if (!conceptDescriptionId.equals(newConceptDescriptionId))
-			throw new IdentificationMismatchException();
+		if (conceptDescriptionId.equals(newConceptDescriptionId))
+			return;
+
+		// A non-existing ConceptDescription is reported in favor of the mismatch
+		throwIfConceptDescriptionDoesNotExist(query, conceptDescriptionId);
+		throw new IdentificationMismatchException();
 	}
 
 	private CursorResult<List<ConceptDescription>> paginateList(PaginationInfo pInfo, List<ConceptDescription> cdList) {
@@ -210,4 +228,17 @@ public class MongoDBConceptDescriptionRepository implements ConceptDescriptionRe
 		return paginatedCD;
 	}
 
+	private void applySorting(Query query) {
+		query.with(Sort.by(Direction.ASC, ID));
+	}
+
+	private void applyPagination(Query query, PaginationInfo pInfo) {
+		if (pInfo.hasCursor())
+			query.addCriteria(Criteria.where(ID)
+					.gt(pInfo.getCursor()));
+
+		if (pInfo.hasLimit())
+			query.limit(pInfo.getLimit());
+	}
+
 }
@@ -25,6 +25,7 @@
 
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -42,6 +43,8 @@ import org.springframework.stereotype.Component;
 public class MongoDBConceptDescriptionRepositoryFactory implements ConceptDescriptionRepositoryFactory {
 
 	private MongoTemplate mongoTemplate;
+	private String writeConcern;
+	private String readPreference;
 	private String collectionName;
 	private String cdRepositoryName;
 
@@ -60,8 +63,23 @@ public class MongoDBConceptDescriptionRepositoryFactory implements ConceptDescri
 		this.cdRepositoryName = cdRepositoryName;
 	}
 
+	/**
+	 * Configures the write concern and the read preference used for accessing the
+	 * collection, e.g. <i>MAJORITY</i> and <i>primaryPreferred</i>. Empty values
+	 * keep the defaults of the MongoDB connection.
+	 * 
+	 * @param writeConcern
+	 * @param readPreference
+	 */
+	@Autowired
+	public void setConsistencySettings(@Value("${basyx.conceptdescriptionrepository.mongodb.writeConcern:}") String writeConcern,
+			@Value("${basyx.conceptdescriptionrepository.mongodb.readPreference:}") String readPreference) {
+		this.writeConcern = writeConcern;
+		this.readPreference = readPreference;
+	}
+
 	@Override
 	public ConceptDescriptionRepository create() {
-		return new MongoDBConceptDescriptionRepository(mongoTemplate, collectionName, cdRepositoryName);
+		return new MongoDBConceptDescriptionRepository(MongoDBUtilities.withConsistencySettings(mongoTemplate, writeConcern, readPreference), collectionName, cdRepositoryName);
 	}
 }
@@ -33,6 +33,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 
 /**
  * Specifies the overall ConceptDescriptionRepository API
@@ -49,6 +50,17 @@ public interface ConceptDescriptionRepository {
 	 */
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo);
 
+	/**
+	 * Retrieves all ConceptDescriptions from the repository as lazily
+	 * consumable Stream, e.g., on top of a database cursor. The returned result
+	 * has to be closed after it has been consumed.
+	 * 
+	 * @return the page of all found ConceptDescriptions
+	 */
+	public default StreamedCursorResult<ConceptDescription> streamAllConceptDescriptions(PaginationInfo pInfo) {
+		return StreamedCursorResult.of(getAllConceptDescriptions(pInfo));
+	}
+
 	/**
 	 * Retrieves all ConceptDescriptions from the repository matching the passed
 	 * idShort
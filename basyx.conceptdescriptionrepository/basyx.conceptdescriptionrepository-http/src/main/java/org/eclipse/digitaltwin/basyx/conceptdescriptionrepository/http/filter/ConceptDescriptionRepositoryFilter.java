@@ -32,6 +32,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 
 /**
  * Filters ConceptDescriptions based on parameters
@@ -71,6 +72,20 @@ public class ConceptDescriptionRepositoryFilter {
 		return repository.getAllConceptDescriptions(pInfo);
 	}
 
+	/**
+	 * Filters ConceptDescriptions from repository. If no filter is set, the
+	 * ConceptDescriptions are streamed from the repository.
+	 * 
+	 * @return a filtered page of ConceptDescriptions, which has to be closed
+	 *         after it has been consumed
+	 */
+	public StreamedCursorResult<ConceptDescription> stream(String idShort, Reference isCaseOf, Reference dataSpecificationRef, PaginationInfo pInfo) {
+		if (idShort == null && isCaseOf == null && dataSpecificationRef == null)
+			return repository.streamAllConceptDescriptions(pInfo);
+
+		return StreamedCursorResult.of(filter(idShort, isCaseOf, dataSpecificationRef, pInfo));
+	}
+
 	private boolean hasPermittedNumberOfParameters(String idShort, Reference isCaseOf, Reference dataSpecificationRef) {
 		int setParameters = 0;
 
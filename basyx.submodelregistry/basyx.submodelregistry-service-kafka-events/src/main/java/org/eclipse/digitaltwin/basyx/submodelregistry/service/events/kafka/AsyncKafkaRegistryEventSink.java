@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka;
+
+import org.eclipse.digitaltwin.basyx.common.eventcore.AsyncEventSender;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEventSink;
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers registry events and sends them from a single background thread, so that REST requests do not wait for the
+ * kafka producer. Batching is done by the producer itself, see linger.ms and batch.size.
+ */
+@Log4j2
+public class AsyncKafkaRegistryEventSink implements RegistryEventSink, DisposableBean {
+
+	private final AsyncEventSender<RegistryEvent> sender;
+
+	public AsyncKafkaRegistryEventSink(KafkaRegistryEventSink sink, int bufferSize, long offerTimeoutMillis, MeterRegistry meterRegistry) {
+		this.sender = new AsyncEventSender<>("submodel-registry-kafka-events", sink::consumeEvent, bufferSize, offerTimeoutMillis, meterRegistry, KafkaRegistryEventSink.METRICS_PREFIX);
+	}
+
+	@Override
+	public void consumeEvent(RegistryEvent evt) {
+		if (!sender.send(evt)) {
+			log.error("Send buffer is full or closed. Dropped registration event for " + evt.getId());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		sender.close();
+	}
+}
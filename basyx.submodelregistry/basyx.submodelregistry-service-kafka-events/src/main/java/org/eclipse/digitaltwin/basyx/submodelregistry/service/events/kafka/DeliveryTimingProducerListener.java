@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (C) 2023 DFKI GmbH (https://www.dfki.de/en/web)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.LoggingProducerListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the time from handing over a registry event to the kafka producer until the broker acknowledged it. The
+ * record timestamp is set to the hand-over time by the {@link KafkaRegistryEventSink}. Failed sends are counted and
+ * logged like by the default producer listener of the binder.
+ */
+public class DeliveryTimingProducerListener extends LoggingProducerListener<Object, Object> {
+
+	private final Timer deliveryTimer;
+
+	private final Counter failedCounter;
+
+	public DeliveryTimingProducerListener(MeterRegistry meterRegistry) {
+		this.deliveryTimer = Timer.builder(KafkaRegistryEventSink.METRICS_PREFIX + ".delivery").description("Time from handing over a registry event to the kafka producer until the broker acknowledged it").register(meterRegistry);
+		this.failedCounter = Counter.builder(KafkaRegistryEventSink.METRICS_PREFIX + ".failed").description("Registry events the kafka producer could not deliver to the broker").register(meterRegistry);
+	}
+
+	@Override
+	public void onSuccess(ProducerRecord<Object, Object> producerRecord, RecordMetadata recordMetadata) {
+		Long handedOverAt = producerRecord.timestamp();
+		if (handedOverAt != null) {
+			deliveryTimer.record(Math.max(0, System.currentTimeMillis() - handedOverAt), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void onError(ProducerRecord<Object, Object> producerRecord, RecordMetadata recordMetadata, Exception exception) {
+		failedCounter.increment();
+		super.onError(producerRecord, recordMetadata, exception);
+	}
+}
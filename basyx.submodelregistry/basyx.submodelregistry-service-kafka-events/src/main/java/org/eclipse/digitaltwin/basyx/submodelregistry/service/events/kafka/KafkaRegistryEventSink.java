@@ -24,11 +24,18 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent;
 import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEventSink;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
@@ -36,17 +43,37 @@ public class KafkaRegistryEventSink implements RegistryEventSink {
 
 	private static final String REGISTRY_BINDING_NAME = "registryBinding";
 
-	@Autowired
-	private StreamBridge streamBridge;
+	static final String METRICS_PREFIX = "registry.events.kafka";
+
+	private final StreamBridge streamBridge;
+
+	private final Timer handoffTimer;
+
+	public KafkaRegistryEventSink(StreamBridge streamBridge, MeterRegistry meterRegistry) {
+		this.streamBridge = streamBridge;
+		this.handoffTimer = Timer.builder(METRICS_PREFIX + ".handoff").description("Time to hand over a registry event to the kafka producer, which sends it asynchronously").register(meterRegistry);
+	}
 
 	@Override
 	public void consumeEvent(RegistryEvent evt) {
-		boolean msgSent = streamBridge.send(REGISTRY_BINDING_NAME, evt);
-		if (msgSent)   {
-			log.info("Registration event message sent to stream.");
+		long start = System.nanoTime();
+		boolean msgSent = streamBridge.send(REGISTRY_BINDING_NAME, toMessage(evt));
+		handoffTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		if (msgSent) {
+			log.debug("Registration event message sent to stream.");
 		} else {
 			log.error("Failed to sent registration event info.");
 		}
 	}
 
-}
\ No newline at end of file
+	private static Message<RegistryEvent> toMessage(RegistryEvent evt) {
+		// the record timestamp is the hand-over time, from which the delivery latency is measured
+		MessageBuilder<RegistryEvent> builder = MessageBuilder.withPayload(evt).setHeader(KafkaHeaders.TIMESTAMP, System.currentTimeMillis());
+		if (evt.getId() != null) {
+			// events of the same submodel share a partition and thus keep their order
+			builder.setHeader(KafkaHeaders.MESSAGE_KEY, evt.getId().getBytes(StandardCharsets.UTF_8));
+		}
+		return builder.build();
+	}
+
+}
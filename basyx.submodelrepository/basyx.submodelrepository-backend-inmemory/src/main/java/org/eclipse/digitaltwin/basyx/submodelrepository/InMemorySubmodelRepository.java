@@ -26,23 +26,38 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
+import org.eclipse.digitaltwin.basyx.core.index.InvertedIdIndex;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelCopies;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
@@ -50,6 +65,14 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
 /**
  * In-memory implementation of the SubmodelRepository
+ * 
+ * The repository is thread-safe. Submodels are kept sorted by their id, so
+ * that pages can be retrieved without sorting all Submodels. Each Submodel is
+ * guarded by its own read/write lock, so that operations on different Submodels never contend
+ * and modifications only block the affected Submodel. Note that returned
+ * model objects are not copied, i.e., they are shared with the repository and
+ * must not be modified by the caller. Callers that need a snapshot unaffected
+ * by later writes have to copy the returned objects themselves.
  *
  * @author schnicke, danish, kammognie
  *
@@ -57,7 +80,12 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 public class InMemorySubmodelRepository implements SubmodelRepository {
 
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
-	private Map<String, SubmodelService> submodelServices = new LinkedHashMap<>();
+	private final ConcurrentNavigableMap<String, GuardedSubmodelService> submodelServices = new ConcurrentSkipListMap<>();
+	private static final String SEMANTIC_ID_FIELD = "semanticId";
+	private static final String ID_SHORT_FIELD = "idShort";
+	private final InvertedIdIndex<Submodel> submodelIndex = new InvertedIdIndex<>(Submodel::getId)
+			.withField(SEMANTIC_ID_FIELD, submodel -> getSemanticIdValues(submodel.getSemanticID()))
+			.withField(ID_SHORT_FIELD, submodel -> submodel.getIdShort() == null ? Collections.emptySet() : Collections.singleton(submodel.getIdShort()));
 	private SubmodelServiceFactory submodelServiceFactory;
 	private String smRepositoryName;
 
@@ -95,7 +123,7 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 		this(submodelServiceFactory);
 		throwIfHasCollidingIds(submodels);
 
-		submodelServices = createServices(submodels);
+		createServices(submodels);
 	}
 	
 	/**
@@ -124,92 +152,118 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 				});
 	}
 
-	private Map<String, SubmodelService> createServices(Collection<Submodel> submodels) {
-		Map<String, SubmodelService> map = new LinkedHashMap<>();
-		submodels.forEach(submodel -> map.put(submodel.getId(), submodelServiceFactory.create(submodel)));
-
-		return map;
+	private void createServices(Collection<Submodel> submodels) {
+		submodels.forEach(submodel -> {
+			submodelServices.put(submodel.getId(), new GuardedSubmodelService(submodel.getId(), submodelServiceFactory.create(submodel)));
+			submodelIndex.index(submodel);
+		});
 	}
 
 	@Override
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
-		List<Submodel> allSubmodels = submodelServices.values()
+		PaginationSupport<GuardedSubmodelService> paginationSupport = new PaginationSupport<>(submodelServices, GuardedSubmodelService::getSubmodelId);
+		CursorResult<List<GuardedSubmodelService>> paginatedServices = paginationSupport.getPaged(pInfo);
+
+		List<Submodel> paginatedSubmodels = paginatedServices.getResult()
 				.stream()
-				.map(service -> service.getSubmodel())
+				.map(GuardedSubmodelService::getSubmodelIfPresent)
+				.filter(Objects::nonNull)
 				.collect(Collectors.toList());
 
-		TreeMap<String, Submodel> submodelMap = allSubmodels.stream()
-				.collect(Collectors.toMap(Submodel::getId, aas -> aas, (a, b) -> a, TreeMap::new));
+		return new CursorResult<>(paginatedServices.getCursor(), paginatedSubmodels);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo) {
+		if (!filter.isFiltered())
+			return getAllSubmodels(pInfo);
 
-		PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(submodelMap, Submodel::getId);
-		CursorResult<List<Submodel>> paginatedSubmodels = paginationSupport.getPaged(pInfo);
-		return paginatedSubmodels;
+		Map<String, Set<String>> requiredKeys = new HashMap<>();
+		if (filter.hasSemanticId())
+			requiredKeys.put(SEMANTIC_ID_FIELD, Collections.singleton(filter.getSemanticId()));
+
+		if (filter.hasIdShort())
+			requiredKeys.put(ID_SHORT_FIELD, Collections.singleton(filter.getIdShort()));
+
+		NavigableMap<String, Submodel> matchingSubmodels = new TreeMap<>();
+		for (String submodelId : submodelIndex.findIds(requiredKeys)) {
+			GuardedSubmodelService guardedService = submodelServices.get(submodelId);
+			Submodel submodel = guardedService == null ? null : guardedService.getSubmodelIfPresent();
+
+			if (submodel != null && filter.matches(submodel))
+				matchingSubmodels.put(submodelId, submodel);
+		}
+
+		return new PaginationSupport<>(matchingSubmodels, Submodel::getId).getPaged(pInfo);
 	}
 
 	@Override
 	public Submodel getSubmodel(String id) throws ElementDoesNotExistException {
-		return getSubmodelService(id).getSubmodel();
+		return read(id, SubmodelService::getSubmodel);
 	}
 
 	@Override
 	public void updateSubmodel(String id, Submodel submodel) throws ElementDoesNotExistException {
-		throwIfSubmodelDoesNotExist(id);
-
-		throwIfMismatchingIds(id, submodel);
+		getGuardedService(id).replace(id, () -> {
+			throwIfMismatchingIds(id, submodel);
 
-		submodelServices.put(id, submodelServiceFactory.create(submodel));
+			return submodelServiceFactory.create(submodel);
+		}, () -> submodelIndex.index(submodel));
 	}
 
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
-		throwIfSubmodelExists(submodel.getId());
+		GuardedSubmodelService created = new GuardedSubmodelService(submodel.getId(), submodelServiceFactory.create(submodel));
 
-		submodelServices.put(submodel.getId(), submodelServiceFactory.create(submodel));
+		if (submodelServices.putIfAbsent(submodel.getId(), created) != null)
+			throw new CollidingIdentifierException(submodel.getId());
+
+		submodelIndex.index(submodel);
 	}
 
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) {
-		return getSubmodelService(submodelId).getSubmodelElements(pInfo);
+		return read(submodelId, service -> service.getSubmodelElements(pInfo));
 	}
 
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElement(smeIdShort);
+		return read(submodelId, service -> service.getSubmodelElement(smeIdShort));
 	}
 
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElementValue(smeIdShort);
+		return read(submodelId, service -> service.getSubmodelElementValue(smeIdShort));
 	}
 
 	@Override
 	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
-		getSubmodelService(submodelId).setSubmodelElementValue(smeIdShort, value);
+		write(submodelId, service -> service.setSubmodelElementValue(smeIdShort, value));
 	}
 
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
-		throwIfSubmodelDoesNotExist(submodelId);
+		GuardedSubmodelService guardedService = getGuardedService(submodelId);
 
-		submodelServices.remove(submodelId);
+		guardedService.remove(submodelId, () -> {
+			submodelServices.remove(submodelId, guardedService);
+			submodelIndex.remove(submodelId);
+		});
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
-		throwIfSubmodelDoesNotExist(submodelId);
-
-		submodelServices.get(submodelId)
-				.createSubmodelElement(smElement);
+		write(submodelId, service -> service.createSubmodelElement(smElement));
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
-		getSubmodelService(submodelId).createSubmodelElement(idShortPath, smElement);
+		write(submodelId, service -> service.createSubmodelElement(idShortPath, smElement));
 	}
 
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-		getSubmodelService(submodelId).deleteSubmodelElement(idShortPath);
+		write(submodelId, service -> service.deleteSubmodelElement(idShortPath));
 	}
 
 	@Override
@@ -219,9 +273,7 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public Submodel getSubmodelByIdMetadata(String submodelId) {
-		Submodel submodel = getSubmodel(submodelId);
-		submodel.setSubmodelElements(null);
-		return submodel;
+		return read(submodelId, service -> SubmodelCopies.copyWithoutSubmodelElements(service.getSubmodel()));
 	}
 	
 	@Override
@@ -231,10 +283,9 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).invokeOperation(idShortPath, input);
+		return read(submodelId, service -> service.invokeOperation(idShortPath, input));
 	}
 
-
 	private void throwIfMismatchingIds(String smId, Submodel newSubmodel) {
 		String newSubmodelId = newSubmodel.getId();
 
@@ -242,21 +293,106 @@ public class InMemorySubmodelRepository implements SubmodelRepository {
 			throw new IdentificationMismatchException();
 	}
 
+	private <T> T read(String submodelId, Function<SubmodelService, T> operation) {
+		return getGuardedService(submodelId).read(submodelId, operation);
+	}
 
-	private SubmodelService getSubmodelService(String submodelId) {
-		throwIfSubmodelDoesNotExist(submodelId);
-
-		return submodelServices.get(submodelId);
+	private void write(String submodelId, Consumer<SubmodelService> operation) {
+		getGuardedService(submodelId).write(submodelId, operation);
 	}
 
-	private void throwIfSubmodelExists(String id) {
-		if (submodelServices.containsKey(id))
-			throw new CollidingIdentifierException(id);
+	private GuardedSubmodelService getGuardedService(String submodelId) {
+		GuardedSubmodelService guardedService = submodelServices.get(submodelId);
+
+		if (guardedService == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		return guardedService;
 	}
 
-	private void throwIfSubmodelDoesNotExist(String id) {
-		if (!submodelServices.containsKey(id))
-			throw new ElementDoesNotExistException(id);
+	/**
+	 * SubmodelService together with the lock guarding it. A removed instance
+	 * rejects all operations, since concurrent callers may still hold a reference
+	 * to it.
+	 */
+	private static Set<String> getSemanticIdValues(Reference semanticId) {
+		Set<String> values = new HashSet<>();
+		if (semanticId == null || semanticId.getKeys() == null)
+			return values;
+
+		for (Key eachKey : semanticId.getKeys()) {
+			if (eachKey.getValue() != null)
+				values.add(eachKey.getValue());
+		}
+		return values;
 	}
 
+	private static class GuardedSubmodelService {
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		private final String submodelId;
+		private SubmodelService service;
+		private boolean removed;
+
+		private GuardedSubmodelService(String submodelId, SubmodelService service) {
+			this.submodelId = submodelId;
+			this.service = service;
+		}
+
+		private String getSubmodelId() {
+			return submodelId;
+		}
+
+		private <T> T read(String submodelId, Function<SubmodelService, T> operation) {
+			return guarded(lock.readLock(), submodelId, () -> operation.apply(service));
+		}
+
+		private void write(String submodelId, Consumer<SubmodelService> operation) {
+			guarded(lock.writeLock(), submodelId, () -> {
+				operation.accept(service);
+				return null;
+			});
+		}
+
+		/**
+		 * Replaces the SubmodelService. The passed callback is only run after the
+		 * replacement has been created successfully.
+		 */
+		private void replace(String submodelId, Supplier<SubmodelService> replacement, Runnable onReplaced) {
+			guarded(lock.writeLock(), submodelId, () -> {
+				service = replacement.get();
+				onReplaced.run();
+				return null;
+			});
+		}
+
+		private void remove(String submodelId, Runnable onRemoval) {
+			guarded(lock.writeLock(), submodelId, () -> {
+				removed = true;
+				onRemoval.run();
+				return null;
+			});
+		}
+
+		private Submodel getSubmodelIfPresent() {
+			Lock readLock = lock.readLock();
+			readLock.lock();
+			try {
+				return removed ? null : service.getSubmodel();
+			} finally {
+				readLock.unlock();
+			}
+		}
+
+		private <T> T guarded(Lock guardingLock, String submodelId, Supplier<T> operation) {
+			guardingLock.lock();
+			try {
+				if (removed)
+					throw new ElementDoesNotExistException(submodelId);
+
+				return operation.get();
+			} finally {
+				guardingLock.unlock();
+			}
+		}
+	}
 }
@@ -26,14 +26,27 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelrepository.core.SubmodelRepositorySuite;
 import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
 import org.junit.Test;
 import org.junit.Test.None;
@@ -46,6 +59,7 @@ import org.junit.Test.None;
 public class TestInMemorySubmodelRepository extends SubmodelRepositorySuite {
 	
 	private static final String CONFIGURED_SM_REPO_NAME = "configured-sm-repo-name";
+	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
 
 	@Override
 	protected SubmodelRepository getSubmodelRepository() {
@@ -76,6 +90,40 @@ public class TestInMemorySubmodelRepository extends SubmodelRepositorySuite {
 		new InMemorySubmodelRepository(new InMemorySubmodelServiceFactory(), submodelsWithUniqueIds);
 	}
 
+	@Test
+	public void concurrentSubmodelElementCreation() throws InterruptedException, ExecutionException {
+		Submodel submodel = DummySubmodelFactory.createSimpleDataSubmodel();
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(submodel));
+		int initialSize = submodel.getSubmodelElements().size();
+		int elementsToCreate = 200;
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < elementsToCreate; i++) {
+				String idShort = "concurrentProperty" + i;
+				futures.add(executor.submit(() -> repo.createSubmodelElement(submodel.getId(), new DefaultProperty.Builder().idShort(idShort).build())));
+				futures.add(executor.submit(() -> repo.getSubmodelElements(submodel.getId(), NO_LIMIT_PAGINATION_INFO)));
+			}
+
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(initialSize + elementsToCreate, repo.getSubmodelElements(submodel.getId(), NO_LIMIT_PAGINATION_INFO).getResult().size());
+	}
+
+	@Test
+	public void getSubmodelByIdMetadataKeepsSubmodelElements() {
+		Submodel submodel = DummySubmodelFactory.createSimpleDataSubmodel();
+		SubmodelRepository repo = getSubmodelRepository(Arrays.asList(submodel));
+
+		assertNull(repo.getSubmodelByIdMetadata(submodel.getId()).getSubmodelElements());
+		assertFalse(repo.getSubmodel(submodel.getId()).getSubmodelElements().isEmpty());
+	}
+
 	private Collection<Submodel> createSubmodelCollectionWithCollidingIds() {
 		return Arrays.asList(DummySubmodelFactory.createTechnicalDataSubmodel(), DummySubmodelFactory.createTechnicalDataSubmodel());
 	}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Stack;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+
+/**
+ * Location of a SubmodelElement inside of a stored Submodel document,
+ * expressed as MongoDB update path with array filters, e.g.
+ * <code>submodelElements.$[e0].value.$[e1].value.2</code>
+ *
+ * @author schnicke
+ *
+ */
+public class MongoDBSubmodelElementPath {
+
+	private static final String SUBMODEL_ELEMENTS_FIELD = "submodelElements";
+	private static final String VALUE_FIELD = "value";
+	private static final String STATEMENTS_FIELD = "statements";
+	private static final String ID_SHORT_FIELD = "idShort";
+	private static final String ARRAY_FILTER_IDENTIFIER_PREFIX = "e";
+
+	private final String path;
+	private final SubmodelElement submodelElement;
+	private final List<Bson> arrayFilters;
+
+	private MongoDBSubmodelElementPath(String path, SubmodelElement submodelElement, List<Bson> arrayFilters) {
+		this.path = path;
+		this.submodelElement = submodelElement;
+		this.arrayFilters = Collections.unmodifiableList(arrayFilters);
+	}
+
+	/**
+	 * Translates an idShortPath into the MongoDB update path of the addressed
+	 * SubmodelElement. The passed Submodel is used to resolve the kind of the
+	 * intermediate elements.
+	 *
+	 * @param submodel
+	 * @param idShortPath
+	 * @return the path or an empty optional, if the element does not exist or
+	 *         cannot be addressed unambiguously, e.g. because of duplicate
+	 *         idShorts
+	 */
+	public static Optional<MongoDBSubmodelElementPath> fromIdShortPath(Submodel submodel, String idShortPath) {
+		Stack<PathToken> tokens = new SubmodelElementIdShortPathParser().parsePathTokens(idShortPath);
+		List<Bson> arrayFilters = new ArrayList<>();
+		StringBuilder path = new StringBuilder(SUBMODEL_ELEMENTS_FIELD);
+
+		SubmodelElement current = appendIdShortSegment(path, arrayFilters, submodel.getSubmodelElements(), tokens.pop().getToken());
+		while (current != null && !tokens.isEmpty()) {
+			current = appendSegment(path, arrayFilters, current, tokens.pop());
+		}
+
+		if (current == null)
+			return Optional.empty();
+
+		return Optional.of(new MongoDBSubmodelElementPath(path.toString(), current, arrayFilters));
+	}
+
+	/**
+	 * Returns the update path of the SubmodelElement
+	 *
+	 * @return the update path
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the update path of the array containing the children of the
+	 * SubmodelElement
+	 *
+	 * @return the update path or an empty optional, if the SubmodelElement cannot
+	 *         have children
+	 */
+	public Optional<String> getChildrenPath() {
+		return getChildrenField(submodelElement).map(field -> path + "." + field);
+	}
+
+	/**
+	 * Returns the array filters that have to be passed along with any update using
+	 * this path
+	 *
+	 * @return the array filters
+	 */
+	public List<Bson> getArrayFilters() {
+		return arrayFilters;
+	}
+
+	/**
+	 * Returns the SubmodelElement the path was resolved to
+	 *
+	 * @return the SubmodelElement
+	 */
+	public SubmodelElement getSubmodelElement() {
+		return submodelElement;
+	}
+
+	private static SubmodelElement appendSegment(StringBuilder path, List<Bson> arrayFilters, SubmodelElement parent, PathToken token) {
+		if (token instanceof ListIndexPathToken)
+			return appendListIndexSegment(path, parent, Integer.parseInt(token.getToken()));
+
+		Optional<String> childrenField = getChildrenField(parent);
+		if (parent instanceof SubmodelElementList || !childrenField.isPresent())
+			return null;
+
+		path.append('.').append(childrenField.get());
+
+		return appendIdShortSegment(path, arrayFilters, getNamedChildren(parent), token.getToken());
+	}
+
+	private static SubmodelElement appendListIndexSegment(StringBuilder path, SubmodelElement parent, int index) {
+		if (!(parent instanceof SubmodelElementList))
+			return null;
+
+		List<SubmodelElement> listEntries = ((SubmodelElementList) parent).getValue();
+		if (listEntries == null || index >= listEntries.size())
+			return null;
+
+		path.append('.').append(VALUE_FIELD).append('.').append(index);
+
+		return listEntries.get(index);
+	}
+
+	private static SubmodelElement appendIdShortSegment(StringBuilder path, List<Bson> arrayFilters, Collection<SubmodelElement> siblings, String idShort) {
+		SubmodelElement match = findUniqueByIdShort(siblings, idShort);
+		if (match == null)
+			return null;
+
+		String identifier = ARRAY_FILTER_IDENTIFIER_PREFIX + arrayFilters.size();
+		path.append(".$[").append(identifier).append(']');
+		arrayFilters.add(new Document(identifier + "." + ID_SHORT_FIELD, idShort));
+
+		return match;
+	}
+
+	private static SubmodelElement findUniqueByIdShort(Collection<SubmodelElement> siblings, String idShort) {
+		if (siblings == null)
+			return null;
+
+		SubmodelElement match = null;
+		for (SubmodelElement sibling : siblings) {
+			if (!idShort.equals(sibling.getIdShort()))
+				continue;
+
+			if (match != null)
+				return null;
+
+			match = sibling;
+		}
+
+		return match;
+	}
+
+	private static Optional<String> getChildrenField(SubmodelElement submodelElement) {
+		if (submodelElement instanceof SubmodelElementCollection || submodelElement instanceof SubmodelElementList)
+			return Optional.of(VALUE_FIELD);
+
+		if (submodelElement instanceof Entity)
+			return Optional.of(STATEMENTS_FIELD);
+
+		return Optional.empty();
+	}
+
+	private static Collection<SubmodelElement> getNamedChildren(SubmodelElement submodelElement) {
+		if (submodelElement instanceof SubmodelElementCollection)
+			return ((SubmodelElementCollection) submodelElement).getValue();
+
+		return ((Entity) submodelElement).getStatements();
+	}
+}
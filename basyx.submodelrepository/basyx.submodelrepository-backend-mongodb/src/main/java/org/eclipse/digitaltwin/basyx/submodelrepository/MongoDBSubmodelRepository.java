@@ -24,31 +24,56 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.Extent;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.Level;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.OutputModifier;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
 
 /**
  * MongoDB implementation of the SubmodelRepository
@@ -60,11 +85,20 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
 	private static final String ID = "_id";
 	private static String ID_JSON_PATH = "id";
+	private static final String SUBMODEL_ELEMENTS_PATH = "submodelElements";
+	private static final String ID_SHORT_PATH = "idShort";
+	private static final String SEMANTIC_ID_KEY_VALUE_PATH = "semanticID.keys.value";
+	private static final String TYPE_HINT_PATH = "_class";
+	private static final String VALUE_PATH = "value";
+	private static final String STATEMENTS_PATH = "statements";
+	private static final String SUBMODEL_ELEMENT_VARIABLE = "sme";
+	private static final String REMOVE_VARIABLE = "$$REMOVE";
 
 	private MongoTemplate mongoTemplate;
 	private String collectionName;
 	private SubmodelServiceFactory submodelServiceFactory;
 	private String smRepositoryName;
+	private SubmodelElementIdShortHelper idShortHelper = new SubmodelElementIdShortHelper();
 
 	/**
 	 * Creates the MongoDBSubmodelRepository utilizing the passed
@@ -81,6 +115,7 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		this.collectionName = collectionName;
 		this.submodelServiceFactory = submodelServiceFactory;
 		configureIndexForSubmodelId(mongoTemplate);
+		configureIndexesForSubmodelFilters(mongoTemplate);
 	}
 
 	/**
@@ -147,6 +182,24 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 				.ensureIndex(idIndex);
 	}
 
+	/**
+	 * There is one index per combination of filter fields. The filter fields are
+	 * followed by the _id, so that filtered pages are retrieved in cursor order
+	 * from the index
+	 */
+	private void configureIndexesForSubmodelFilters(MongoTemplate mongoTemplate) {
+		mongoTemplate.indexOps(collectionName)
+				.ensureIndex(new Index().on(SEMANTIC_ID_KEY_VALUE_PATH, Direction.ASC)
+						.on(ID_SHORT_PATH, Direction.ASC)
+						.on(ID, Direction.ASC));
+		mongoTemplate.indexOps(collectionName)
+				.ensureIndex(new Index().on(SEMANTIC_ID_KEY_VALUE_PATH, Direction.ASC)
+						.on(ID, Direction.ASC));
+		mongoTemplate.indexOps(collectionName)
+				.ensureIndex(new Index().on(ID_SHORT_PATH, Direction.ASC)
+						.on(ID, Direction.ASC));
+	}
+
 	@Override
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
 		Query query = new Query();
@@ -158,25 +211,108 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		return new CursorResult<List<Submodel>>(cursor, foundDescriptors);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo) {
+		Query query = new Query();
+		applyFilter(query, filter);
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+		List<Submodel> foundDescriptors = mongoTemplate.find(query, Submodel.class, collectionName);
+
+		String cursor = resolveCursor(pInfo, foundDescriptors, Submodel::getId);
+		return new CursorResult<List<Submodel>>(cursor, foundDescriptors);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo, OutputModifier modifier) {
+		if (modifier.isDefault())
+			return getAllSubmodels(filter, pInfo);
+
+		Query query = new Query();
+		applyFilter(query, filter);
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+		List<Submodel> foundDescriptors = findModified(query, modifier).stream()
+				.map(modifier::applyToSubmodel)
+				.collect(Collectors.toList());
+
+		String cursor = resolveCursor(pInfo, foundDescriptors, Submodel::getId);
+		return new CursorResult<List<Submodel>>(cursor, foundDescriptors);
+	}
+
+	@Override
+	public StreamedCursorResult<Submodel> streamAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo, OutputModifier modifier) {
+		Query query = new Query();
+		applyFilter(query, filter);
+		applySorting(query, pInfo);
+		applyPagination(query, pInfo);
+
+		return new StreamedCursorResult<>(streamModified(query, modifier), pInfo, Submodel::getId);
+	}
+
 	@Override
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
-		Submodel submodel = mongoTemplate.findOne(new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId)),
-				Submodel.class, collectionName);
+		return findSubmodel(createSubmodelQuery(submodelId), submodelId);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId, OutputModifier modifier) throws ElementDoesNotExistException {
+		if (modifier.isDefault())
+			return getSubmodel(submodelId);
+
+		Query query = new Query().addCriteria(Criteria.where(ID).is(submodelId));
+
+		return modifier.applyToSubmodel(findModifiedSubmodel(query, modifier, submodelId));
+	}
+
+	private Submodel findSubmodel(Query query, String submodelId) {
+		Submodel submodel = mongoTemplate.findOne(query, Submodel.class, collectionName);
 		if (submodel == null) {
 			throw new ElementDoesNotExistException(submodelId);
 		}
 		return submodel;
 	}
 
+	private Query createSubmodelQuery(String submodelId) {
+		return new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId));
+	}
+
+	/**
+	 * Retrieves the Submodel with its SubmodelElements only. The type hint is
+	 * required for mapping the document to a Submodel.
+	 */
+	private Submodel getSubmodelElementsOnly(String submodelId) {
+		Query query = createSubmodelQuery(submodelId);
+		query.fields().include(SUBMODEL_ELEMENTS_PATH, TYPE_HINT_PATH);
+
+		return findSubmodel(query, submodelId);
+	}
+
+	/**
+	 * Retrieves the Submodel with only the top level SubmodelElement the passed
+	 * idShortPath starts with, so that only the addressed subtree is transferred
+	 * and mapped.
+	 */
+	private Submodel getSubmodelWithTopLevelElementOf(String submodelId, String idShortPath) {
+		Query query = createSubmodelQuery(submodelId);
+		query.fields().include(TYPE_HINT_PATH).elemMatch(SUBMODEL_ELEMENTS_PATH, Criteria.where(ID_SHORT_PATH).is(getTopLevelIdShort(idShortPath)));
+
+		return findSubmodel(query, submodelId);
+	}
+
+	private String getTopLevelIdShort(String idShortPath) {
+		return new SubmodelElementIdShortPathParser().parsePathTokens(idShortPath).pop().getToken();
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		Query query = new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId));
 
-		throwIfSubmodelDoesNotExist(query, submodelId);
-		throwIfMismatchingIds(submodelId, submodel);
+		throwIfMismatchingIds(query, submodelId, submodel);
 
-		mongoTemplate.remove(query, Submodel.class, collectionName);
-		mongoTemplate.save(submodel, collectionName);
+		query.fields().include(ID);
+		if (mongoTemplate.findAndReplace(query, submodel, collectionName) == null)
+			throw new ElementDoesNotExistException(submodelId);
 	}
 
 	private void throwIfSubmodelDoesNotExist(Query query, String submodelId) {
@@ -185,12 +321,15 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 
 	}
 
-	private void throwIfMismatchingIds(String submodelId, Submodel submodel) {
+	private void throwIfMismatchingIds(Query query, String submodelId, Submodel submodel) {
 		String newSubmodelId = submodel.getId();
 
-		if (!submodelId.equals(newSubmodelId))
-			throw new IdentificationMismatchException();
+		if (submodelId.equals(newSubmodelId))
+			return;
 
+		// A non-existing Submodel is reported in favor of the mismatch
+		throwIfSubmodelDoesNotExist(query, submodelId);
+		throw new IdentificationMismatchException();
 	}
 
 	@Override
@@ -206,35 +345,52 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		}
 	}
 
-	private SubmodelService getSubmodelService(String submodelId) {
-		return submodelServiceFactory.create(getSubmodel(submodelId));
-	}
-
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo)
 			throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElements(pInfo);
+		return submodelServiceFactory.create(getSubmodelElementsOnly(submodelId)).getSubmodelElements(pInfo);
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, OutputModifier modifier) throws ElementDoesNotExistException {
+		if (modifier.isDefault())
+			return getSubmodelElements(submodelId, pInfo);
+
+		Query query = new Query().addCriteria(Criteria.where(ID).is(submodelId));
+		query.fields().include(SUBMODEL_ELEMENTS_PATH, TYPE_HINT_PATH);
+
+		Submodel submodel = findModifiedSubmodel(query, modifier, submodelId);
+		CursorResult<List<SubmodelElement>> cursorResult = submodelServiceFactory.create(submodel).getSubmodelElements(pInfo);
+		return new CursorResult<>(cursorResult.getCursor(), modifier.applyToSubmodelElements(cursorResult.getResult()));
 	}
 
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String submodelElementIdShort)
 			throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElement(submodelElementIdShort);
+		return submodelServiceFactory.create(getSubmodelWithTopLevelElementOf(submodelId, submodelElementIdShort)).getSubmodelElement(submodelElementIdShort);
 	}
 
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String submodelElementIdShort)
 			throws ElementDoesNotExistException {
-		return getSubmodelService(submodelId).getSubmodelElementValue(submodelElementIdShort);
+		return submodelServiceFactory.create(getSubmodelWithTopLevelElementOf(submodelId, submodelElementIdShort)).getSubmodelElementValue(submodelElementIdShort);
 	}
 
 	@Override
 	public void setSubmodelElementValue(String submodelId, String submodelElementIdShort, SubmodelElementValue value)
 			throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.setSubmodelElementValue(submodelElementIdShort, value);
-
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+		// Writing an unchanged value does not modify the document, thus the
+		// modified count is not checked
+		updateTopLevelSubmodelElement(submodelId, submodelElementIdShort, submodelService -> {
+			submodelService.setSubmodelElementValue(submodelElementIdShort, value);
+
+			Optional<MongoDBSubmodelElementPath> elementPath = MongoDBSubmodelElementPath.fromIdShortPath(submodelService.getSubmodel(), submodelElementIdShort);
+			if (!elementPath.isPresent())
+				return replaceTopLevelSubmodelElement(submodelService.getSubmodel());
+
+			Bson update = Updates.set(elementPath.get().getPath(), toDocument(elementPath.get().getSubmodelElement()));
+			return new SubmodelElementUpdate(update, elementPath.get().getArrayFilters());
+		});
 	}
 
 	@Override
@@ -250,27 +406,157 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.createSubmodelElement(submodelElement);
+		Bson filter = Filters.and(Filters.eq(ID, submodelId), Filters.ne(SUBMODEL_ELEMENTS_PATH + "." + ID_SHORT_PATH, submodelElement.getIdShort()));
+		Bson update = Updates.push(SUBMODEL_ELEMENTS_PATH, toDocument(submodelElement));
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+		UpdateResult result = mongoTemplate.getCollection(collectionName).updateOne(filter, update);
+
+		if (result.getMatchedCount() == 0) {
+			throwIfSubmodelDoesNotExist(new Query().addCriteria(Criteria.where(ID_JSON_PATH).is(submodelId)), submodelId);
+			throw new CollidingIdentifierException(submodelElement.getIdShort());
+		}
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement)
 			throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.createSubmodelElement(idShortPath, submodelElement);
+		UpdateResult result = updateTopLevelSubmodelElement(submodelId, idShortPath, submodelService -> {
+			submodelService.createSubmodelElement(idShortPath, submodelElement);
+
+			Optional<MongoDBSubmodelElementPath> parentPath = MongoDBSubmodelElementPath.fromIdShortPath(submodelService.getSubmodel(), idShortPath);
+			if (!isCollectionOrList(parentPath))
+				return replaceTopLevelSubmodelElement(submodelService.getSubmodel());
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			Bson update = Updates.push(parentPath.get().getChildrenPath().get(), toDocument(submodelElement));
+			return new SubmodelElementUpdate(update, parentPath.get().getArrayFilters());
+		});
+
+		throwIfSubmodelElementWasNotModified(result, idShortPath);
 	}
 
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelService(submodelId);
-		submodelService.deleteSubmodelElement(idShortPath);
+		if (!idShortHelper.isNestedIdShortPath(idShortPath)) {
+			deleteFlatSubmodelElement(submodelId, idShortPath);
+			return;
+		}
+
+		UpdateResult result = updateTopLevelSubmodelElement(submodelId, idShortPath, submodelService -> {
+			Optional<MongoDBSubmodelElementPath> parentPath = getDirectParentPathOfCollectionMember(submodelService.getSubmodel(), idShortPath);
+			String idShort = submodelService.getSubmodelElement(idShortPath).getIdShort();
+			submodelService.deleteSubmodelElement(idShortPath);
+
+			if (!parentPath.isPresent())
+				return replaceTopLevelSubmodelElement(submodelService.getSubmodel());
+
+			Bson update = Updates.pull(parentPath.get().getChildrenPath().get(), new Document(ID_SHORT_PATH, idShort));
+			return new SubmodelElementUpdate(update, parentPath.get().getArrayFilters());
+		});
+
+		throwIfSubmodelElementWasNotModified(result, idShortPath);
+	}
+
+	private void deleteFlatSubmodelElement(String submodelId, String idShort) {
+		Bson update = Updates.pull(SUBMODEL_ELEMENTS_PATH, new Document(ID_SHORT_PATH, idShort));
+		UpdateResult result = updateSubmodelDocument(submodelId, update, List.of());
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+		throwIfSubmodelElementWasNotModified(result, idShort);
+	}
+
+	/**
+	 * Resolves the path of the direct parent, if the element is addressed
+	 * unambiguously and the parent is a SubmodelElementCollection or an Entity.
+	 * Removing SubmodelElementList entries by their index cannot be expressed as
+	 * single update.
+	 */
+	private Optional<MongoDBSubmodelElementPath> getDirectParentPathOfCollectionMember(Submodel submodel, String idShortPath) {
+		if (idShortHelper.isDirectParentASubmodelElementList(idShortPath))
+			return Optional.empty();
+
+		if (!MongoDBSubmodelElementPath.fromIdShortPath(submodel, idShortPath).isPresent())
+			return Optional.empty();
+
+		String parentIdShortPath = idShortHelper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath);
+
+		return MongoDBSubmodelElementPath.fromIdShortPath(submodel, parentIdShortPath);
+	}
+
+	private boolean isCollectionOrList(Optional<MongoDBSubmodelElementPath> elementPath) {
+		return elementPath.map(MongoDBSubmodelElementPath::getSubmodelElement)
+				.filter(sme -> sme instanceof SubmodelElementCollection || sme instanceof SubmodelElementList)
+				.isPresent();
+	}
+
+	/**
+	 * Applies an operation to the top level SubmodelElement the idShortPath starts
+	 * with and writes the result with a single update. Only the addressed top level
+	 * SubmodelElement is read and the update is guarded by its stored state, so
+	 * that concurrent modifications of the same subtree are not overwritten.
+	 * Instead, the operation is retried on the current state.
+	 */
+	private UpdateResult updateTopLevelSubmodelElement(String submodelId, String idShortPath, Function<SubmodelService, SubmodelElementUpdate> operation) {
+		while (true) {
+			Document storedDocument = findTopLevelSubmodelElementDocument(submodelId, getTopLevelIdShort(idShortPath));
+			Submodel submodel = mongoTemplate.getConverter().read(Submodel.class, storedDocument);
+
+			SubmodelElementUpdate elementUpdate = operation.apply(submodelServiceFactory.create(submodel));
+
+			Document storedElement = storedDocument.getList(SUBMODEL_ELEMENTS_PATH, Document.class).get(0);
+			Bson filter = Filters.and(Filters.eq(ID, submodelId), Filters.eq(SUBMODEL_ELEMENTS_PATH, storedElement));
+			UpdateOptions options = new UpdateOptions().arrayFilters(elementUpdate.getArrayFilters());
+			UpdateResult result = mongoTemplate.getCollection(collectionName).updateOne(filter, elementUpdate.getUpdate(), options);
+
+			if (result.getMatchedCount() > 0)
+				return result;
+		}
+	}
+
+	/**
+	 * Retrieves the raw stored document restricted to the type hint and the top
+	 * level SubmodelElement with the passed idShort. In contrast to mapped
+	 * Submodels, the raw document keeps the stored field order and can thus be
+	 * used for guarding updates.
+	 */
+	private Document findTopLevelSubmodelElementDocument(String submodelId, String topLevelIdShort) {
+		Bson projection = Projections.fields(Projections.include(TYPE_HINT_PATH), Projections.elemMatch(SUBMODEL_ELEMENTS_PATH, Filters.eq(ID_SHORT_PATH, topLevelIdShort)));
+		Document document = mongoTemplate.getCollection(collectionName).find(Filters.eq(ID, submodelId)).projection(projection).first();
+
+		if (document == null)
+			throw new ElementDoesNotExistException(submodelId);
+
+		return document;
+	}
+
+	/**
+	 * Replaces the top level SubmodelElement matched by the update guard. Used for
+	 * modifications that cannot be addressed by a more specific path.
+	 */
+	private SubmodelElementUpdate replaceTopLevelSubmodelElement(Submodel submodel) {
+		Bson update = Updates.set(SUBMODEL_ELEMENTS_PATH + ".$", toDocument(submodel.getSubmodelElements().get(0)));
+
+		return new SubmodelElementUpdate(update, List.of());
+	}
+
+	private UpdateResult updateSubmodelDocument(String submodelId, Bson update, List<Bson> arrayFilters) {
+		UpdateOptions options = new UpdateOptions().arrayFilters(arrayFilters);
+		UpdateResult result = mongoTemplate.getCollection(collectionName).updateOne(Filters.eq(ID, submodelId), update, options);
+
+		if (result.getMatchedCount() == 0)
+			throw new ElementDoesNotExistException(submodelId);
+
+		return result;
+	}
+
+	private void throwIfSubmodelElementWasNotModified(UpdateResult result, String idShortPath) {
+		if (result.getModifiedCount() == 0)
+			throw new ElementDoesNotExistException(idShortPath);
+	}
+
+	private Document toDocument(SubmodelElement submodelElement) {
+		Document document = new Document();
+		mongoTemplate.getConverter().write(submodelElement, document);
+
+		return document;
 	}
 
 	@Override
@@ -280,7 +566,10 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
-		Submodel submodel = getSubmodel(submodelId);
+		Query query = createSubmodelQuery(submodelId);
+		query.fields().exclude(SUBMODEL_ELEMENTS_PATH);
+
+		Submodel submodel = findSubmodel(query, submodelId);
 		submodel.setSubmodelElements(null);
 		return submodel;
 	}
@@ -299,6 +588,111 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		return idResolver.apply(last);
 	}
 
+	private Submodel findModifiedSubmodel(Query query, OutputModifier modifier, String submodelId) {
+		List<Submodel> submodels = findModified(query, modifier);
+		if (submodels.isEmpty())
+			throw new ElementDoesNotExistException(submodelId);
+
+		return submodels.get(0);
+	}
+
+	/**
+	 * Executes the query as aggregation that trims the top level
+	 * SubmodelElements according to the modifier, so that the trimmed data is
+	 * neither transferred nor mapped. The criteria of the query are passed
+	 * unmapped, i.e., they have to refer to the document fields. Blobs nested
+	 * deeper cannot be addressed by a projection, thus they still have to be
+	 * trimmed after the mapping.
+	 */
+	private List<Submodel> findModified(Query query, OutputModifier modifier) {
+		return mongoTemplate.aggregate(createModifiedAggregation(query, modifier), collectionName, Submodel.class)
+				.getMappedResults();
+	}
+
+	/**
+	 * Lazily retrieves the Submodels matching the query from a server-side
+	 * cursor, which is released when the returned Stream is closed
+	 */
+	private Stream<Submodel> streamModified(Query query, OutputModifier modifier) {
+		if (modifier.isDefault())
+			return mongoTemplate.stream(query, Submodel.class, collectionName)
+					.stream();
+
+		return mongoTemplate.aggregateStream(createModifiedAggregation(query, modifier), collectionName, Submodel.class)
+				.stream()
+				.map(modifier::applyToSubmodel);
+	}
+
+	private Aggregation createModifiedAggregation(Query query, OutputModifier modifier) {
+		List<AggregationOperation> stages = new ArrayList<>();
+		stages.add(createStage("$match", query.getQueryObject()));
+		if (!query.getSortObject()
+				.isEmpty())
+			stages.add(createStage("$sort", query.getSortObject()));
+		if (query.getLimit() > 0)
+			stages.add(createStage("$limit", query.getLimit()));
+		if (!query.getFieldsObject()
+				.isEmpty())
+			stages.add(createStage("$project", query.getFieldsObject()));
+		stages.add(createStage("$addFields", new Document(SUBMODEL_ELEMENTS_PATH, createTrimmedSubmodelElementsExpression(modifier))));
+
+		return Aggregation.newAggregation(stages);
+	}
+
+	private static AggregationOperation createStage(String operator, Object specification) {
+		return context -> new Document(operator, specification);
+	}
+
+	/**
+	 * Maps each top level SubmodelElement to a copy, in which the children of
+	 * collections, lists and entities are emptied for {@link Level#CORE} and
+	 * the Blob values are removed for {@link Extent#WITHOUT_BLOB_VALUE}
+	 */
+	private Document createTrimmedSubmodelElementsExpression(OutputModifier modifier) {
+		List<Document> valueBranches = new ArrayList<>();
+		Document trimmedFields = new Document();
+		if (modifier.getLevel() == Level.CORE) {
+			valueBranches.add(createBranch(createIsOfTypeExpression(DefaultSubmodelElementCollection.class, DefaultSubmodelElementList.class), List.of()));
+			trimmedFields.append(STATEMENTS_PATH, new Document("$cond", Arrays.asList(new Document("$isArray", getVariableField(STATEMENTS_PATH)), List.of(), REMOVE_VARIABLE)));
+		}
+		if (modifier.getExtent() == Extent.WITHOUT_BLOB_VALUE) {
+			valueBranches.add(createBranch(createIsOfTypeExpression(DefaultBlob.class), null));
+		}
+		if (!valueBranches.isEmpty()) {
+			trimmedFields.append(VALUE_PATH, new Document("$switch", new Document("branches", valueBranches).append("default", REMOVE_VARIABLE)));
+		}
+
+		Document mergedElement = new Document("$mergeObjects", Arrays.asList("$$" + SUBMODEL_ELEMENT_VARIABLE, trimmedFields));
+		return new Document("$map", new Document("input", "$" + SUBMODEL_ELEMENTS_PATH).append("as", SUBMODEL_ELEMENT_VARIABLE)
+				.append("in", mergedElement));
+	}
+
+	private static Document createBranch(Document condition, Object result) {
+		return new Document("case", condition).append("then", result);
+	}
+
+	private static Document createIsOfTypeExpression(Class<?>... types) {
+		List<String> typeHints = Arrays.stream(types)
+				.map(Class::getName)
+				.collect(Collectors.toList());
+		Document typeHint = new Document("$ifNull", Arrays.asList(getVariableField(TYPE_HINT_PATH), ""));
+
+		return new Document("$in", Arrays.asList(typeHint, typeHints));
+	}
+
+	private static String getVariableField(String field) {
+		return "$$" + SUBMODEL_ELEMENT_VARIABLE + "." + field;
+	}
+
+	private void applyFilter(Query query, SubmodelFilter filter) {
+		if (filter.hasSemanticId()) {
+			query.addCriteria(Criteria.where(SEMANTIC_ID_KEY_VALUE_PATH).is(filter.getSemanticId()));
+		}
+		if (filter.hasIdShort()) {
+			query.addCriteria(Criteria.where(ID_SHORT_PATH).is(filter.getIdShort()));
+		}
+	}
+
 	private void applySorting(Query query, PaginationInfo pInfo) {
 		query.with(Sort.by(Direction.ASC, ID));
 	}
@@ -312,6 +706,24 @@ public class MongoDBSubmodelRepository implements SubmodelRepository {
 		}
 	}
 
+	private static class SubmodelElementUpdate {
+		private final Bson update;
+		private final List<Bson> arrayFilters;
+
+		public SubmodelElementUpdate(Bson update, List<Bson> arrayFilters) {
+			this.update = update;
+			this.arrayFilters = arrayFilters;
+		}
+
+		public Bson getUpdate() {
+			return update;
+		}
+
+		public List<Bson> getArrayFilters() {
+			return arrayFilters;
+		}
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		throw new FeatureNotSupportedException("Operation Invocation");
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.submodelrepository;
 import java.util.Collection;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBUtilities;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -45,6 +46,8 @@ import org.springframework.stereotype.Component;
 public class MongoDBSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
 
 	private MongoTemplate mongoTemplate;
+	private String writeConcern;
+	private String readPreference;
 	private String collectionName;
 	private SubmodelServiceFactory submodelServiceFactory;
 	private Collection<Submodel> submodels;
@@ -82,12 +85,29 @@ public class MongoDBSubmodelRepositoryFactory implements SubmodelRepositoryFacto
 		this.smRepositoryName = smRepositoryName;
 	}
 
+	/**
+	 * Configures the write concern and the read preference used for accessing the
+	 * collection, e.g. <i>MAJORITY</i> and <i>primaryPreferred</i>. Empty values
+	 * keep the defaults of the MongoDB connection.
+	 * 
+	 * @param writeConcern
+	 * @param readPreference
+	 */
+	@Autowired
+	public void setConsistencySettings(@Value("${basyx.submodelrepository.mongodb.writeConcern:}") String writeConcern,
+			@Value("${basyx.submodelrepository.mongodb.readPreference:}") String readPreference) {
+		this.writeConcern = writeConcern;
+		this.readPreference = readPreference;
+	}
+
 	@Override
 	public SubmodelRepository create() {
+		MongoTemplate configuredTemplate = MongoDBUtilities.withConsistencySettings(mongoTemplate, writeConcern, readPreference);
+
 		if (this.submodels == null || this.submodels.isEmpty()) {
-			return new MongoDBSubmodelRepository(mongoTemplate, collectionName, submodelServiceFactory, smRepositoryName);
+			return new MongoDBSubmodelRepository(configuredTemplate, collectionName, submodelServiceFactory, smRepositoryName);
 		}
-		return new MongoDBSubmodelRepository(mongoTemplate, collectionName, submodelServiceFactory, submodels, smRepositoryName);
+		return new MongoDBSubmodelRepository(configuredTemplate, collectionName, submodelServiceFactory, submodels, smRepositoryName);
 
 	}
 }
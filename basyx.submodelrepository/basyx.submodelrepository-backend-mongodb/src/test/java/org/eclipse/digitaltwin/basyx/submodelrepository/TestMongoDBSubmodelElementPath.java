@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.junit.Test;
+
+/**
+ * Tests the translation of idShortPaths into MongoDB update paths
+ *
+ * @author schnicke
+ *
+ */
+public class TestMongoDBSubmodelElementPath {
+
+	@Test
+	public void topLevelElement() {
+		MongoDBSubmodelElementPath path = MongoDBSubmodelElementPath.fromIdShortPath(createSubmodel(), "prop").get();
+
+		assertEquals("submodelElements.$[e0]", path.getPath());
+		assertEquals(Arrays.asList(new Document("e0.idShort", "prop")), path.getArrayFilters());
+	}
+
+	@Test
+	public void nestedElement() {
+		MongoDBSubmodelElementPath path = MongoDBSubmodelElementPath.fromIdShortPath(createSubmodel(), "collection.list[1].statement").get();
+
+		assertEquals("submodelElements.$[e0].value.$[e1].value.1.statements.$[e2]", path.getPath());
+		assertEquals("statement", path.getSubmodelElement().getIdShort());
+		assertEquals(3, path.getArrayFilters().size());
+	}
+
+	@Test
+	public void childrenPathOfCollection() {
+		MongoDBSubmodelElementPath path = MongoDBSubmodelElementPath.fromIdShortPath(createSubmodel(), "collection").get();
+
+		assertEquals("submodelElements.$[e0].value", path.getChildrenPath().get());
+	}
+
+	@Test
+	public void nonExistingElement() {
+		assertFalse(MongoDBSubmodelElementPath.fromIdShortPath(createSubmodel(), "collection.list[2]").isPresent());
+	}
+
+	@Test
+	public void ambiguousElement() {
+		assertFalse(MongoDBSubmodelElementPath.fromIdShortPath(createSubmodel(), "collection.duplicate").isPresent());
+	}
+
+	private Submodel createSubmodel() {
+		SubmodelElement entity = new DefaultEntity.Builder().idShort("entity")
+				.statements(new DefaultProperty.Builder().idShort("statement").build())
+				.build();
+		SubmodelElement list = new DefaultSubmodelElementList.Builder().idShort("list")
+				.value(List.of(new DefaultProperty.Builder().build(), entity))
+				.build();
+		SubmodelElement collection = new DefaultSubmodelElementCollection.Builder().idShort("collection")
+				.value(List.of(list, new DefaultProperty.Builder().idShort("duplicate").build(), new DefaultProperty.Builder().idShort("duplicate").build()))
+				.build();
+
+		return new DefaultSubmodel.Builder().id("submodel")
+				.submodelElements(List.of(new DefaultProperty.Builder().idShort("prop").build(), collection))
+				.build();
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+/**
+ * Filter for retrieving Submodels from a SubmodelRepository. A filter that is
+ * not set is not applied.
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelFilter {
+
+	/**
+	 * Filter that matches all Submodels
+	 */
+	public static final SubmodelFilter NONE = new SubmodelFilter(null, null);
+
+	private final String semanticId;
+	private final String idShort;
+
+	/**
+	 * Creates a filter for Submodels
+	 * 
+	 * @param semanticId
+	 *            a key value contained in the semanticId of the returned
+	 *            Submodels. Not applied if null or empty
+	 * @param idShort
+	 *            the idShort of the returned Submodels. Not applied if null or
+	 *            empty
+	 */
+	public SubmodelFilter(String semanticId, String idShort) {
+		this.semanticId = isEmpty(semanticId) ? null : semanticId;
+		this.idShort = isEmpty(idShort) ? null : idShort;
+	}
+
+	public String getSemanticId() {
+		return semanticId;
+	}
+
+	public String getIdShort() {
+		return idShort;
+	}
+
+	public boolean hasSemanticId() {
+		return semanticId != null;
+	}
+
+	public boolean hasIdShort() {
+		return idShort != null;
+	}
+
+	public boolean isFiltered() {
+		return hasSemanticId() || hasIdShort();
+	}
+
+	/**
+	 * Checks the filter directly on a Submodel
+	 * 
+	 * @param submodel
+	 * @return true if the Submodel passes the filter
+	 */
+	public boolean matches(Submodel submodel) {
+		if (hasIdShort() && !idShort.equals(submodel.getIdShort()))
+			return false;
+
+		return !hasSemanticId() || containsSemanticId(submodel.getSemanticID());
+	}
+
+	private boolean containsSemanticId(Reference reference) {
+		if (reference == null || reference.getKeys() == null)
+			return false;
+
+		return reference.getKeys()
+				.stream()
+				.anyMatch(key -> semanticId.equals(key.getValue()));
+	}
+
+	private static boolean isEmpty(String value) {
+		return value == null || value.isEmpty();
+	}
+}
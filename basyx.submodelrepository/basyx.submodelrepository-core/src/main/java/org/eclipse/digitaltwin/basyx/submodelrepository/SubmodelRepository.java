@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -34,6 +35,8 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.OutputModifier;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 
@@ -52,6 +55,53 @@ public interface SubmodelRepository {
 	 */
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo);
 
+	/**
+	 * Retrieves all Submodels matching the passed filter from the repository
+	 *
+	 * @param filter
+	 *            the filter the returned Submodels have to match
+	 * @return a list of all matching Submodels
+	 */
+	public CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo);
+
+	/**
+	 * Retrieves all Submodels matching the passed filter from the repository
+	 * with the passed modifiers applied
+	 * 
+	 * @param filter
+	 *            the filter the returned Submodels have to match
+	 * @param modifier
+	 *            the level and extent of the returned Submodels
+	 * @return a list of all matching Submodels
+	 */
+	public default CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo, OutputModifier modifier) {
+		CursorResult<List<Submodel>> cursorResult = getAllSubmodels(filter, pInfo);
+		if (modifier.isDefault())
+			return cursorResult;
+
+		List<Submodel> modified = cursorResult.getResult()
+				.stream()
+				.map(modifier::applyToSubmodel)
+				.collect(Collectors.toList());
+		return new CursorResult<>(cursorResult.getCursor(), modified);
+	}
+
+	/**
+	 * Retrieves all Submodels matching the passed filter from the repository
+	 * with the passed modifiers applied as lazily consumable Stream, e.g., on
+	 * top of a database cursor. The returned result has to be closed after it
+	 * has been consumed.
+	 * 
+	 * @param filter
+	 *            the filter the returned Submodels have to match
+	 * @param modifier
+	 *            the level and extent of the returned Submodels
+	 * @return the page of all matching Submodels
+	 */
+	public default StreamedCursorResult<Submodel> streamAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo, OutputModifier modifier) {
+		return StreamedCursorResult.of(getAllSubmodels(filter, pInfo, modifier));
+	}
+
 	/**
 	 * Retrieves the Submodel with the specific id
 	 * 
@@ -61,6 +111,20 @@ public interface SubmodelRepository {
 	 */
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the Submodel with the specific id with the passed modifiers
+	 * applied
+	 * 
+	 * @param submodelId
+	 * @param modifier
+	 *            the level and extent of the returned Submodel
+	 * @return
+	 * @throws ElementDoesNotExistException
+	 */
+	public default Submodel getSubmodel(String submodelId, OutputModifier modifier) throws ElementDoesNotExistException {
+		return modifier.applyToSubmodel(getSubmodel(submodelId));
+	}
+
 	/**
 	 * Updates an existing Submodel
 	 * 
@@ -95,6 +159,20 @@ public interface SubmodelRepository {
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo)
 			throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves all SubmodelElements of a Submodel with the passed modifiers
+	 * applied
+	 * 
+	 * @param submodelId
+	 * @param modifier
+	 *            the level and extent of the returned SubmodelElements
+	 * @return
+	 */
+	public default CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, OutputModifier modifier) throws ElementDoesNotExistException {
+		CursorResult<List<SubmodelElement>> cursorResult = getSubmodelElements(submodelId, pInfo);
+		return new CursorResult<>(cursorResult.getCursor(), modifier.applyToSubmodelElements(cursorResult.getResult()));
+	}
+
 	/**
 	 * Retrieves a specific SubmodelElement of a Submodel
 	 *
@@ -108,6 +186,24 @@ public interface SubmodelRepository {
 	 */
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves a specific SubmodelElement of a Submodel with the passed
+	 * modifiers applied
+	 *
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param smeIdShort
+	 *            the SubmodelElement IdShort
+	 * @param modifier
+	 *            the level and extent of the returned SubmodelElement
+	 * @return the SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if the SubmodelElement or the Submodel does not exist
+	 */
+	public default SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, OutputModifier modifier) throws ElementDoesNotExistException {
+		return modifier.applyToSubmodelElement(getSubmodelElement(submodelId, smeIdShort));
+	}
+
 	/**
 	 * Retrieves the value of a specific SubmodelElement of a Submodel
 	 * 
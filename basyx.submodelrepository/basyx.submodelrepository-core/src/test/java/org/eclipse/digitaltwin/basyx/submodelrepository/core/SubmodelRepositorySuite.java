@@ -25,30 +25,46 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXSD;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFilter;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.Extent;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.Level;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.OutputModifier;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.junit.Test;
 
 /**
@@ -209,6 +225,43 @@ public abstract class SubmodelRepositorySuite {
 		repo.getSubmodelElement("nonExisting", "doesNotMatter");
 	}
 
+	@Test
+	public void getSubmodelElementNestedInLaterTopLevelElement() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		SubmodelElement element = repo.getSubmodelElement(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE + "[0]");
+		Object value = repo.getSubmodelElementValue(DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID, DummySubmodelFactory.SUBMODEL_ELEMENT_LIST_SIMPLE + "[0]");
+
+		assertEquals(DummySubmodelFactory.SUBMODEL_ELEMENT_SECOND_ID_SHORT, element.getIdShort());
+		assertEquals(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_PROPERTY_VALUE, ((PropertyValue) value).getValue());
+	}
+
+	@Test
+	public void getSubmodelByIdMetadata() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		Submodel expected = DummySubmodelFactory.createTechnicalDataSubmodel();
+		Submodel metadata = repo.getSubmodelByIdMetadata(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID);
+
+		assertEquals(expected.getId(), metadata.getId());
+		assertEquals(expected.getIdShort(), metadata.getIdShort());
+		assertEquals(expected.getSemanticID(), metadata.getSemanticID());
+		assertTrue(metadata.getSubmodelElements() == null || metadata.getSubmodelElements().isEmpty());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void getSubmodelByIdMetadataOfNonExistingSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		repo.getSubmodelByIdMetadata("nonExisting");
+	}
+
+	@Test
+	public void getSubmodelByIdValueOnly() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		SubmodelValueOnly valueOnly = repo.getSubmodelByIdValueOnly(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID);
+		Object expected = ((Property) getExpectedSubmodelElement()).getValue();
+
+		assertEquals(expected, ((PropertyValue) valueOnly.getValuesOnlyMap().get(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_PROPERTY_ID_SHORT)).getValue());
+	}
+
 	@Test
 	public void getPropertyValue() {
 		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
@@ -364,6 +417,91 @@ public abstract class SubmodelRepositorySuite {
 		assertEquals(1, cursorResult.getResult().size());
 	}
 
+	@Test
+	public void getAllSubmodelsFilteredBySemanticIdAndIdShort() {
+		SubmodelRepository repo = getSubmodelRepository(List.of(createSubmodel("sm1", "Nameplate", "urn:nameplate"), createSubmodel("sm2", "Nameplate", "urn:nameplate"), createSubmodel("sm3", "Documentation", "urn:nameplate"),
+				createSubmodel("sm4", "Nameplate", "urn:documentation")));
+
+		assertEquals(List.of("sm1", "sm2", "sm3"), getFilteredSubmodelIds(repo, new SubmodelFilter("urn:nameplate", null), NO_LIMIT_PAGINATION_INFO));
+		assertEquals(List.of("sm1", "sm2", "sm4"), getFilteredSubmodelIds(repo, new SubmodelFilter(null, "Nameplate"), NO_LIMIT_PAGINATION_INFO));
+		assertEquals(List.of("sm4"), getFilteredSubmodelIds(repo, new SubmodelFilter("urn:documentation", "Nameplate"), NO_LIMIT_PAGINATION_INFO));
+		assertEquals(List.of(), getFilteredSubmodelIds(repo, new SubmodelFilter("urn:unknown", null), NO_LIMIT_PAGINATION_INFO));
+
+		CursorResult<List<Submodel>> firstPage = repo.getAllSubmodels(new SubmodelFilter("urn:nameplate", "Nameplate"), new PaginationInfo(1, null));
+		assertEquals("sm1", firstPage.getResult()
+				.get(0)
+				.getId());
+		assertEquals(List.of("sm2"), getFilteredSubmodelIds(repo, new SubmodelFilter("urn:nameplate", "Nameplate"), new PaginationInfo(1, firstPage.getCursor())));
+
+		repo.updateSubmodel("sm2", createSubmodel("sm2", "Nameplate", "urn:documentation"));
+		repo.deleteSubmodel("sm3");
+		assertEquals(List.of("sm1"), getFilteredSubmodelIds(repo, new SubmodelFilter("urn:nameplate", null), NO_LIMIT_PAGINATION_INFO));
+	}
+
+	@Test
+	public void streamAllSubmodelsPaginated() {
+		SubmodelRepository repo = getSubmodelRepository(List.of(createSubmodel("sm1", "Nameplate", "urn:nameplate"), createSubmodel("sm2", "Nameplate", "urn:nameplate"), createSubmodel("sm3", "Nameplate", "urn:nameplate")));
+
+		try (StreamedCursorResult<Submodel> firstPage = repo.streamAllSubmodels(new SubmodelFilter(null, "Nameplate"), new PaginationInfo(2, null), OutputModifier.DEFAULT)) {
+			assertEquals(List.of("sm1", "sm2"), firstPage.getResult()
+					.map(Submodel::getId)
+					.collect(Collectors.toList()));
+			assertEquals("sm2", firstPage.getCursor());
+		}
+
+		try (StreamedCursorResult<Submodel> secondPage = repo.streamAllSubmodels(new SubmodelFilter(null, "Nameplate"), new PaginationInfo(2, "sm2"), OutputModifier.DEFAULT)) {
+			assertEquals(List.of("sm3"), secondPage.getResult()
+					.map(Submodel::getId)
+					.collect(Collectors.toList()));
+			assertNull(secondPage.getCursor());
+		}
+	}
+
+	private List<String> getFilteredSubmodelIds(SubmodelRepository repo, SubmodelFilter filter, PaginationInfo pInfo) {
+		return repo.getAllSubmodels(filter, pInfo)
+				.getResult()
+				.stream()
+				.map(Submodel::getId)
+				.collect(Collectors.toList());
+	}
+
+	private static Submodel createSubmodel(String id, String idShort, String semanticId) {
+		return new DefaultSubmodel.Builder().id(id)
+				.idShort(idShort)
+				.semanticID(new DefaultReference.Builder().type(ReferenceTypes.EXTERNAL_REFERENCE)
+						.keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE)
+								.value(semanticId)
+								.build())
+						.build())
+				.build();
+	}
+
+	@Test
+	public void getSubmodelWithLevelCoreAndWithoutBlobValue() {
+		SubmodelElementCollection collection = new DefaultSubmodelElementCollection.Builder().idShort("collection")
+				.value(List.of(SubmodelServiceHelper.createPropertySubmodelElement()))
+				.build();
+		Submodel submodel = new DefaultSubmodel.Builder().id("modifiedSubmodel")
+				.submodelElements(List.of(SubmodelServiceHelper.createBlobSubmodelElement(), collection))
+				.build();
+		SubmodelRepository repo = getSubmodelRepository(List.of(submodel));
+
+		Submodel modified = repo.getSubmodel("modifiedSubmodel", new OutputModifier(Level.CORE, Extent.WITHOUT_BLOB_VALUE));
+
+		Blob blob = (Blob) modified.getSubmodelElements()
+				.get(0);
+		assertNull(blob.getValue());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_CONTENT_TYPE, blob.getContentType());
+		assertTrue(((SubmodelElementCollection) modified.getSubmodelElements()
+				.get(1)).getValue()
+						.isEmpty());
+
+		Blob storedBlob = (Blob) repo.getSubmodelElement("modifiedSubmodel", SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_ID_SHORT);
+		assertArrayEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_VALUE.getBytes(), storedBlob.getValue());
+		assertEquals(1, ((SubmodelElementCollection) repo.getSubmodelElement("modifiedSubmodel", "collection", new OutputModifier(Level.CORE, Extent.WITHOUT_BLOB_VALUE))).getValue()
+				.size());
+	}
+
 	// Has to be overwritten if backend does not support operations
 	@Test
 	public void invokeOperation() {
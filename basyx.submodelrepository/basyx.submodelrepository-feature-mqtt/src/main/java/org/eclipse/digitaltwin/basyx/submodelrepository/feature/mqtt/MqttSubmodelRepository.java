@@ -5,21 +5,19 @@ import java.util.List;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelSerializer;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFilter;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.OutputModifier;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttException;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
-import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Repository decorator for the MQTT eventing on the submodel level.
@@ -27,17 +25,16 @@ import org.slf4j.LoggerFactory;
  * @author fischer
  */
 public class MqttSubmodelRepository implements SubmodelRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttSubmodelRepository.class);
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
 	private SubmodelRepository decorated;
 
-	private IMqttClient mqttClient;
+	private AsyncMqttPublisher publisher;
 
-	public MqttSubmodelRepository(SubmodelRepository decorated, IMqttClient mqttClient, MqttSubmodelRepositoryTopicFactory topicFactory) {
+	public MqttSubmodelRepository(SubmodelRepository decorated, AsyncMqttPublisher publisher, MqttSubmodelRepositoryTopicFactory topicFactory) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.publisher = publisher;
 	}
 
 	@Override
@@ -45,11 +42,31 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		return decorated.getAllSubmodels(pInfo);
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(filter, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo, OutputModifier modifier) {
+		return decorated.getAllSubmodels(filter, pInfo, modifier);
+	}
+
+	@Override
+	public StreamedCursorResult<Submodel> streamAllSubmodels(SubmodelFilter filter, PaginationInfo pInfo, OutputModifier modifier) {
+		return decorated.streamAllSubmodels(filter, pInfo, modifier);
+	}
+
 	@Override
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public Submodel getSubmodel(String submodelId, OutputModifier modifier) throws ElementDoesNotExistException {
+		return decorated.getSubmodel(submodelId, modifier);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
@@ -75,11 +92,21 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodelElements(submodelId, pInfo);
 	}
 
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo, OutputModifier modifier) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElements(submodelId, pInfo, modifier);
+	}
+
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElement(submodelId, smeIdShort);
 	}
 
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort, OutputModifier modifier) throws ElementDoesNotExistException {
+		return decorated.getSubmodelElement(submodelId, smeIdShort, modifier);
+	}
+
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElementValue(submodelId, smeIdShort);
@@ -95,8 +122,7 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
 		decorated.createSubmodelElement(submodelId, smElement);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, smElement.getIdShort());
-		submodelElementCreated(submodelElement, getName(), submodelId, smElement.getIdShort());
+		submodelElementCreated(smElement, getName(), submodelId, smElement.getIdShort());
 	}
 
 	@Override
@@ -153,7 +179,7 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	}
 
 	/**
-	 * Sends MQTT message to connected broker
+	 * Enqueues MQTT message for publishing to the connected broker
 	 * 
 	 * @param topic
 	 *            in which the message will be published
@@ -161,24 +187,7 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	 *            the actual message
 	 */
 	private void sendMqttMessage(String topic, String payload) {
-		MqttMessage msg = createMqttMessage(payload);
-
-		try {
-			logger.debug("Send MQTT message to " + topic + ": " + payload);
-			mqttClient.publish(topic, msg);
-		} catch (MqttPersistenceException e) {
-			logger.error("Could not persist mqtt message", e);
-		} catch (MqttException e) {
-			logger.error("Could not send mqtt message", e);
-		}
-	}
-
-	private MqttMessage createMqttMessage(String payload) {
-		if (payload == null) {
-			return new MqttMessage();
-		} else {
-			return new MqttMessage(payload.getBytes());
-		}
+		publisher.publish(topic, payload);
 	}
 
 	@Override
@@ -25,9 +25,9 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
-import org.eclipse.paho.client.mqttv3.IMqttClient;
 
 /**
  * Repository factory for the MQTT eventing on the submodel level.
@@ -37,17 +37,17 @@ import org.eclipse.paho.client.mqttv3.IMqttClient;
 public class MqttSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
 
 	private SubmodelRepositoryFactory decorated;
-	private IMqttClient client;
+	private AsyncMqttPublisher publisher;
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
-	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, IMqttClient client, MqttSubmodelRepositoryTopicFactory topicFactory) {
+	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, AsyncMqttPublisher publisher, MqttSubmodelRepositoryTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.publisher = publisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public SubmodelRepository create() {
-		return new MqttSubmodelRepository(decorated.create(), client, topicFactory);
+		return new MqttSubmodelRepository(decorated.create(), publisher, topicFactory);
 	}
 }
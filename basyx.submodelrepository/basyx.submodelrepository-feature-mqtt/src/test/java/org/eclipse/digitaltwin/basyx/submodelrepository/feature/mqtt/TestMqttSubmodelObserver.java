@@ -27,10 +27,12 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
@@ -42,6 +44,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
 import org.eclipse.digitaltwin.basyx.submodelrepository.InMemorySubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
@@ -69,6 +72,7 @@ public class TestMqttSubmodelObserver {
 	private static Server mqttBroker;
 	private static MqttClient mqttClient;
 	private static MqttTestListener listener;
+	private static AsyncMqttPublisher publisher;
 	private static MqttSubmodelRepositoryTopicFactory topicFactory = new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder());
 
 	private static SubmodelRepository submodelRepository;
@@ -81,11 +85,13 @@ public class TestMqttSubmodelObserver {
 
 		mqttClient = createAndConnectClient();
 
-		submodelRepository = createMqttSubmodelRepository(mqttClient);
+		publisher = new AsyncMqttPublisher(mqttClient);
+		submodelRepository = createMqttSubmodelRepository(publisher);
 	}
 
 	@AfterClass
 	public static void tearDownClass() {
+		publisher.close();
 		mqttBroker.removeInterceptHandler(listener);
 		mqttBroker.stopServer();
 	}
@@ -95,6 +101,8 @@ public class TestMqttSubmodelObserver {
 		Submodel submodel = createSubmodelDummy("createSubmodelEventId");
 		submodelRepository.createSubmodel(submodel);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createCreateSubmodelTopic(submodelRepository.getName()), listener.lastTopic);
 		assertEquals(submodel, deserializeSubmodelPayload(listener.lastPayload));
 	}
@@ -106,6 +114,8 @@ public class TestMqttSubmodelObserver {
 		submodel.setSubmodelElements(Arrays.asList(createSubmodelElementDummy("submodelElementForUpdateSubmodelEventId")));
 		submodelRepository.updateSubmodel(submodel.getId(), submodel);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createUpdateSubmodelTopic(submodelRepository.getName()), listener.lastTopic);
 		assertEquals(submodel, deserializeSubmodelPayload(listener.lastPayload));
 	}
@@ -116,6 +126,8 @@ public class TestMqttSubmodelObserver {
 		submodelRepository.createSubmodel(submodel);
 		submodelRepository.deleteSubmodel(submodel.getId());
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createDeleteSubmodelTopic(submodelRepository.getName()), listener.lastTopic);
 		assertEquals(submodel, deserializeSubmodelPayload(listener.lastPayload));
 	}
@@ -127,6 +139,8 @@ public class TestMqttSubmodelObserver {
 		SubmodelElement submodelElement = createSubmodelElementDummy("createSubmodelElementEventId");
 		submodelRepository.createSubmodelElement(submodel.getId(), submodelElement);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createCreateSubmodelElementTopic(submodelRepository.getName(), submodel.getId(), submodelElement.getIdShort()), listener.lastTopic);
 		assertEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
 	}
@@ -140,6 +154,8 @@ public class TestMqttSubmodelObserver {
 		SubmodelElementValue value = new PropertyValue("updatedValue");
 		submodelRepository.setSubmodelElementValue(submodel.getId(), submodelElement.getIdShort(), value);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createUpdateSubmodelElementTopic(submodelRepository.getName(), submodel.getId(), submodelElement.getIdShort()), listener.lastTopic);
 		assertEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
 	}
@@ -152,6 +168,8 @@ public class TestMqttSubmodelObserver {
 		submodelRepository.createSubmodelElement(submodel.getId(), submodelElement);
 		submodelRepository.deleteSubmodelElement(submodel.getId(), submodelElement.getIdShort());
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createDeleteSubmodelElementTopic(submodelRepository.getName(), submodel.getId(), submodelElement.getIdShort()), listener.lastTopic);
 		assertEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
 	}
@@ -165,6 +183,8 @@ public class TestMqttSubmodelObserver {
 		submodelElement.setQualifiers(qualifierList);
 		submodelRepository.createSubmodelElement(submodel.getId(), submodelElement);
 
+		waitForPublishedMessages();
+
 		assertEquals(topicFactory.createCreateSubmodelElementTopic(submodelRepository.getName(), submodel.getId(), submodelElement.getIdShort()), listener.lastTopic);
 		assertNotEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
 
@@ -194,10 +214,10 @@ public class TestMqttSubmodelObserver {
 		return new DefaultProperty.Builder().idShort(submodelElementId).value("defaultValue").build();
 	}
 
-	private static SubmodelRepository createMqttSubmodelRepository(MqttClient client) {
+	private static SubmodelRepository createMqttSubmodelRepository(AsyncMqttPublisher publisher) {
 		SubmodelRepositoryFactory repoFactory = new InMemorySubmodelRepositoryFactory(new InMemorySubmodelServiceFactory());
 
-		return new MqttSubmodelRepositoryFactory(repoFactory, client, new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder())).create();
+		return new MqttSubmodelRepositoryFactory(repoFactory, publisher, new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder())).create();
 	}
 
 	private static MqttTestListener configureInterceptListener(Server broker) {
@@ -213,6 +233,15 @@ public class TestMqttSubmodelObserver {
 		return client;
 	}
 
+	private static void waitForPublishedMessages() {
+		try {
+			assertTrue(publisher.flush(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+	}
+
 	private static Server startBroker() throws IOException {
 		Server broker = new Server();
 		IResourceLoader classpathLoader = new ClasspathResourceLoader();
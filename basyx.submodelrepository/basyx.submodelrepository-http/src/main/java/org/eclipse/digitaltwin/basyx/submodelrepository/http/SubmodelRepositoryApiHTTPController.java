@@ -25,7 +25,6 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -38,14 +37,15 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.model.OperationRequest;
 import org.eclipse.digitaltwin.basyx.http.model.OperationResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
-import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
-import org.eclipse.digitaltwin.basyx.pagination.GetSubmodelElementsResult;
+import org.eclipse.digitaltwin.basyx.http.pagination.StreamedPagedResult;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFilter;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
-import org.eclipse.digitaltwin.basyx.submodelrepository.http.pagination.GetSubmodelsResult;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.OutputModifier;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -99,18 +99,15 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		if (cursor == null)
 			cursor = "";
 		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
-		CursorResult<List<Submodel>> cursorResult = repository.getAllSubmodels(pInfo);
+		SubmodelFilter filter = new SubmodelFilter(semanticId == null ? null : semanticId.getIdentifier(), idShort);
+		OutputModifier modifier = OutputModifier.fromValues(level, extent);
 
-		GetSubmodelsResult paginatedSubmodel = new GetSubmodelsResult();
-		paginatedSubmodel.result(new ArrayList<>(cursorResult.getResult()));
-		paginatedSubmodel.setPagingMetadata(new PagedResultPagingMetadata().cursor(cursorResult.getCursor()));
-
-		return new ResponseEntity<PagedResult>(paginatedSubmodel, HttpStatus.OK);
+		return new ResponseEntity<PagedResult>(new StreamedPagedResult<>(Submodel.class, () -> repository.streamAllSubmodels(filter, pInfo, modifier)), HttpStatus.OK);
 	}
 
 	@Override
 	public ResponseEntity<Submodel> getSubmodelById(Base64UrlEncodedIdentifier submodelIdentifier, @Valid String level, @Valid String extent) {
-		return new ResponseEntity<Submodel>(repository.getSubmodel(submodelIdentifier.getIdentifier()), HttpStatus.OK);
+		return new ResponseEntity<Submodel>(repository.getSubmodel(submodelIdentifier.getIdentifier(), OutputModifier.fromValues(level, extent)), HttpStatus.OK);
 	}
 
 	@Override
@@ -127,19 +124,14 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 			cursor = "";
 		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
 		CursorResult<List<SubmodelElement>> submodelElements = repository
-				.getSubmodelElements(submodelIdentifier.getIdentifier(), pInfo);
-		
-		GetSubmodelElementsResult paginatedSubmodelElement = new GetSubmodelElementsResult();
-		paginatedSubmodelElement.setResult(submodelElements.getResult());
-		paginatedSubmodelElement
-				.setPagingMetadata(new PagedResultPagingMetadata().cursor(submodelElements.getCursor()));
+				.getSubmodelElements(submodelIdentifier.getIdentifier(), pInfo, OutputModifier.fromValues(level, extent));
 
-		return new ResponseEntity<PagedResult>(paginatedSubmodelElement, HttpStatus.OK);
+		return new ResponseEntity<PagedResult>(new StreamedPagedResult<>(SubmodelElement.class, () -> StreamedCursorResult.of(submodelElements)), HttpStatus.OK);
 	}
 
 	@Override
 	public ResponseEntity<SubmodelElement> getSubmodelElementByPathSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid String level, @Valid String extent) {
-			return handleSubmodelElementValueNormalGetRequest(submodelIdentifier.getIdentifier(), idShortPath);
+			return handleSubmodelElementValueNormalGetRequest(submodelIdentifier.getIdentifier(), idShortPath, OutputModifier.fromValues(level, extent));
 	}
 
 	@Override
@@ -184,8 +176,8 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 		return new ResponseEntity<SubmodelElementValue>(value, HttpStatus.OK);
 	}
 
-	private ResponseEntity<SubmodelElement> handleSubmodelElementValueNormalGetRequest(String submodelIdentifier, String idShortPath) {
-		SubmodelElement submodelElement = repository.getSubmodelElement(submodelIdentifier, idShortPath);
+	private ResponseEntity<SubmodelElement> handleSubmodelElementValueNormalGetRequest(String submodelIdentifier, String idShortPath, OutputModifier modifier) {
+		SubmodelElement submodelElement = repository.getSubmodelElement(submodelIdentifier, idShortPath, modifier);
 		return new ResponseEntity<SubmodelElement>(submodelElement, HttpStatus.OK);
 	}
 
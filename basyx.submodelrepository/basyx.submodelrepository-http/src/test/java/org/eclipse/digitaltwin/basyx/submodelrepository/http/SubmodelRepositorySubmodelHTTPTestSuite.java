@@ -26,6 +26,7 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -45,6 +46,8 @@ import org.springframework.http.HttpStatus;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Base testsuite for all Submodel Repository HTTP tests
@@ -88,6 +91,32 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(expectedSubmodelJSON, BaSyxHttpTestUtils.getResponseAsString(response));
 	}
 
+	@Test
+	public void getSpecificSubmodelCoreWithoutBlobValue() throws ParseException, IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), DummySubmodelFactory.createTechnicalDataSubmodel()
+				.getId()) + "?level=core&extent=withoutBlobValue");
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+
+		JsonNode submodel = new ObjectMapper().readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+		for (JsonNode submodelElement : submodel.get("submodelElements")) {
+			String modelType = submodelElement.get("modelType")
+					.asText();
+			if (modelType.equals("Blob"))
+				assertFalse(submodelElement.has("value"));
+			if (modelType.equals("SubmodelElementCollection") || modelType.equals("SubmodelElementList"))
+				assertEquals(0, submodelElement.path("value")
+						.size());
+		}
+	}
+
+	@Test
+	public void getSpecificSubmodelWithUnsupportedLevel() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), DummySubmodelFactory.createTechnicalDataSubmodel()
+				.getId()) + "?level=shallow");
+
+		assertEquals(HttpStatus.BAD_REQUEST.value(), response.getCode());
+	}
+
 	@Test
 	public void getSpecificSubmodelNonExisting() throws IOException {
 		CloseableHttpResponse response = requestSubmodel("nonExisting");
@@ -175,6 +204,22 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(expected, submodelsJSON);
 	}
 
+	@Test
+	public void getSubmodelsFilteredByIdShort() throws ParseException, IOException {
+		String submodelsJSON = BaSyxSubmodelHttpTestUtils.requestAllSubmodels(getURL() + "?idShort=" + DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID_SHORT + "&limit=1");
+		String expected = getSingleSubmodelPaginatedJson();
+
+		BaSyxHttpTestUtils.assertSameJSONContent(expected, submodelsJSON);
+	}
+
+	@Test
+	public void getSubmodelsFilteredBySemanticIdAndIdShort() throws ParseException, IOException {
+		String semanticId = Base64UrlEncodedIdentifier.encodeIdentifier(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_SEMANTIC_ID);
+		String submodelsJSON = BaSyxSubmodelHttpTestUtils.requestAllSubmodels(getURL() + "?semanticId=" + semanticId + "&idShort=" + DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID_SHORT);
+
+		BaSyxHttpTestUtils.assertSameJSONContent("{\"paging_metadata\":{},\"result\":[]}", submodelsJSON);
+	}
+
 	private void assertSubmodelCreationReponse(String submodelJSON, CloseableHttpResponse creationResponse) throws IOException, ParseException, JsonProcessingException, JsonMappingException {
 		assertEquals(HttpStatus.CREATED.value(), creationResponse.getCode());
 		String response = BaSyxHttpTestUtils.getResponseAsString(creationResponse);
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.submodelservice;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -60,6 +61,9 @@ public class InMemorySubmodelService implements SubmodelService {
 	private final Submodel submodel;
 	private HierarchicalSubmodelElementParser parser;
 	private SubmodelElementIdShortHelper helper = new SubmodelElementIdShortHelper();
+	// Volatile, since concurrent readers may lazily build the index
+	private volatile SubmodelElementPathIndex pathIndex;
+	private volatile NavigableMap<String, SubmodelElement> sortedSubmodelElements;
 
 	/**
 	 * Creates the InMemory SubmodelService containing the passed Submodel
@@ -78,12 +82,7 @@ public class InMemorySubmodelService implements SubmodelService {
 
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(PaginationInfo pInfo) {
-		List<SubmodelElement> allSubmodels = submodel.getSubmodelElements();
-
-		TreeMap<String, SubmodelElement> submodelMap = allSubmodels.stream()
-				.collect(Collectors.toMap(SubmodelElement::getIdShort, aas -> aas, (a, b) -> a, TreeMap::new));
-
-		PaginationSupport<SubmodelElement> paginationSupport = new PaginationSupport<>(submodelMap,
+		PaginationSupport<SubmodelElement> paginationSupport = new PaginationSupport<>(getSortedSubmodelElements(),
 				SubmodelElement::getIdShort);
 		CursorResult<List<SubmodelElement>> paginatedSubmodels = paginationSupport.getPaged(pInfo);
 		return paginatedSubmodels;
@@ -91,6 +90,11 @@ public class InMemorySubmodelService implements SubmodelService {
 
 	@Override
 	public SubmodelElement getSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElement indexed = getPathIndex().get(idShortPath);
+		if (indexed != null)
+			return indexed;
+
+		// Paths that are not in canonical form, e.g. list[01], are not indexed
 		return parser.getSubmodelElementFromIdShortPath(idShortPath);
 	}
 
@@ -107,6 +111,7 @@ public class InMemorySubmodelService implements SubmodelService {
 		
 		ValueMapper<SubmodelElementValue> valueMapper = submodelElementValueFactory.create(getSubmodelElement(idShort));
 		
+		// Setting a value does not change the element structure, thus the path index stays valid
 		valueMapper.setValue(value);	
 	}
 
@@ -117,27 +122,27 @@ public class InMemorySubmodelService implements SubmodelService {
 		List<SubmodelElement> smElements = submodel.getSubmodelElements();
 		smElements.add(submodelElement);
 		submodel.setSubmodelElements(smElements);
+
+		getPathIndex().add(null, submodelElement);
+		getSortedSubmodelElements().putIfAbsent(submodelElement.getIdShort(), submodelElement);
 	}
 	
 	private void throwIfSubmodelElementExists(String submodelElementId) {
-		try {
-			getSubmodelElement(submodelElementId);
-			throw new CollidingIdentifierException(submodelElementId); 
-		}catch(ElementDoesNotExistException e) {
-			return;
-		}
+		if (getPathIndex().contains(submodelElementId))
+			throw new CollidingIdentifierException(submodelElementId);
 	}
 
 	@Override
 	public void createSubmodelElement(String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
 		throwIfSubmodelElementExists(submodelElement.getIdShort());
 		
-		SubmodelElement parentSme = parser.getSubmodelElementFromIdShortPath(idShortPath);
+		SubmodelElement parentSme = getSubmodelElement(idShortPath);
 		if(parentSme instanceof SubmodelElementList) {
 			SubmodelElementList list = (SubmodelElementList) parentSme;
 			List<SubmodelElement> submodelElements = list.getValue();
 			submodelElements.add(submodelElement);
 			list.setValue(submodelElements);
+			updatePathIndexAfterCreation(idShortPath, submodelElement);
 			return;
 		}
 		if (parentSme instanceof SubmodelElementCollection) {
@@ -145,8 +150,18 @@ public class InMemorySubmodelService implements SubmodelService {
 			Collection<SubmodelElement> submodelElements = collection.getValue();
 			submodelElements.add(submodelElement);
 			collection.setValue(submodelElements);
+			updatePathIndexAfterCreation(idShortPath, submodelElement);
+			return;
+		}
+	}
+
+	private void updatePathIndexAfterCreation(String parentIdShortPath, SubmodelElement submodelElement) {
+		if (getPathIndex().contains(parentIdShortPath)) {
+			getPathIndex().add(parentIdShortPath, submodelElement);
 			return;
 		}
+
+		invalidatePathIndex();
 	}
 
 	@Override
@@ -159,45 +174,93 @@ public class InMemorySubmodelService implements SubmodelService {
 	}
 
 	private void deleteNestedSubmodelElement(String idShortPath) {
-		SubmodelElement sm = parser.getSubmodelElementFromIdShortPath(idShortPath);
+		SubmodelElement sm = getSubmodelElement(idShortPath);
 		if(helper.isDirectParentASubmodelElementList(idShortPath)) {
 			deleteNestedSubmodelElementFromList(idShortPath, sm);
 		} else {
 			deleteNestedSubmodelElementFromCollection(idShortPath, sm);
 		}
+		updatePathIndexAfterDeletion(idShortPath, sm);
 	}
 
 	private void deleteNestedSubmodelElementFromList(String idShortPath, SubmodelElement sm) {
-		String collectionId = helper.extractDirectParentSubmodelElementListIdShort(idShortPath);
-		SubmodelElementList list = (SubmodelElementList) parser.getSubmodelElementFromIdShortPath(collectionId);
+		SubmodelElementList list = (SubmodelElementList) getDirectParent(idShortPath, helper.extractDirectParentSubmodelElementListIdShort(idShortPath));
 		list.getValue().remove(sm);
 	}
 
 	private void deleteNestedSubmodelElementFromCollection(String idShortPath, SubmodelElement sm) {
-		String collectionId = helper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath);
-		SubmodelElementCollection collection = (SubmodelElementCollection) parser
-				.getSubmodelElementFromIdShortPath(collectionId);
+		SubmodelElementCollection collection = (SubmodelElementCollection) getDirectParent(idShortPath, helper.extractDirectParentSubmodelElementCollectionIdShort(idShortPath));
 		collection.getValue().remove(sm);
 	}
 
+	private SubmodelElement getDirectParent(String idShortPath, String parentIdShortPath) {
+		SubmodelElement indexedParent = getPathIndex().getParent(idShortPath);
+		if (indexedParent != null)
+			return indexedParent;
+
+		return getSubmodelElement(parentIdShortPath);
+	}
+
 	private void deleteFlatSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
 		int index = findIndexOfElementTobeDeleted(idShortPath);
 		if (index >= 0) {
-			submodel.getSubmodelElements().remove(index);
+			SubmodelElement sm = submodel.getSubmodelElements().remove(index);
+			updatePathIndexAfterDeletion(idShortPath, sm);
+			sortedSubmodelElements = null;
 			return;
 		}
 		throw new ElementDoesNotExistException();
 	}
 
+	private void updatePathIndexAfterDeletion(String idShortPath, SubmodelElement sm) {
+		if (getPathIndex().contains(idShortPath)) {
+			getPathIndex().remove(idShortPath, sm);
+			return;
+		}
+
+		invalidatePathIndex();
+	}
+
 	private int findIndexOfElementTobeDeleted(String idShortPath) {
-		for (SubmodelElement sme : submodel.getSubmodelElements()) {
-			if (sme.getIdShort().equals(idShortPath)) {
-				return submodel.getSubmodelElements().indexOf(sme);
+		List<SubmodelElement> submodelElements = submodel.getSubmodelElements();
+		for (int i = 0; i < submodelElements.size(); i++) {
+			if (idShortPath.equals(submodelElements.get(i).getIdShort())) {
+				return i;
 			}
 		}
 		return -1;
 	}
 
+	private SubmodelElementPathIndex getPathIndex() {
+		SubmodelElementPathIndex index = pathIndex;
+		if (index == null) {
+			index = new SubmodelElementPathIndex(submodel);
+			pathIndex = index;
+		}
+
+		return index;
+	}
+
+	private void invalidatePathIndex() {
+		pathIndex = null;
+	}
+
+	/**
+	 * Returns the top level SubmodelElements sorted by their idShort. If an idShort
+	 * occurs more than once, the first occurrence is contained.
+	 */
+	private NavigableMap<String, SubmodelElement> getSortedSubmodelElements() {
+		NavigableMap<String, SubmodelElement> sorted = sortedSubmodelElements;
+		if (sorted == null) {
+			sorted = submodel.getSubmodelElements()
+					.stream()
+					.collect(Collectors.toMap(SubmodelElement::getIdShort, sme -> sme, (a, b) -> a, TreeMap::new));
+			sortedSubmodelElements = sorted;
+		}
+
+		return sorted;
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String idShortPath, OperationVariable[] input) {
 		SubmodelElement sme = getSubmodelElement(idShortPath);
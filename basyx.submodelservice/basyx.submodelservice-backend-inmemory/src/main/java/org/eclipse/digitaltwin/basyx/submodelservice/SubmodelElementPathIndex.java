@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Index mapping the canonical idShortPath of every {@link SubmodelElement}
+ * contained in a {@link Submodel} to the element and its direct parent.
+ *
+ * Canonical paths join idShorts with a dot and address
+ * {@link SubmodelElementList} entries by their index, e.g.
+ * <code>collection.list[0].property</code>. If the same idShort occurs more
+ * than once below a parent, the first occurrence is indexed.
+ *
+ * @author schnicke
+ *
+ */
+class SubmodelElementPathIndex {
+
+	private final Submodel submodel;
+	private final Map<String, IndexEntry> entries = new HashMap<>();
+
+	/**
+	 * Creates the index and indexes all SubmodelElements currently contained in
+	 * the passed Submodel
+	 *
+	 * @param submodel
+	 */
+	public SubmodelElementPathIndex(Submodel submodel) {
+		this.submodel = submodel;
+		indexChildren(null, null, getSubmodelElements());
+	}
+
+	/**
+	 * Returns the SubmodelElement indexed for the passed canonical idShortPath
+	 *
+	 * @param idShortPath
+	 * @return the SubmodelElement or null, if there is no element indexed for the
+	 *         path
+	 */
+	public SubmodelElement get(String idShortPath) {
+		IndexEntry entry = entries.get(idShortPath);
+
+		return entry == null ? null : entry.element;
+	}
+
+	/**
+	 * Returns the direct parent of the SubmodelElement indexed for the passed
+	 * canonical idShortPath
+	 *
+	 * @param idShortPath
+	 * @return the parent SubmodelElement or null, if the element is a direct child
+	 *         of the Submodel or is not indexed at all
+	 */
+	public SubmodelElement getParent(String idShortPath) {
+		IndexEntry entry = entries.get(idShortPath);
+
+		return entry == null ? null : entry.parent;
+	}
+
+	/**
+	 * Checks whether an element is indexed for the passed canonical idShortPath
+	 *
+	 * @param idShortPath
+	 * @return true if an element is indexed for the path
+	 */
+	public boolean contains(String idShortPath) {
+		return entries.containsKey(idShortPath);
+	}
+
+	/**
+	 * Indexes a SubmodelElement, including all of its children, that has been
+	 * added to the Submodel
+	 *
+	 * @param parentPath
+	 *            the canonical idShortPath of the parent or null, if the element
+	 *            has been added directly to the Submodel
+	 * @param submodelElement
+	 */
+	public void add(String parentPath, SubmodelElement submodelElement) {
+		if (parentPath == null) {
+			indexElement(null, null, submodelElement.getIdShort(), submodelElement);
+			return;
+		}
+
+		SubmodelElement parent = get(parentPath);
+		if (parent instanceof SubmodelElementList) {
+			int index = getListEntries((SubmodelElementList) parent).size() - 1;
+			indexElement(parent, parentPath, createListEntryPath(parentPath, index), submodelElement);
+		} else {
+			indexElement(parent, parentPath, createChildPath(parentPath, submodelElement.getIdShort()), submodelElement);
+		}
+	}
+
+	/**
+	 * Updates the index after the SubmodelElement indexed for the passed path has
+	 * been removed from its parent
+	 *
+	 * @param idShortPath
+	 *            the canonical idShortPath of the removed element
+	 * @param removed
+	 *            the removed SubmodelElement
+	 */
+	public void remove(String idShortPath, SubmodelElement removed) {
+		IndexEntry entry = entries.get(idShortPath);
+		if (entry == null)
+			return;
+
+		if (entry.parent == null) {
+			unindexElement(idShortPath, removed);
+			indexSiblingWithSameIdShort(removed.getIdShort());
+			return;
+		}
+
+		unindexChildren(entry.parent, entry.parentPath, removed);
+		indexChildren(entry.parent, entry.parentPath);
+	}
+
+	private void indexSiblingWithSameIdShort(String idShort) {
+		getSubmodelElements().stream()
+				.filter(sme -> idShort.equals(sme.getIdShort()))
+				.findFirst()
+				.ifPresent(sme -> indexElement(null, null, idShort, sme));
+	}
+
+	private void indexElement(SubmodelElement parent, String parentPath, String idShortPath, SubmodelElement submodelElement) {
+		if (entries.putIfAbsent(idShortPath, new IndexEntry(submodelElement, parent, parentPath)) != null)
+			return;
+
+		indexChildren(submodelElement, idShortPath);
+	}
+
+	private void indexChildren(SubmodelElement submodelElement, String idShortPath) {
+		if (submodelElement instanceof SubmodelElementList) {
+			List<SubmodelElement> listEntries = getListEntries((SubmodelElementList) submodelElement);
+			for (int i = 0; i < listEntries.size(); i++) {
+				indexElement(submodelElement, idShortPath, createListEntryPath(idShortPath, i), listEntries.get(i));
+			}
+			return;
+		}
+
+		indexChildren(submodelElement, idShortPath, getNamedChildren(submodelElement));
+	}
+
+	private void indexChildren(SubmodelElement parent, String parentPath, Collection<SubmodelElement> children) {
+		for (SubmodelElement child : children) {
+			if (child.getIdShort() != null)
+				indexElement(parent, parentPath, createChildPath(parentPath, child.getIdShort()), child);
+		}
+	}
+
+	/**
+	 * Removes all paths below parentPath. The removed element is passed
+	 * separately, since it is no longer reachable from its parent.
+	 */
+	private void unindexChildren(SubmodelElement parent, String parentPath, SubmodelElement removed) {
+		if (parent instanceof SubmodelElementList) {
+			List<SubmodelElement> listEntries = getListEntries((SubmodelElementList) parent);
+			for (int i = 0; i <= listEntries.size(); i++) {
+				String entryPath = createListEntryPath(parentPath, i);
+				IndexEntry entry = entries.get(entryPath);
+				if (entry != null)
+					unindexElement(entryPath, entry.element);
+			}
+			return;
+		}
+
+		unindexElement(createChildPath(parentPath, removed.getIdShort()), removed);
+		unindexNamedChildren(parentPath, getNamedChildren(parent));
+	}
+
+	private void unindexElement(String idShortPath, SubmodelElement submodelElement) {
+		entries.remove(idShortPath);
+
+		if (submodelElement instanceof SubmodelElementList) {
+			List<SubmodelElement> listEntries = getListEntries((SubmodelElementList) submodelElement);
+			for (int i = 0; i < listEntries.size(); i++) {
+				unindexElement(createListEntryPath(idShortPath, i), listEntries.get(i));
+			}
+			return;
+		}
+
+		unindexNamedChildren(idShortPath, getNamedChildren(submodelElement));
+	}
+
+	private void unindexNamedChildren(String parentPath, Collection<SubmodelElement> children) {
+		for (SubmodelElement child : children) {
+			if (child.getIdShort() != null)
+				unindexElement(createChildPath(parentPath, child.getIdShort()), child);
+		}
+	}
+
+	private Collection<SubmodelElement> getNamedChildren(SubmodelElement submodelElement) {
+		Collection<SubmodelElement> children = null;
+
+		if (submodelElement instanceof SubmodelElementCollection) {
+			children = ((SubmodelElementCollection) submodelElement).getValue();
+		} else if (submodelElement instanceof Entity) {
+			children = ((Entity) submodelElement).getStatements();
+		}
+
+		return children == null ? Collections.emptyList() : children;
+	}
+
+	private List<SubmodelElement> getListEntries(SubmodelElementList submodelElementList) {
+		List<SubmodelElement> listEntries = submodelElementList.getValue();
+
+		return listEntries == null ? Collections.emptyList() : listEntries;
+	}
+
+	private List<SubmodelElement> getSubmodelElements() {
+		List<SubmodelElement> submodelElements = submodel.getSubmodelElements();
+
+		return submodelElements == null ? Collections.emptyList() : submodelElements;
+	}
+
+	private static String createChildPath(String parentPath, String idShort) {
+		return parentPath == null ? idShort : parentPath + "." + idShort;
+	}
+
+	private static String createListEntryPath(String listPath, int index) {
+		return listPath + "[" + index + "]";
+	}
+
+	private static class IndexEntry {
+		private final SubmodelElement element;
+		private final SubmodelElement parent;
+		private final String parentPath;
+
+		private IndexEntry(SubmodelElement element, SubmodelElement parent, String parentPath) {
+			this.element = element;
+			this.parent = parent;
+			this.parentPath = parentPath;
+		}
+	}
+}
@@ -25,10 +25,12 @@
 
 package org.eclipse.digitaltwin.basyx.deserialization.util;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 import org.eclipse.digitaltwin.basyx.submodelservice.value.AnnotatedRelationshipElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.EntityValue;
@@ -47,6 +49,27 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class SubmodelElementValueDeserializationUtil {
 
+	// The attribute signatures are derived via reflection once, since they are
+	// checked for every inspected node
+	private static final AttributeSignature FILE_BLOB_VALUE_SIGNATURE = AttributeSignature.of(FileBlobValue.class);
+	private static final AttributeSignature RANGE_VALUE_SIGNATURE = AttributeSignature.of(RangeValue.class);
+	private static final AttributeSignature ENTITY_VALUE_SIGNATURE = AttributeSignature.of(EntityValue.class);
+	private static final AttributeSignature REFERENCE_VALUE_SIGNATURE = AttributeSignature.of(ReferenceValue.class);
+	private static final AttributeSignature RELATIONSHIP_ELEMENT_VALUE_SIGNATURE = AttributeSignature.of(RelationshipElementValue.class);
+	private static final AttributeSignature ANNOTATED_RELATIONSHIP_ELEMENT_VALUE_SIGNATURE = AttributeSignature.of(AnnotatedRelationshipElementValue.class);
+
+	private static final List<Predicate<JsonNode>> SUBMODEL_ELEMENT_VALUE_TYPE_CHECKS = Arrays.asList(
+			SubmodelElementValueDeserializationUtil::isTypeOfRangeValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfMultiLanguagePropertyValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfFileBlobValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfPropertyValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfEntityValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfReferenceElementValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfRelationshipElementValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfAnnotatedRelationshipElementValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfSubmodelElementCollectionValue,
+			SubmodelElementValueDeserializationUtil::isTypeOfSubmodelElementListValue);
+
 	private SubmodelElementValueDeserializationUtil() {
 		throw new IllegalStateException("Utility class");
 	}
@@ -56,11 +79,11 @@ public class SubmodelElementValueDeserializationUtil {
 	}
 
 	public static boolean isTypeOfFileBlobValue(JsonNode node) {
-		return isTypeOf(FileBlobValue.class, node);
+		return FILE_BLOB_VALUE_SIGNATURE.matches(node);
 	}
 
 	public static boolean isTypeOfRangeValue(JsonNode node) {
-		return isTypeOf(RangeValue.class, node);
+		return RANGE_VALUE_SIGNATURE.matches(node);
 	}
 
 	public static boolean isTypeOfMultiLanguagePropertyValue(JsonNode node) {
@@ -68,19 +91,19 @@ public class SubmodelElementValueDeserializationUtil {
 	}
 
 	public static boolean isTypeOfEntityValue(JsonNode node) {
-		return isTypeOf(EntityValue.class, node);
+		return ENTITY_VALUE_SIGNATURE.matches(node);
 	}
 
 	public static boolean isTypeOfReferenceElementValue(JsonNode node) {
-		return isTypeOf(ReferenceValue.class, node);
+		return REFERENCE_VALUE_SIGNATURE.matches(node);
 	}
 
 	public static boolean isTypeOfRelationshipElementValue(JsonNode node) {
-		return isTypeOf(RelationshipElementValue.class, node);
+		return RELATIONSHIP_ELEMENT_VALUE_SIGNATURE.matches(node);
 	}
 
 	public static boolean isTypeOfAnnotatedRelationshipElementValue(JsonNode node) {
-		return isTypeOf(AnnotatedRelationshipElementValue.class, node);
+		return ANNOTATED_RELATIONSHIP_ELEMENT_VALUE_SIGNATURE.matches(node);
 	}
 
 	public static boolean isTypeOfSubmodelElementCollectionValue(JsonNode node) {
@@ -91,60 +114,6 @@ public class SubmodelElementValueDeserializationUtil {
 		return node.isArray() && hasStructureOfSubmodelElementListValue(node);
 	}
 
-	private static boolean isTypeOf(Class<?> clazz, JsonNode node) {
-		Field[] superClassFields = clazz.getSuperclass().getDeclaredFields();
-		Field[] fields = clazz.getDeclaredFields();
-
-		if (superClassFields.length != 0)
-			fields = merge(superClassFields, fields);
-
-		int countOfOptionalAttributes = getOptionalAttributesCount(fields);
-		int totalCountOfAttributes = fields.length;
-
-		if (!isSizeOfAttributesValid(node.size(), countOfOptionalAttributes, totalCountOfAttributes))
-			return false;
-
-		for (Field field : fields) {
-			if (!isOptionalAttribute(field) && !node.has(field.getName()))
-				return false;
-		}
-
-		return true;
-	}
-
-	private static boolean isSizeOfAttributesValid(int nodeSize, int countOfOptionalAttributes,
-			int totalCountOfAttributes) {
-		if (countOfOptionalAttributes == 0)
-			return nodeSize == totalCountOfAttributes;
-
-		return nodeSize >= (totalCountOfAttributes - countOfOptionalAttributes);
-	}
-
-	private static int getOptionalAttributesCount(Field[] fields) {
-		int count = 0;
-
-		for (Field field : fields) {
-			if (isOptionalAttribute(field))
-				count++;
-		}
-
-		return count;
-	}
-
-	private static boolean isOptionalAttribute(Field field) {
-		return Optional.class.isAssignableFrom(field.getType());
-	}
-
-	private static Field[] merge(Field[] fieldArray1, Field[] fieldArray2) {
-		int lengthFieldArray1 = Array.getLength(fieldArray1);
-		int lengthFieldArray2 = Array.getLength(fieldArray2);
-		Field[] result = (Field[]) Array.newInstance(Field.class, lengthFieldArray1 + lengthFieldArray2);
-		System.arraycopy(fieldArray1, 0, result, 0, lengthFieldArray1);
-		System.arraycopy(fieldArray2, 0, result, lengthFieldArray1, lengthFieldArray2);
-
-		return result;
-	}
-
 	private static boolean hasStructureOfMultiLanguagePropertyValue(JsonNode node) {
 		for (JsonNode element : node) {
 			if (!isValidLanguagePropertyValue(element))
@@ -179,11 +148,8 @@ public class SubmodelElementValueDeserializationUtil {
 	}
 
 	private static boolean isInstanceOfSubmodelElementValue(JsonNode node) {
-		return Stream.of(isTypeOfRangeValue(node), isTypeOfMultiLanguagePropertyValue(node),
-				isTypeOfFileBlobValue(node), isTypeOfPropertyValue(node), isTypeOfEntityValue(node),
-				isTypeOfReferenceElementValue(node), isTypeOfRelationshipElementValue(node),
-				isTypeOfAnnotatedRelationshipElementValue(node), isTypeOfSubmodelElementCollectionValue(node), isTypeOfSubmodelElementListValue(node))
-				.anyMatch(result -> result);
+		return SUBMODEL_ELEMENT_VALUE_TYPE_CHECKS.stream()
+				.anyMatch(typeCheck -> typeCheck.test(node));
 	}
 
 	private static boolean isValidLanguagePropertyValue(JsonNode element) {
@@ -196,4 +162,61 @@ public class SubmodelElementValueDeserializationUtil {
 		return element.get(language).isTextual();
 	}
 
+	/**
+	 * The attributes of a value class, including the ones of its superclass.
+	 * Attributes of type {@link Optional} are optional.
+	 */
+	private static class AttributeSignature {
+		private final List<String> mandatoryAttributes;
+		private final int countOfOptionalAttributes;
+		private final int totalCountOfAttributes;
+
+		private AttributeSignature(List<String> mandatoryAttributes, int countOfOptionalAttributes) {
+			this.mandatoryAttributes = mandatoryAttributes;
+			this.countOfOptionalAttributes = countOfOptionalAttributes;
+			this.totalCountOfAttributes = mandatoryAttributes.size() + countOfOptionalAttributes;
+		}
+
+		private static AttributeSignature of(Class<?> clazz) {
+			List<Field> fields = new ArrayList<>(Arrays.asList(clazz.getSuperclass().getDeclaredFields()));
+			fields.addAll(Arrays.asList(clazz.getDeclaredFields()));
+
+			List<String> mandatoryAttributes = new ArrayList<>();
+			int countOfOptionalAttributes = 0;
+
+			for (Field field : fields) {
+				if (isOptionalAttribute(field)) {
+					countOfOptionalAttributes++;
+				} else {
+					mandatoryAttributes.add(field.getName());
+				}
+			}
+
+			return new AttributeSignature(mandatoryAttributes, countOfOptionalAttributes);
+		}
+
+		private boolean matches(JsonNode node) {
+			if (!isSizeOfAttributesValid(node.size(), countOfOptionalAttributes, totalCountOfAttributes))
+				return false;
+
+			for (String attribute : mandatoryAttributes) {
+				if (!node.has(attribute))
+					return false;
+			}
+
+			return true;
+		}
+
+		private static boolean isSizeOfAttributesValid(int nodeSize, int countOfOptionalAttributes, int totalCountOfAttributes) {
+			if (countOfOptionalAttributes == 0)
+				return nodeSize == totalCountOfAttributes;
+
+			return nodeSize >= (totalCountOfAttributes - countOfOptionalAttributes);
+		}
+
+		private static boolean isOptionalAttribute(Field field) {
+			return Optional.class.isAssignableFrom(field.getType());
+		}
+	}
+
 }
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+
+/**
+ * Creates copies of Submodels
+ * 
+ * @author schnicke
+ *
+ */
+public class SubmodelCopies {
+
+	private SubmodelCopies() {
+	}
+
+	/**
+	 * Creates a shallow copy of the passed Submodel without its
+	 * SubmodelElements, i.e., the attribute values are shared with the passed
+	 * Submodel
+	 * 
+	 * @param submodel
+	 * @return the copy, of which the SubmodelElements are null
+	 */
+	public static Submodel copyWithoutSubmodelElements(Submodel submodel) {
+		Submodel copy = new DefaultSubmodel.Builder().id(submodel.getId())
+				.idShort(submodel.getIdShort())
+				.category(submodel.getCategory())
+				.kind(submodel.getKind())
+				.administration(submodel.getAdministration())
+				.semanticID(submodel.getSemanticID())
+				.build();
+
+		copy.setDisplayName(submodel.getDisplayName());
+		copy.setDescription(submodel.getDescription());
+		copy.setExtensions(submodel.getExtensions());
+		copy.setSupplementalSemanticIds(submodel.getSupplementalSemanticIds());
+		copy.setQualifiers(submodel.getQualifiers());
+		copy.setEmbeddedDataSpecifications(submodel.getEmbeddedDataSpecifications());
+		copy.setSubmodelElements(null);
+
+		return copy;
+	}
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.modifier;
+
+/**
+ * Extent to which a returned resource is serialized, i.e., the extent modifier
+ * of the API
+ * 
+ * @author schnicke
+ *
+ */
+public enum Extent {
+	/**
+	 * Blobs are returned including their value
+	 */
+	WITH_BLOB_VALUE("withBlobValue"),
+
+	/**
+	 * Blobs are returned without their value
+	 */
+	WITHOUT_BLOB_VALUE("withoutBlobValue");
+
+	private final String value;
+
+	private Extent(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Parses the value of the extent query parameter. Deviating from the
+	 * specification, which defaults to {@link #WITHOUT_BLOB_VALUE}, an omitted
+	 * parameter keeps Blob values, so that existing clients still receive them.
+	 * 
+	 * @param value
+	 *            {@link #WITH_BLOB_VALUE} if null
+	 * @return the corresponding extent
+	 * @throws IllegalArgumentException
+	 *             if the value is not supported
+	 */
+	public static Extent fromValue(String value) {
+		if (value == null)
+			return WITH_BLOB_VALUE;
+
+		for (Extent extent : values()) {
+			if (extent.value.equals(value))
+				return extent;
+		}
+
+		throw new IllegalArgumentException("Unsupported extent: " + value);
+	}
+}
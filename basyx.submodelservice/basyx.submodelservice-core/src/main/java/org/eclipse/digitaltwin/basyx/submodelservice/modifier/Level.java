@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.modifier;
+
+/**
+ * Structural depth of a returned resource, i.e., the level modifier of the
+ * API
+ * 
+ * @author schnicke
+ *
+ */
+public enum Level {
+	/**
+	 * The resource including all of its descendants
+	 */
+	DEEP("deep"),
+
+	/**
+	 * The resource including its direct children only
+	 */
+	CORE("core");
+
+	private final String value;
+
+	private Level(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Parses the value of the level query parameter
+	 * 
+	 * @param value
+	 *            {@link #DEEP} if null
+	 * @return the corresponding level
+	 * @throws IllegalArgumentException
+	 *             if the value is not supported
+	 */
+	public static Level fromValue(String value) {
+		if (value == null)
+			return DEEP;
+
+		for (Level level : values()) {
+			if (level.value.equals(value))
+				return level;
+		}
+
+		throw new IllegalArgumentException("Unsupported level: " + value);
+	}
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.modifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelCopies;
+
+/**
+ * Applies the level and extent modifiers to Submodels and SubmodelElements
+ * before they are returned.
+ * 
+ * The passed model objects are never modified. Only the elements that are
+ * actually trimmed and their ancestors are copied, all other elements are
+ * shared with the passed model.
+ * 
+ * @author schnicke
+ *
+ */
+public class OutputModifier {
+
+	/**
+	 * Returns resources unmodified, i.e., deep and with Blob values
+	 */
+	public static final OutputModifier DEFAULT = new OutputModifier(Level.DEEP, Extent.WITH_BLOB_VALUE);
+
+	private static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+
+	private final Level level;
+	private final Extent extent;
+
+	public OutputModifier(Level level, Extent extent) {
+		this.level = level;
+		this.extent = extent;
+	}
+
+	/**
+	 * Creates an OutputModifier from the values of the level and extent query
+	 * parameters
+	 * 
+	 * @param level
+	 * @param extent
+	 * @return the corresponding OutputModifier
+	 * @throws IllegalArgumentException
+	 *             if one of the values is not supported
+	 */
+	public static OutputModifier fromValues(String level, String extent) {
+		return new OutputModifier(Level.fromValue(level), Extent.fromValue(extent));
+	}
+
+	public Level getLevel() {
+		return level;
+	}
+
+	public Extent getExtent() {
+		return extent;
+	}
+
+	/**
+	 * @return true if resources are returned unmodified
+	 */
+	public boolean isDefault() {
+		return level == Level.DEEP && extent == Extent.WITH_BLOB_VALUE;
+	}
+
+	/**
+	 * Applies the modifiers to a Submodel. With {@link Level#CORE}, its
+	 * SubmodelElements are returned without their children.
+	 * 
+	 * @param submodel
+	 * @return the modified Submodel
+	 */
+	public Submodel applyToSubmodel(Submodel submodel) {
+		if (isDefault() || submodel.getSubmodelElements() == null)
+			return submodel;
+
+		Submodel modified = SubmodelCopies.copyWithoutSubmodelElements(submodel);
+		modified.setSubmodelElements(applyToSubmodelElements(submodel.getSubmodelElements()));
+
+		return modified;
+	}
+
+	/**
+	 * Applies the modifiers to the direct children of a Submodel. With
+	 * {@link Level#CORE}, they are returned without their children.
+	 * 
+	 * @param submodelElements
+	 * @return the modified SubmodelElements
+	 */
+	public List<SubmodelElement> applyToSubmodelElements(List<SubmodelElement> submodelElements) {
+		if (isDefault())
+			return submodelElements;
+
+		return trimAll(submodelElements, getDepth());
+	}
+
+	/**
+	 * Applies the modifiers to an individually requested SubmodelElement. With
+	 * {@link Level#CORE}, it is returned with its direct children, but without
+	 * their children.
+	 * 
+	 * @param submodelElement
+	 * @return the modified SubmodelElement
+	 */
+	public SubmodelElement applyToSubmodelElement(SubmodelElement submodelElement) {
+		if (isDefault())
+			return submodelElement;
+
+		return trim(submodelElement, getDepth());
+	}
+
+	/**
+	 * Returns the number of levels of descendants retained below the requested
+	 * resource
+	 */
+	private int getDepth() {
+		return level == Level.CORE ? 1 : UNLIMITED_DEPTH;
+	}
+
+	/**
+	 * Trims a SubmodelElement, so that at most the passed number of levels of
+	 * its descendants is retained
+	 */
+	private SubmodelElement trim(SubmodelElement submodelElement, int depth) {
+		if (submodelElement instanceof Blob)
+			return trimBlob((Blob) submodelElement);
+
+		if (submodelElement instanceof SubmodelElementCollection)
+			return trimCollection((SubmodelElementCollection) submodelElement, depth);
+
+		if (submodelElement instanceof SubmodelElementList)
+			return trimList((SubmodelElementList) submodelElement, depth);
+
+		if (submodelElement instanceof Entity)
+			return trimEntity((Entity) submodelElement, depth);
+
+		return submodelElement;
+	}
+
+	/**
+	 * Trims the children of an element, of which the passed number of levels of
+	 * descendants is retained
+	 */
+	private List<SubmodelElement> trimAll(Collection<SubmodelElement> submodelElements, int depth) {
+		if (submodelElements == null)
+			return null;
+
+		if (depth == 0)
+			return new ArrayList<>();
+
+		return submodelElements.stream()
+				.map(submodelElement -> trim(submodelElement, depth - 1))
+				.collect(Collectors.toList());
+	}
+
+	private boolean isUnchanged(Collection<SubmodelElement> original, List<SubmodelElement> trimmed) {
+		if (original == null || trimmed == null)
+			return original == trimmed;
+
+		if (original.size() != trimmed.size())
+			return false;
+
+		int i = 0;
+		for (SubmodelElement submodelElement : original) {
+			if (submodelElement != trimmed.get(i++))
+				return false;
+		}
+
+		return true;
+	}
+
+	private SubmodelElement trimBlob(Blob blob) {
+		if (extent == Extent.WITH_BLOB_VALUE || blob.getValue() == null)
+			return blob;
+
+		Blob trimmed = new DefaultBlob();
+		copyCommonAttributes(blob, trimmed);
+		trimmed.setContentType(blob.getContentType());
+
+		return trimmed;
+	}
+
+	private SubmodelElement trimCollection(SubmodelElementCollection collection, int depth) {
+		List<SubmodelElement> children = trimAll(collection.getValue(), depth);
+		if (isUnchanged(collection.getValue(), children))
+			return collection;
+
+		SubmodelElementCollection trimmed = new DefaultSubmodelElementCollection();
+		copyCommonAttributes(collection, trimmed);
+		trimmed.setValue(children);
+
+		return trimmed;
+	}
+
+	private SubmodelElement trimList(SubmodelElementList list, int depth) {
+		List<SubmodelElement> children = trimAll(list.getValue(), depth);
+		if (isUnchanged(list.getValue(), children))
+			return list;
+
+		SubmodelElementList trimmed = new DefaultSubmodelElementList();
+		copyCommonAttributes(list, trimmed);
+		trimmed.setOrderRelevant(list.getOrderRelevant());
+		trimmed.setSemanticIDListElement(list.getSemanticIDListElement());
+		trimmed.setTypeValueListElement(list.getTypeValueListElement());
+		trimmed.setValueTypeListElement(list.getValueTypeListElement());
+		trimmed.setValue(children);
+
+		return trimmed;
+	}
+
+	private SubmodelElement trimEntity(Entity entity, int depth) {
+		List<SubmodelElement> statements = trimAll(entity.getStatements(), depth);
+		if (isUnchanged(entity.getStatements(), statements))
+			return entity;
+
+		Entity trimmed = new DefaultEntity();
+		copyCommonAttributes(entity, trimmed);
+		trimmed.setEntityType(entity.getEntityType());
+		trimmed.setGlobalAssetID(entity.getGlobalAssetID());
+		trimmed.setSpecificAssetIds(entity.getSpecificAssetIds());
+		trimmed.setStatements(statements);
+
+		return trimmed;
+	}
+
+	private void copyCommonAttributes(SubmodelElement source, SubmodelElement target) {
+		target.setIdShort(source.getIdShort());
+		target.setCategory(source.getCategory());
+		target.setDisplayName(source.getDisplayName());
+		target.setDescription(source.getDescription());
+		target.setExtensions(source.getExtensions());
+		target.setSemanticID(source.getSemanticID());
+		target.setSupplementalSemanticIds(source.getSupplementalSemanticIds());
+		target.setQualifiers(source.getQualifiers());
+		target.setEmbeddedDataSpecifications(source.getEmbeddedDataSpecifications());
+	}
+}
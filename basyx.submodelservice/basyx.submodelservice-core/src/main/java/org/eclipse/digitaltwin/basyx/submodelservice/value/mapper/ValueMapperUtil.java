@@ -26,9 +26,12 @@
 package org.eclipse.digitaltwin.basyx.submodelservice.value.mapper;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -81,6 +84,10 @@ public class ValueMapperUtil {
             Map.entry(SubmodelElementList.class, SubmodelElementListValue.class)
     );
 
+	private static final Map<Class<?>, List<Class<? extends SubmodelElementValue>>> COMPATIBLE_VALUE_TYPES_CACHE = new ConcurrentHashMap<>();
+
+	private static final SubmodelElementValueMapperFactory VALUE_MAPPER_FACTORY = new SubmodelElementValueMapperFactory();
+
 	private ValueMapperUtil() {
 		throw new IllegalStateException("Utility class");
 	}
@@ -94,8 +101,7 @@ public class ValueMapperUtil {
 	 */
 	public static ValueOnly toValueOnly(SubmodelElement submodelElement) {
 		String idShort = submodelElement.getIdShort();
-		SubmodelElementValue submodelElementValue = new SubmodelElementValueMapperFactory().create(submodelElement)
-				.getValue();
+		SubmodelElementValue submodelElementValue = getValueMapper(submodelElement).getValue();
 
 		return new ValueOnly(idShort, submodelElementValue);
 	}
@@ -112,8 +118,8 @@ public class ValueMapperUtil {
 	 */
 	public static SubmodelElementValue getSubmodelElementValue(SubmodelElement submodelElement,
 			List<ValueOnly> valueOnlies) {
-		Optional<ValueOnly> optionalValueOnly = valueOnlies.stream().parallel()
-				.filter(filterMatchingValueOnly(submodelElement)).findAny();
+		Optional<ValueOnly> optionalValueOnly = valueOnlies.stream()
+				.filter(filterMatchingValueOnly(submodelElement)).findFirst();
 
 		if (!optionalValueOnly.isPresent())
 			throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
@@ -140,7 +146,9 @@ public class ValueMapperUtil {
 	 * 
 	 */
 	public static void setValueOfSubmodelElementWithValueOnly(Collection<SubmodelElement> submodelElements, List<ValueOnly> valueOnlies) {
-		submodelElements.stream().forEach(submodelElement -> setValue(submodelElement, ValueMapperUtil.getSubmodelElementValue(submodelElement, valueOnlies)));
+		Map<String, ValueOnly> valueOnliesByIdShort = indexByIdShort(valueOnlies);
+
+		submodelElements.forEach(submodelElement -> setValue(submodelElement, getIndexedSubmodelElementValue(submodelElement, valueOnliesByIdShort)));
 	}
 	
 	/**
@@ -151,7 +159,9 @@ public class ValueMapperUtil {
 	 * 
 	 */
 	public static void setValueOfSubmodelElementWithSubmodelElementValue(List<SubmodelElement> submodelElements, List<SubmodelElementValue> submodelElementValues) {
-		submodelElements.stream().forEach(submodelElement -> setSubmodelElementValue(submodelElement, submodelElementValues));
+		Map<Class<?>, SubmodelElementValue> submodelElementValuesByType = indexByType(submodelElementValues);
+
+		submodelElements.forEach(submodelElement -> setSubmodelElementValue(submodelElement, submodelElementValuesByType));
 	}
 	
 	/**
@@ -165,19 +175,57 @@ public class ValueMapperUtil {
 		return submodelElements.stream().map(ValueMapperUtil::toSubmodelElementValue).collect(Collectors.toList());	
 	}
 
+	private static SubmodelElementValue getIndexedSubmodelElementValue(SubmodelElement submodelElement, Map<String, ValueOnly> valueOnliesByIdShort) {
+		ValueOnly valueOnly = valueOnliesByIdShort.get(submodelElement.getIdShort());
+
+		if (valueOnly == null)
+			throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
+
+		return valueOnly.getSubmodelElementValue();
+	}
+
+	private static Map<String, ValueOnly> indexByIdShort(List<ValueOnly> valueOnlies) {
+		Map<String, ValueOnly> valueOnliesByIdShort = new HashMap<>();
+		valueOnlies.forEach(valueOnly -> valueOnliesByIdShort.putIfAbsent(valueOnly.getIdShort(), valueOnly));
+
+		return valueOnliesByIdShort;
+	}
+
+	/**
+	 * Keeps the first value of each concrete type. Since there are only a few
+	 * value types, matching an element against this index takes constant time.
+	 */
+	private static Map<Class<?>, SubmodelElementValue> indexByType(List<SubmodelElementValue> submodelElementValues) {
+		Map<Class<?>, SubmodelElementValue> submodelElementValuesByType = new LinkedHashMap<>();
+		submodelElementValues.forEach(submodelElementValue -> submodelElementValuesByType.putIfAbsent(submodelElementValue.getClass(), submodelElementValue));
+
+		return submodelElementValuesByType;
+	}
+
 	private static void setSubmodelElementValue(SubmodelElement submodelElement,
-			List<SubmodelElementValue> submodelElementValues) {
-		Optional<SubmodelElementValue> optionalSubmodelElementValue = submodelElementValues.stream().parallel().filter(submodelElementValue -> isRelatedToSubmodelElement(submodelElement, submodelElementValue)).findAny();
+			Map<Class<?>, SubmodelElementValue> submodelElementValuesByType) {
+		List<Class<? extends SubmodelElementValue>> compatibleValueTypes = getCompatibleValueTypes(submodelElement.getClass());
+
+		Optional<SubmodelElementValue> optionalSubmodelElementValue = submodelElementValuesByType.entrySet().stream()
+				.filter(entry -> isAssignableToAny(entry.getKey(), compatibleValueTypes))
+				.map(Map.Entry::getValue)
+				.findFirst();
 		
 		if (!optionalSubmodelElementValue.isPresent())
 			throw new SubmodelElementValueNotFoundException(submodelElement.getIdShort());
 
 		setValue(submodelElement, optionalSubmodelElementValue.get());
 	}
-	
-	private static boolean isRelatedToSubmodelElement(SubmodelElement submodelElement, SubmodelElementValue submodelElementValue) {
-	    return SUBMODEL_ELEMENT_VALUE_MAP.entrySet().stream()
-	            .anyMatch(pair -> pair.getKey().isInstance(submodelElement) && pair.getValue().isInstance(submodelElementValue));
+
+	private static List<Class<? extends SubmodelElementValue>> getCompatibleValueTypes(Class<?> submodelElementType) {
+		return COMPATIBLE_VALUE_TYPES_CACHE.computeIfAbsent(submodelElementType, type -> SUBMODEL_ELEMENT_VALUE_MAP.entrySet().stream()
+				.filter(pair -> pair.getKey().isAssignableFrom(type))
+				.map(Map.Entry::getValue)
+				.collect(Collectors.toList()));
+	}
+
+	private static boolean isAssignableToAny(Class<?> valueType, List<Class<? extends SubmodelElementValue>> compatibleValueTypes) {
+		return compatibleValueTypes.stream().anyMatch(compatibleValueType -> compatibleValueType.isAssignableFrom(valueType));
 	}
 
 	private static void setValue(SubmodelElement submodelElement, SubmodelElementValue submodelElementValue) {
@@ -197,7 +245,7 @@ public class ValueMapperUtil {
 	}
 	
 	private static ValueMapper<SubmodelElementValue> getValueMapper(SubmodelElement submodelElement) {
-		return new SubmodelElementValueMapperFactory().create(submodelElement);
+		return VALUE_MAPPER_FACTORY.create(submodelElement);
 	}
 
 }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.deserialization.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the detection of the SubmodelElementValue types by their attributes
+ * 
+ * @author schnicke
+ *
+ */
+public class TestSubmodelElementValueDeserializationUtil {
+
+	private static final String REFERENCE = "{\"type\":\"ExternalReference\",\"keys\":[{\"type\":\"GlobalReference\",\"value\":\"test\"}]}";
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	@Test
+	public void rangeValueRequiresExactlyMinAndMax() throws JsonProcessingException {
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfRangeValue(read("{\"min\":1,\"max\":2}")));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfRangeValue(read("{\"min\":1}")));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfRangeValue(read("{\"min\":1,\"max\":2,\"other\":3}")));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfRangeValue(read("{\"min\":1,\"other\":2}")));
+	}
+
+	@Test
+	public void fileBlobValueIsDistinguishedFromRangeValue() throws JsonProcessingException {
+		JsonNode fileBlobValue = read("{\"contentType\":\"application/json\",\"value\":\"file.json\"}");
+
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfFileBlobValue(fileBlobValue));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfRangeValue(fileBlobValue));
+	}
+
+	@Test
+	public void entityValueAllowsOptionalAttributes() throws JsonProcessingException {
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfEntityValue(read("{\"statements\":[],\"entityType\":\"SelfManagedEntity\"}")));
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfEntityValue(read("{\"statements\":[],\"entityType\":\"SelfManagedEntity\",\"globalAssetId\":\"asset\"}")));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfEntityValue(read("{\"statements\":[],\"globalAssetId\":\"asset\"}")));
+	}
+
+	@Test
+	public void referenceValueRequiresTypeAndKeys() throws JsonProcessingException {
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfReferenceElementValue(read(REFERENCE)));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfReferenceElementValue(read("{\"type\":\"ExternalReference\"}")));
+	}
+
+	@Test
+	public void annotatedRelationshipElementValueIncludesInheritedAttributes() throws JsonProcessingException {
+		JsonNode relationshipElementValue = read("{\"first\":" + REFERENCE + ",\"second\":" + REFERENCE + "}");
+		JsonNode annotatedRelationshipElementValue = read("{\"first\":" + REFERENCE + ",\"second\":" + REFERENCE + ",\"annotation\":[]}");
+
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfRelationshipElementValue(relationshipElementValue));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfAnnotatedRelationshipElementValue(relationshipElementValue));
+
+		assertTrue(SubmodelElementValueDeserializationUtil.isTypeOfAnnotatedRelationshipElementValue(annotatedRelationshipElementValue));
+		assertFalse(SubmodelElementValueDeserializationUtil.isTypeOfRelationshipElementValue(annotatedRelationshipElementValue));
+	}
+
+	private JsonNode read(String json) throws JsonProcessingException {
+		return mapper.readTree(json);
+	}
+}
@@ -378,6 +378,46 @@ public abstract class SubmodelServiceSuite {
 		}
 	}
 
+	@Test
+	public void getShiftedSubmodelElementAfterDeletionInSubmodelElementList() {
+		Submodel operationalData = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+
+		SubmodelElementList submodelElementList = createDummySubmodelElementList("testList");
+		submodelElementList.setValue(new ArrayList<>(Arrays.asList(createDummyProperty("first"), createDummyProperty("second"))));
+		operationalData.setSubmodelElements(new ArrayList<>(Arrays.asList(submodelElementList)));
+
+		SubmodelService submodelService = getSubmodelService(operationalData);
+		submodelService.deleteSubmodelElement("testList[0]");
+
+		assertEquals("second", submodelService.getSubmodelElement("testList[0]").getIdShort());
+
+		try {
+			submodelService.getSubmodelElement("testList[1]");
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+	}
+
+	@Test
+	public void getSubmodelElementOfCreatedHierarchicalSubmodelElement() {
+		Submodel operationalData = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+		SubmodelService submodelService = getSubmodelService(operationalData);
+
+		SubmodelElementCollection submodelElementCollection = createDummySubmodelElementCollection("testCollection");
+		submodelElementCollection.setValue(new ArrayList<>(Arrays.asList(createDummyProperty("testProperty"))));
+		submodelService.createSubmodelElement(submodelElementCollection);
+
+		assertEquals("testProperty", submodelService.getSubmodelElement("testCollection.testProperty").getIdShort());
+
+		submodelService.deleteSubmodelElement("testCollection");
+
+		try {
+			submodelService.getSubmodelElement("testCollection.testProperty");
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+	}
+
 	@Test
 	public void getPaginatedSubmodelElement() {
 		Submodel technicalData = DummySubmodelFactory.createTechnicalDataSubmodel();
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.junit.Test;
+
+/**
+ * 
+ * @author schnicke
+ *
+ */
+public class TestSubmodelCopies {
+
+	@Test
+	public void copyWithoutSubmodelElements() {
+		Submodel submodel = DummySubmodelFactory.createSubmodelWithAllSubmodelElements();
+
+		Submodel copy = SubmodelCopies.copyWithoutSubmodelElements(submodel);
+
+		assertNull(copy.getSubmodelElements());
+		assertFalse(submodel.getSubmodelElements().isEmpty());
+		assertEquals(submodel.getId(), copy.getId());
+		assertEquals(submodel.getIdShort(), copy.getIdShort());
+		assertSame(submodel.getSemanticID(), copy.getSemanticID());
+		assertSame(submodel.getDescription(), copy.getDescription());
+	}
+}
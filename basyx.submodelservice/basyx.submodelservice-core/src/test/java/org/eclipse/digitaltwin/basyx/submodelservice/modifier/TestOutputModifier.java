@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (C) 2023 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.modifier;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
+import org.junit.Test;
+
+/**
+ * 
+ * @author schnicke
+ *
+ */
+public class TestOutputModifier {
+	private static final String OUTER_COLLECTION_ID_SHORT = "outer";
+	private static final String INNER_COLLECTION_ID_SHORT = "inner";
+
+	@Test
+	public void defaultModifierReturnsSameInstance() {
+		Submodel submodel = createSubmodel();
+
+		assertSame(submodel, OutputModifier.fromValues(null, null)
+				.applyToSubmodel(submodel));
+	}
+
+	@Test
+	public void levelCoreOmitsChildrenOfSubmodelElements() {
+		Submodel submodel = createSubmodel();
+
+		Submodel core = new OutputModifier(Level.CORE, Extent.WITH_BLOB_VALUE).applyToSubmodel(submodel);
+
+		assertEquals(submodel.getId(), core.getId());
+		assertEquals(3, core.getSubmodelElements()
+				.size());
+		assertTrue(getCollection(core.getSubmodelElements(), OUTER_COLLECTION_ID_SHORT).getValue()
+				.isEmpty());
+		assertSame(getBlob(submodel.getSubmodelElements()), getBlob(core.getSubmodelElements()));
+		assertEquals(2, getCollection(submodel.getSubmodelElements(), OUTER_COLLECTION_ID_SHORT).getValue()
+				.size());
+	}
+
+	@Test
+	public void levelCoreKeepsDirectChildrenOfRequestedSubmodelElement() {
+		SubmodelElementCollection outer = getCollection(createSubmodel().getSubmodelElements(), OUTER_COLLECTION_ID_SHORT);
+
+		SubmodelElementCollection core = (SubmodelElementCollection) new OutputModifier(Level.CORE, Extent.WITH_BLOB_VALUE).applyToSubmodelElement(outer);
+
+		assertEquals(2, core.getValue()
+				.size());
+		assertTrue(getCollection(core.getValue(), INNER_COLLECTION_ID_SHORT).getValue()
+				.isEmpty());
+	}
+
+	@Test
+	public void withoutBlobValueOmitsNestedBlobValues() {
+		Submodel submodel = createSubmodel();
+
+		Submodel withoutBlobValue = new OutputModifier(Level.DEEP, Extent.WITHOUT_BLOB_VALUE).applyToSubmodel(submodel);
+
+		Blob blob = getBlob(withoutBlobValue.getSubmodelElements());
+		assertNull(blob.getValue());
+		assertEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_CONTENT_TYPE, blob.getContentType());
+
+		SubmodelElementCollection inner = getCollection(getCollection(withoutBlobValue.getSubmodelElements(), OUTER_COLLECTION_ID_SHORT).getValue(), INNER_COLLECTION_ID_SHORT);
+		assertNull(getBlob(inner.getValue()).getValue());
+
+		assertArrayEquals(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_BLOB_VALUE.getBytes(), getBlob(submodel.getSubmodelElements()).getValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unsupportedLevel() {
+		OutputModifier.fromValues("shallow", null);
+	}
+
+	private Submodel createSubmodel() {
+		SubmodelElementCollection inner = createCollection(INNER_COLLECTION_ID_SHORT, SubmodelServiceHelper.createBlobSubmodelElement());
+		SubmodelElementCollection outer = createCollection(OUTER_COLLECTION_ID_SHORT, SubmodelServiceHelper.createPropertySubmodelElement(), inner);
+
+		return new DefaultSubmodel.Builder().id("modifiedSubmodel")
+				.submodelElements(new ArrayList<>(Arrays.asList(SubmodelServiceHelper.createPropertySubmodelElement(), SubmodelServiceHelper.createBlobSubmodelElement(), outer)))
+				.build();
+	}
+
+	private SubmodelElementCollection createCollection(String idShort, SubmodelElement... children) {
+		return new DefaultSubmodelElementCollection.Builder().idShort(idShort)
+				.value(new ArrayList<>(Arrays.asList(children)))
+				.build();
+	}
+
+	private SubmodelElementCollection getCollection(Iterable<SubmodelElement> submodelElements, String idShort) {
+		for (SubmodelElement submodelElement : submodelElements) {
+			if (idShort.equals(submodelElement.getIdShort()))
+				return (SubmodelElementCollection) submodelElement;
+		}
+		throw new AssertionError("Missing collection " + idShort);
+	}
+
+	private Blob getBlob(Iterable<SubmodelElement> submodelElements) {
+		for (SubmodelElement submodelElement : submodelElements) {
+			if (submodelElement instanceof Blob)
+				return (Blob) submodelElement;
+		}
+		throw new AssertionError("Missing blob");
+	}
+}
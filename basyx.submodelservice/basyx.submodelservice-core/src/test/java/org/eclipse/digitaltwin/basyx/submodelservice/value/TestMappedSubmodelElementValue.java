@@ -52,8 +52,10 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRange;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetID;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.AnnotatedRelationshipElementValueMapper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.BlobValueMapper;
@@ -377,6 +379,36 @@ public class TestMappedSubmodelElementValue {
 		assertValuesAreEqual(submodelElementValues, submodelElementList);
 	}
 
+	@Test
+	public void mappedSetSubmodelElementListValueUsesFirstValueOfMatchingType() {
+		Property firstProperty = new DefaultProperty.Builder().idShort("first").valueType(DataTypeDefXSD.STRING).build();
+		Property secondProperty = new DefaultProperty.Builder().idShort("second").valueType(DataTypeDefXSD.STRING).build();
+		Range range = new DefaultRange.Builder().idShort("range").valueType(DataTypeDefXSD.INTEGER).build();
+		SubmodelElementList submodelElementList = new DefaultSubmodelElementList.Builder().idShort("list").value(Arrays.asList(firstProperty, secondProperty, range)).build();
+
+		SubmodelElementListValue submodelElementListValue = new SubmodelElementListValue(Arrays.asList(new PropertyValue("firstValue"), new RangeValue(1, 2), new PropertyValue("secondValue")));
+
+		setSubmodelElementListValue(submodelElementList, submodelElementListValue);
+
+		assertEquals("firstValue", firstProperty.getValue());
+		assertEquals("firstValue", secondProperty.getValue());
+		assertEquals("1", range.getMin());
+		assertEquals("2", range.getMax());
+	}
+
+	@Test
+	public void mappedSetSubmodelElementCollectionValueUsesFirstValueOfIdShort() {
+		SubmodelElementCollection submodelElementCollection = SubmodelServiceHelper.createSubmodelElementCollection();
+
+		List<ValueOnly> duplicatedValueOnlies = Arrays.asList(new ValueOnly(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, new PropertyValue("firstValue")),
+				new ValueOnly(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, new PropertyValue("secondValue")), submodelElementCollectionValueOnlies.get(0));
+
+		setSubmodelElementCollectionValue(submodelElementCollection, new SubmodelElementCollectionValue(duplicatedValueOnlies));
+
+		Property property = (Property) submodelElementCollection.getValue().stream().filter(element -> element instanceof Property).findFirst().get();
+		assertEquals("firstValue", property.getValue());
+	}
+
 	private static void assertValuesAreEqual(List<ValueOnly> expectedValueOnlies, ReferenceValue expectedFirst, ReferenceValue expectedSecond, AnnotatedRelationshipElement annotatedRelationshipElement) {
 		assertEquals(((PropertyValue) expectedValueOnlies.get(0)
 				.getSubmodelElementValue()).getValue(),
@@ -36,12 +36,13 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.StreamedCursorResult;
 import org.eclipse.digitaltwin.basyx.http.model.OperationRequest;
 import org.eclipse.digitaltwin.basyx.http.model.OperationResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
-import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
-import org.eclipse.digitaltwin.basyx.pagination.GetSubmodelElementsResult;
+import org.eclipse.digitaltwin.basyx.http.pagination.StreamedPagedResult;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.modifier.OutputModifier;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -82,31 +83,29 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "A server-generated identifier retrieved from pagingMetadata that specifies from which position the result listing should continue", schema = @Schema()) @Valid @RequestParam(value = "cursor", required = false) String cursor,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
-			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized. Deviating from the specification, Blob values are included if the parameter is omitted", schema = @Schema(allowableValues = { "withBlobValue",
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 		if (limit == null)
 			limit = 100;
 		if (cursor == null)
 			cursor = "";
 		PaginationInfo pInfo = new PaginationInfo(limit, cursor);
 		CursorResult<List<SubmodelElement>> submodelElements = service.getSubmodelElements(pInfo);
+		List<SubmodelElement> modifiedSubmodelElements = OutputModifier.fromValues(level, extent)
+				.applyToSubmodelElements(submodelElements.getResult());
 
-		GetSubmodelElementsResult paginatedSubmodelElement = new GetSubmodelElementsResult();
-		paginatedSubmodelElement.setResult(submodelElements.getResult());
-		paginatedSubmodelElement
-				.setPagingMetadata(new PagedResultPagingMetadata().cursor(submodelElements.getCursor()));
-
-		return new ResponseEntity<PagedResult>(paginatedSubmodelElement, HttpStatus.OK);
+		CursorResult<List<SubmodelElement>> cursorResult = new CursorResult<>(submodelElements.getCursor(), modifiedSubmodelElements);
+		return new ResponseEntity<PagedResult>(new StreamedPagedResult<>(SubmodelElement.class, () -> StreamedCursorResult.of(cursorResult)), HttpStatus.OK);
 	}
 
 	@Override
 	public ResponseEntity<Submodel> getSubmodel(
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
-			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized. Deviating from the specification, Blob values are included if the parameter is omitted", schema = @Schema(allowableValues = { "withBlobValue",
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
-		Submodel submodel = service.getSubmodel();
+		Submodel submodel = OutputModifier.fromValues(level, extent).applyToSubmodel(service.getSubmodel());
 
 		return new ResponseEntity<Submodel>(submodel, HttpStatus.OK);
 	}
@@ -119,10 +118,10 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "A server-generated identifier retrieved from pagingMetadata that specifies from which position the result listing should continue", schema = @Schema()) @Valid @RequestParam(value = "cursor", required = false) String cursor,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
-			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized. Deviating from the specification, Blob values are included if the parameter is omitted", schema = @Schema(allowableValues = { "withBlobValue",
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
-		SubmodelElement submodelElement = service.getSubmodelElement(idShortPath);
+		SubmodelElement submodelElement = OutputModifier.fromValues(level, extent).applyToSubmodelElement(service.getSubmodelElement(idShortPath));
 
 		return new ResponseEntity<SubmodelElement>(submodelElement, HttpStatus.OK);
 	}
@@ -135,8 +134,8 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 			@Parameter(in = ParameterIn.QUERY, description = "A server-generated identifier retrieved from pagingMetadata that specifies from which position the result listing should continue", schema = @Schema()) @Valid @RequestParam(value = "cursor", required = false) String cursor,
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
-			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized. Deviating from the specification, Blob values are included if the parameter is omitted", schema = @Schema(allowableValues = { "withBlobValue",
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
 		SubmodelElementValue submodelElementValue = service.getSubmodelElementValue(idShortPath);
 
@@ -157,8 +156,8 @@ public class SubmodelServiceHTTPApiController implements SubmodelServiceHTTPApi
 	public ResponseEntity<SubmodelValueOnly> getSubmodelValueOnly(
 			@Parameter(in = ParameterIn.QUERY, description = "Determines the structural depth of the respective resource content", schema = @Schema(allowableValues = { "deep",
 					"core" }, defaultValue = "deep")) @Valid @RequestParam(value = "level", required = false, defaultValue = "deep") String level,
-			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized", schema = @Schema(allowableValues = { "withBlobValue",
-					"withoutBlobValue" }, defaultValue = "withoutBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withoutBlobValue") String extent) {
+			@Parameter(in = ParameterIn.QUERY, description = "Determines to which extent the resource is being serialized. Deviating from the specification, Blob values are included if the parameter is omitted", schema = @Schema(allowableValues = { "withBlobValue",
+					"withoutBlobValue" }, defaultValue = "withBlobValue")) @Valid @RequestParam(value = "extent", required = false, defaultValue = "withBlobValue") String extent) {
 
 		SubmodelValueOnly result = new SubmodelValueOnly(
 				service.getSubmodelElements(NO_LIMIT_PAGINATION_INFO).getResult());